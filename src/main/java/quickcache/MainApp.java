@@ -2,13 +2,17 @@ package quickcache;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 import quickcache.commons.core.Config;
 import quickcache.commons.core.LogsCenter;
+import quickcache.commons.core.Messages;
 import quickcache.commons.core.Version;
 import quickcache.commons.exceptions.DataConversionException;
 import quickcache.commons.util.ConfigUtil;
@@ -19,15 +23,21 @@ import quickcache.model.Model;
 import quickcache.model.ModelManager;
 import quickcache.model.QuickCache;
 import quickcache.model.ReadOnlyQuickCache;
-import quickcache.model.ReadOnlyUserPrefs;
 import quickcache.model.UserPrefs;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.exceptions.DuplicateFlashcardException;
 import quickcache.model.util.SampleDataUtil;
-import quickcache.storage.JsonQuickCacheStorage;
+import quickcache.storage.AsyncQuickCacheStorage;
+import quickcache.storage.AtomicQuickCacheStorage;
+import quickcache.storage.JournaledQuickCacheStorage;
 import quickcache.storage.JsonUserPrefsStorage;
+import quickcache.storage.MultiFormatQuickCacheStorage;
+import quickcache.storage.QuickCacheDiff;
 import quickcache.storage.QuickCacheStorage;
 import quickcache.storage.Storage;
 import quickcache.storage.StorageManager;
 import quickcache.storage.UserPrefsStorage;
+import quickcache.storage.WatchedQuickCacheStorage;
 import quickcache.ui.Ui;
 import quickcache.ui.UiManager;
 
@@ -39,6 +49,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 6, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int LOAD_BATCH_SIZE = 1024;
 
     protected Ui ui;
     protected Logic logic;
@@ -46,22 +57,41 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WatchedQuickCacheStorage watchedStorage;
+    private long startTime;
+    private long populateTime;
+    private boolean hasShownFlashcards;
+
     @Override
     public void init() throws Exception {
+        startTime = System.nanoTime();
         logger.info("=============================[ Initializing QuickCache ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        long phaseStartTime = System.nanoTime();
         config = initConfig(appParameters.getConfigPath());
+        logPhase("Read config", phaseStartTime);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        phaseStartTime = System.nanoTime();
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        QuickCacheStorage quickCacheStorage = new JsonQuickCacheStorage(userPrefs.getQuickCacheFilePath());
+        logPhase("Read user prefs", phaseStartTime);
+        QuickCacheStorage dataFileStorage = new AtomicQuickCacheStorage(
+                new MultiFormatQuickCacheStorage(userPrefs.getQuickCacheFilePath(), userPrefs.getDataFileFormat(),
+                        config.isCompactDataFile(), config.isCompressDataFile()), config.getDurability());
+        QuickCacheStorage journaledStorage = new JournaledQuickCacheStorage(dataFileStorage,
+                JournaledQuickCacheStorage.DEFAULT_CHECKPOINT_INTERVAL, config.getDurability());
+        watchedStorage = new WatchedQuickCacheStorage(journaledStorage, WatchedQuickCacheStorage.DEFAULT_SETTLE_DELAY);
+        // the snapshots are taken on the JavaFX application thread, which is the only thread that changes the model
+        QuickCacheStorage quickCacheStorage = new AsyncQuickCacheStorage(watchedStorage, config.getAutosaveDelay(),
+                Platform::runLater);
         storage = new StorageManager(quickCacheStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // the flashcards are loaded in the background once the UI has started, see #loadQuickCache()
+        model = new ModelManager(new QuickCache(), userPrefs);
 
         logic = new LogicManager(model, storage);
 
@@ -69,30 +99,106 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s QuickCache and {@code userPrefs}. <br>
-     * The data from the sample QuickCache will be used instead if {@code storage}'s QuickCache is not found,
-     * or an empty QuickCache will be used instead if errors occur when reading {@code storage}'s QuickCache.
+     * Loads the flashcards of {@code storage}'s QuickCache into the model. <br>
+     * The flashcards are read on the calling thread, and handed to the JavaFX application thread in batches as they
+     * are read, so that the UI stays responsive and shows them as they arrive. The data from the sample QuickCache
+     * will be used instead if {@code storage}'s QuickCache is not found, or an empty QuickCache will be used instead
+     * if errors occur when reading {@code storage}'s QuickCache. If the data file is found to be damaged only after
+     * some batches have been handed over, the QuickCache is read again, see {@link #reloadQuickCache()}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyQuickCache> addressBookOptional;
-        ReadOnlyQuickCache initialData;
-
+    private void loadQuickCache() {
+        long readStartTime = System.nanoTime();
+        Optional<String> fallbackMessage = Optional.empty();
+        boolean[] isHandedOver = {false};
         try {
-            addressBookOptional = storage.readQuickCache();
-            if (!addressBookOptional.isPresent()) {
+            boolean isFound = storage.readFlashcards(storage.getQuickCacheFilePath(), LOAD_BATCH_SIZE, batch -> {
+                isHandedOver[0] = true;
+                Platform.runLater(() -> populate(batch));
+            });
+            if (!isFound) {
                 logger.info("Data file not found. Will be starting with a sample QuickCache");
+                Platform.runLater(() -> model.loadQuickCache(SampleDataUtil.getSampleQuickCache()));
+                fallbackMessage = Optional.of(Messages.MESSAGE_SAMPLE_FLASHCARDS_LOADED);
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleQuickCache);
-
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty QuickCache");
-            initialData = new QuickCache();
+            if (isHandedOver[0]) {
+                fallbackMessage = reloadQuickCache();
+            } else {
+                logger.warning("Data file not in the correct format. Will be starting with an empty QuickCache");
+                Platform.runLater(() -> model.loadQuickCache(new QuickCache()));
+                fallbackMessage = Optional.of(Messages.MESSAGE_FLASHCARDS_NOT_LOADED);
+            }
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty QuickCache");
-            initialData = new QuickCache();
+            Platform.runLater(() -> model.loadQuickCache(new QuickCache()));
+            fallbackMessage = Optional.of(Messages.MESSAGE_FLASHCARDS_NOT_LOADED);
+        }
+        // parsing and converting overlap, as each batch is converted while the next one is parsed
+        logPhase("Parsed and converted data file", readStartTime);
+
+        Optional<String> message = fallbackMessage;
+        Platform.runLater(() -> finishLoading(message));
+    }
+
+    /**
+     * Reads the whole of {@code storage}'s QuickCache again and replaces the flashcards loaded so far with it, after
+     * the data file was found to be damaged part way through loading it. The storage reads the backup of a damaged
+     * data file instead, where there is one. An empty QuickCache is used instead if the QuickCache still cannot be
+     * read.
+     *
+     * @return the message to show instead of the number of flashcards loaded, if any.
+     */
+    private Optional<String> reloadQuickCache() {
+        logger.warning("Data file found damaged after some flashcards were loaded. Will be reading it again");
+        ReadOnlyQuickCache quickCache;
+        try {
+            quickCache = storage.readQuickCache().orElseGet(QuickCache::new);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Data file still cannot be read. Will be starting with an empty QuickCache");
+            Platform.runLater(() -> model.loadQuickCache(new QuickCache()));
+            return Optional.of(Messages.MESSAGE_FLASHCARDS_NOT_LOADED);
+        }
+        // the batches handed over before are still populated first, and are then replaced
+        Platform.runLater(() -> model.loadQuickCache(quickCache));
+        return Optional.empty();
+    }
+
+    /**
+     * Adds a batch of loaded flashcards to the model.
+     */
+    private void populate(List<Flashcard> batch) {
+        long populateStartTime = System.nanoTime();
+        model.loadFlashcards(batch);
+        populateTime += System.nanoTime() - populateStartTime;
+        if (!hasShownFlashcards) {
+            hasShownFlashcards = true;
+            logPhase("Showed first flashcards", startTime);
         }
+    }
+
+    /**
+     * Lets commands be entered once the model has been loaded, showing {@code fallbackMessage} if the flashcards
+     * could not be read, and starts watching the data file for changes.
+     */
+    private void finishLoading(Optional<String> fallbackMessage) {
+        int flashcardCount = model.getQuickCache().getFlashcardList().size();
+        logger.info(String.format("Populated model with %d flashcards in %d ms", flashcardCount,
+                populateTime / 1_000_000));
+        ui.showLoaded(fallbackMessage.orElse(String.format(Messages.MESSAGE_FLASHCARDS_LOADED, flashcardCount)));
+        logPhase("Loaded QuickCache", startTime);
 
-        return new ModelManager(initialData, userPrefs);
+        try {
+            watchedStorage.startWatching(diff -> Platform.runLater(() -> mergeChangedDataFile(diff)));
+        } catch (IOException e) {
+            logger.warning("Failed to watch the data file for changes " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Logs the time taken by a phase of starting up that started at {@code phaseStartTime}.
+     */
+    private static void logPhase(String phase, long phaseStartTime) {
+        logger.info(String.format("%s in %d ms", phase, (System.nanoTime() - phaseStartTime) / 1_000_000));
     }
 
     private void initLogging(Config config) {
@@ -171,11 +277,75 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting QuickCache " + MainApp.VERSION);
         ui.start(primaryStage);
+        ui.showLoading(String.format(Messages.MESSAGE_LOADING_FLASHCARDS, storage.getQuickCacheFilePath()));
+        logFirstPaint(primaryStage.getScene());
+
+        Thread loader = new Thread(this::loadQuickCache, "QuickCache loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Logs the time from the start of the application until {@code scene} is first laid out to be painted.
+     */
+    private void logFirstPaint(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean isPainted;
+
+            @Override
+            public void run() {
+                if (isPainted) {
+                    return;
+                }
+                isPainted = true;
+                logPhase("First paint", startTime);
+                // a listener cannot be removed while the listeners of a pulse are being run
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        });
+    }
+
+    /**
+     * Brings the changes made to the data file by another program into the model as a single step that can be
+     * undone, and saves the result.
+     * The save still pending from before the change is written first, so that the changes it holds are saved
+     * before the merge is made over them.
+     */
+    private void mergeChangedDataFile(QuickCacheDiff diff) {
+        try {
+            storage.flushQuickCache();
+        } catch (IOException e) {
+            logger.warning("Failed to save QuickCache before merging the changed data file "
+                    + StringUtil.getDetails(e));
+        }
+        try {
+            model.mergeFlashcards(diff.getUpdatedFlashcards(), diff.getRemovedIds());
+        } catch (DuplicateFlashcardException e) {
+            logger.warning("Failed to merge the changed data file " + StringUtil.getDetails(e));
+            return;
+        }
+        model.commitQuickCache();
+        try {
+            storage.saveQuickCache(model.getQuickCache());
+        } catch (IOException e) {
+            logger.warning("Failed to save QuickCache after merging the changed data file "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping QuickCache ] =============================");
+        try {
+            watchedStorage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the data file " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flushQuickCache();
+        } catch (IOException e) {
+            logger.severe("Failed to save QuickCache " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Durability durability = Durability.CHECKPOINT;
+    private long autosaveDelay = 200;
+    private boolean compactDataFile = false;
+    private boolean compressDataFile = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,48 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    /**
+     * Returns the number of milliseconds that saving waits for further changes,
+     * so that changes made in quick succession are written together.
+     */
+    public long getAutosaveDelay() {
+        return autosaveDelay;
+    }
+
+    public void setAutosaveDelay(long autosaveDelay) {
+        this.autosaveDelay = autosaveDelay;
+    }
+
+    /**
+     * Returns true if the data file should be saved without line breaks and indentation.
+     */
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    /**
+     * Returns true if the data file should be saved compressed.
+     */
+    public boolean isCompressDataFile() {
+        return compressDataFile;
+    }
+
+    public void setCompressDataFile(boolean compressDataFile) {
+        this.compressDataFile = compressDataFile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +90,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && durability == o.durability
+                && autosaveDelay == o.autosaveDelay
+                && compactDataFile == o.compactDataFile
+                && compressDataFile == o.compressDataFile;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, durability, autosaveDelay, compactDataFile,
+                compressDataFile);
     }
 
     @Override
@@ -57,6 +108,10 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nDurability : " + durability);
+        sb.append("\nAutosave delay : " + autosaveDelay + "ms");
+        sb.append("\nCompact data file : " + compactDataFile);
+        sb.append("\nCompress data file : " + compressDataFile);
         return sb.toString();
     }
 
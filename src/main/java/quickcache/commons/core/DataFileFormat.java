@@ -0,0 +1,11 @@
+package quickcache.commons.core;
+
+/**
+ * The format in which the QuickCache data file is saved.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, which is also used to import and export flashcards. */
+    JSON,
+    /** A compact binary format that is smaller and faster to read and write than json. */
+    BINARY
+}
@@ -0,0 +1,13 @@
+package quickcache.commons.core;
+
+/**
+ * How hard the app tries to make sure that saved data survives a crash of the operating system or a power loss.
+ */
+public enum Durability {
+    /** Leaves it to the operating system to decide when saved data reaches the disk. */
+    NONE,
+    /** Forces the data file to the disk whenever it is rewritten in full. */
+    CHECKPOINT,
+    /** Forces every write to the disk before it is considered saved. */
+    ALWAYS
+}
@@ -12,5 +12,11 @@ public class Messages {
     public static final String MESSAGE_TOO_MANY_DIFFICULTIES = "There should only be one difficulty given!";
     public static final String MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX = "The flashcard index provided is invalid";
     public static final String MESSAGE_FLASHCARDS_LISTED_OVERVIEW = "%1$d flashcards listed!";
+    public static final String MESSAGE_LOADING_FLASHCARDS = "Loading flashcards from %1$s...";
+    public static final String MESSAGE_FLASHCARDS_LOADED = "%1$d flashcards loaded.";
+    public static final String MESSAGE_SAMPLE_FLASHCARDS_LOADED =
+            "Data file not found. Starting with sample flashcards.";
+    public static final String MESSAGE_FLASHCARDS_NOT_LOADED =
+            "Could not read the data file. Starting with an empty QuickCache.";
 
 }
@@ -0,0 +1,198 @@
+package quickcache.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+
+/**
+ * An output stream that compresses the data written to it in independent blocks with {@link Deflater}.
+ * Full blocks are compressed on the common fork-join pool, several at a time, and written in order.
+ * <p>
+ * The stream starts with {@link #MAGIC}. Every block is written as its uncompressed length, its compressed length
+ * and its bytes in the zlib format, and a block with no bytes marks the end of the stream. As the blocks do not
+ * depend on each other, they can be decompressed in parallel by {@link BlockInflaterInputStream}.
+ */
+public class BlockDeflaterOutputStream extends OutputStream {
+
+    public static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+
+    static final byte[] MAGIC = {'Q', 'C', 'Z', 'B'};
+    static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+
+    private final DataOutputStream out;
+    private final int level;
+    private final int maxPendingBlocks = 2 * ForkJoinPool.getCommonPoolParallelism();
+    private final Deque<CompletableFuture<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+    private byte[] block;
+    private int blockLength;
+    private long uncompressedSize;
+    private long compressedSize;
+    private boolean isClosed;
+
+    /**
+     * Creates a {@code BlockDeflaterOutputStream} that writes to {@code out} in blocks of
+     * {@link #DEFAULT_BLOCK_SIZE} bytes, compressed at the default level.
+     */
+    public BlockDeflaterOutputStream(OutputStream out) throws IOException {
+        this(out, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a {@code BlockDeflaterOutputStream} that writes to {@code out} in blocks of {@code blockSize} bytes,
+     * compressed at {@code level}.
+     */
+    public BlockDeflaterOutputStream(OutputStream out, int blockSize, int level) throws IOException {
+        requireNonNull(out);
+        checkArgument(blockSize > 0 && blockSize <= MAX_BLOCK_SIZE, "Block size should be positive and at most "
+                + MAX_BLOCK_SIZE);
+        this.out = new DataOutputStream(out);
+        this.level = level;
+        this.block = new byte[blockSize];
+        this.out.write(MAGIC);
+        this.compressedSize = MAGIC.length;
+    }
+
+    /**
+     * Returns the number of bytes written to this stream.
+     */
+    public long getUncompressedSize() {
+        return uncompressedSize;
+    }
+
+    /**
+     * Returns the number of bytes written to the underlying stream so far.
+     */
+    public long getCompressedSize() {
+        return compressedSize;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        uncompressedSize++;
+        if (blockLength == block.length) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        requireNonNull(bytes);
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (length > 0) {
+            int copied = Math.min(length, block.length - blockLength);
+            System.arraycopy(bytes, offset, block, blockLength, copied);
+            blockLength += copied;
+            uncompressedSize += copied;
+            offset += copied;
+            length -= copied;
+            if (blockLength == block.length) {
+                submitBlock();
+            }
+        }
+    }
+
+    /**
+     * Writes the blocks that have been compressed and flushes the underlying stream.
+     * The bytes of a block that is not full yet stay buffered, so that flushing does not create small blocks.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pendingBlocks.isEmpty()) {
+            writeBlock(pendingBlocks.removeFirst());
+        }
+        out.flush();
+    }
+
+    /**
+     * Compresses and writes the remaining bytes, marks the end of the stream and closes the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        try {
+            if (blockLength > 0) {
+                submitBlock();
+            }
+            flush();
+            out.writeInt(0);
+            compressedSize += Integer.BYTES;
+        } finally {
+            isClosed = true;
+            out.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (isClosed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Hands the current block to the common fork-join pool to be compressed, first writing the oldest compressed
+     * block if too many blocks are waiting to be written.
+     */
+    private void submitBlock() throws IOException {
+        if (pendingBlocks.size() >= maxPendingBlocks) {
+            writeBlock(pendingBlocks.removeFirst());
+        }
+        byte[] full = block;
+        int length = blockLength;
+        pendingBlocks.addLast(CompletableFuture.supplyAsync(() -> compress(full, length, level)));
+        block = new byte[block.length];
+        blockLength = 0;
+    }
+
+    private void writeBlock(CompletableFuture<byte[]> pendingBlock) throws IOException {
+        byte[] compressed;
+        try {
+            compressed = pendingBlock.join();
+        } catch (CompletionException ce) {
+            throw new IOException("Failed to compress block", ce.getCause());
+        }
+        out.write(compressed);
+        compressedSize += compressed.length;
+    }
+
+    /**
+     * Returns the first {@code length} bytes of {@code bytes} compressed at {@code level}, preceded by the lengths
+     * of the block.
+     */
+    private static byte[] compress(byte[] bytes, int length, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(bytes, 0, length);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 2 * Integer.BYTES);
+            byte[] buffer = new byte[Math.min(length, 64 * 1024) + 64];
+            while (!deflater.finished()) {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+            byte[] payload = compressed.toByteArray();
+            return ByteBuffer.allocate(2 * Integer.BYTES + payload.length)
+                    .putInt(length).putInt(payload.length).put(payload).array();
+        } finally {
+            deflater.end();
+        }
+    }
+}
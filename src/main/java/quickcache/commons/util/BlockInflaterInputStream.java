@@ -0,0 +1,196 @@
+package quickcache.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * An input stream that reads the blocks written by {@link BlockDeflaterOutputStream}.
+ * The blocks ahead of the one being read are decompressed on the common fork-join pool, several at a time.
+ */
+public class BlockInflaterInputStream extends InputStream {
+
+    private final DataInputStream in;
+    private final int maxPendingBlocks = 2 * ForkJoinPool.getCommonPoolParallelism();
+    private final Deque<CompletableFuture<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+    private byte[] block = new byte[0];
+    private int blockPosition;
+    private long compressedSize;
+    private boolean hasReadLastBlock;
+    private boolean isClosed;
+
+    /**
+     * Creates a {@code BlockInflaterInputStream} that reads from {@code in}.
+     *
+     * @throws IOException if {@code in} does not start like a stream written by {@code BlockDeflaterOutputStream}.
+     */
+    public BlockInflaterInputStream(InputStream in) throws IOException {
+        requireNonNull(in);
+        this.in = new DataInputStream(in);
+        byte[] header = new byte[BlockDeflaterOutputStream.MAGIC.length];
+        this.in.readFully(header);
+        if (!Arrays.equals(header, BlockDeflaterOutputStream.MAGIC)) {
+            throw new IOException("Not a block compressed stream");
+        }
+        compressedSize = header.length;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts like a stream written by
+     * {@code BlockDeflaterOutputStream}.
+     */
+    public static boolean isBlockCompressedFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = new byte[BlockDeflaterOutputStream.MAGIC.length];
+            int length = in.readNBytes(header, 0, header.length);
+            return length == header.length && Arrays.equals(header, BlockDeflaterOutputStream.MAGIC);
+        }
+    }
+
+    /**
+     * Returns the number of compressed bytes read from the underlying stream so far.
+     */
+    public long getCompressedSize() {
+        return compressedSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureBlock()) {
+            return -1;
+        }
+        return block[blockPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        requireNonNull(bytes);
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureBlock()) {
+            return -1;
+        }
+        int copied = Math.min(length, block.length - blockPosition);
+        System.arraycopy(block, blockPosition, bytes, offset, copied);
+        blockPosition += copied;
+        return copied;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return isClosed ? 0 : block.length - blockPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        pendingBlocks.clear();
+        in.close();
+    }
+
+    /**
+     * Makes sure that there are bytes left in the current block, moving on to the next block if needed.
+     *
+     * @return false if the end of the stream has been reached.
+     */
+    private boolean ensureBlock() throws IOException {
+        if (isClosed) {
+            throw new IOException("Stream closed");
+        }
+        while (blockPosition == block.length) {
+            readAhead();
+            if (pendingBlocks.isEmpty()) {
+                return false;
+            }
+            try {
+                block = pendingBlocks.removeFirst().join();
+            } catch (CompletionException ce) {
+                throw ce.getCause() instanceof IOException ? (IOException) ce.getCause() : new IOException(ce);
+            }
+            blockPosition = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Reads blocks from the underlying stream and hands them to the common fork-join pool to be decompressed,
+     * until enough blocks are waiting to be read or the last block has been read.
+     */
+    private void readAhead() throws IOException {
+        while (!hasReadLastBlock && pendingBlocks.size() < maxPendingBlocks) {
+            int uncompressedLength;
+            try {
+                uncompressedLength = in.readInt();
+            } catch (EOFException eofe) {
+                throw new EOFException("Block compressed stream ended without its last block");
+            }
+            compressedSize += Integer.BYTES;
+            if (uncompressedLength == 0) {
+                hasReadLastBlock = true;
+                return;
+            }
+
+            int compressedLength = in.readInt();
+            if (uncompressedLength < 0 || uncompressedLength > BlockDeflaterOutputStream.MAX_BLOCK_SIZE
+                    || compressedLength < 0 || compressedLength > BlockDeflaterOutputStream.MAX_BLOCK_SIZE) {
+                throw new IOException("Invalid block length in block compressed stream");
+            }
+            byte[] compressed = new byte[compressedLength];
+            in.readFully(compressed);
+            compressedSize += Integer.BYTES + compressedLength;
+            pendingBlocks.addLast(CompletableFuture.supplyAsync(() -> decompress(compressed, uncompressedLength)));
+        }
+    }
+
+    /**
+     * Decompresses a block, which should hold exactly {@code length} bytes.
+     *
+     * @throws CompletionException wrapping an {@code IOException} if the block is damaged.
+     */
+    private static byte[] decompress(byte[] compressed, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            // one byte more than expected, so that a block holding too many bytes is noticed
+            byte[] bytes = new byte[length + 1];
+            int inflatedLength = 0;
+            while (!inflater.finished() && inflatedLength <= length) {
+                int inflated = inflater.inflate(bytes, inflatedLength, bytes.length - inflatedLength);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedLength += inflated;
+            }
+            if (!inflater.finished() || inflatedLength != length) {
+                throw new CompletionException(new IOException("Damaged block in block compressed stream"));
+            }
+            return Arrays.copyOf(bytes, length);
+        } catch (DataFormatException dfe) {
+            throw new CompletionException(new IOException("Damaged block in block compressed stream", dfe));
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package quickcache.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Reads rows of delimited text, such as comma or tab separated values, one row at a time.
+ * <p>
+ * Fields are separated by the delimiter and rows by a line break ({@code \n}, {@code \r\n} or {@code \r}).
+ * A field that starts with a double quote is quoted: it ends at the next double quote that is not doubled, and
+ * may hold delimiters, line breaks and doubled double quotes, which stand for a single double quote.
+ * A byte order mark at the start of the text is skipped.
+ * <p>
+ * The characters are read into a buffer that is reused for the whole text, so that reading a row only allocates
+ * the strings of its fields.
+ */
+public class DelimitedReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader in;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+
+    private int position;
+    private int limit;
+    private boolean isStart = true;
+    private long lineNumber = 1;
+    private long rowLineNumber;
+
+    /**
+     * Creates a {@code DelimitedReader} that reads from {@code in}, with fields separated by {@code delimiter}.
+     */
+    public DelimitedReader(Reader in, char delimiter) {
+        requireNonNull(in);
+        checkArgument(delimiter != QUOTE && delimiter != '\n' && delimiter != '\r',
+                "Delimiter cannot be a double quote or a line break");
+        this.in = in;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns the line of the text the last row read started on, counting from 1.
+     */
+    public long getRowLineNumber() {
+        return rowLineNumber;
+    }
+
+    /**
+     * Returns the next character without consuming it, or -1 if the end of the text has been reached.
+     */
+    public int peek() throws IOException {
+        return fill() ? buffer[position] : -1;
+    }
+
+    /**
+     * Reads the fields of the next row into {@code fields}, replacing its contents.
+     * An empty line is read as a row with a single empty field.
+     *
+     * @return false if the end of the text has been reached, leaving {@code fields} empty.
+     * @throws IOException if the text could not be read, or ends inside a quoted field.
+     */
+    public boolean readRow(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        fields.clear();
+        if (!fill()) {
+            return false;
+        }
+
+        rowLineNumber = lineNumber;
+        while (true) {
+            boolean isLastField = readField();
+            fields.add(field.toString());
+            if (isLastField) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reads the next line as it is, without splitting it into fields.
+     *
+     * @return null if the end of the text has been reached.
+     */
+    public String readLine() throws IOException {
+        if (!fill()) {
+            return null;
+        }
+
+        rowLineNumber = lineNumber;
+        field.setLength(0);
+        while (fill()) {
+            char c = buffer[position++];
+            if (c == '\n' || c == '\r') {
+                endLine(c);
+                break;
+            }
+            field.append(c);
+        }
+        return field.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the next field into {@code field}, consuming the delimiter or line break after it.
+     *
+     * @return true if the field is the last of its row.
+     */
+    private boolean readField() throws IOException {
+        field.setLength(0);
+        if (fill() && buffer[position] == QUOTE) {
+            position++;
+            readQuoted();
+        }
+
+        // the unquoted part of the field, or whatever follows the closing quote
+        while (fill()) {
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == delimiter || c == '\n' || c == '\r') {
+                    field.append(buffer, start, position - start);
+                    position++;
+                    if (c == delimiter) {
+                        return false;
+                    }
+                    endLine(c);
+                    return true;
+                }
+                position++;
+            }
+            field.append(buffer, start, position - start);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the rest of a quoted field into {@code field}, up to and including its closing quote.
+     */
+    private void readQuoted() throws IOException {
+        long startLineNumber = lineNumber;
+        while (fill()) {
+            char c = buffer[position++];
+            if (c == QUOTE) {
+                if (fill() && buffer[position] == QUOTE) {
+                    position++;
+                    field.append(QUOTE);
+                    continue;
+                }
+                return;
+            }
+            if (c == '\n' || (c == '\r' && (!fill() || buffer[position] != '\n'))) {
+                lineNumber++;
+            }
+            field.append(c);
+        }
+        throw new IOException("Quoted field starting on line " + startLineNumber + " is not closed");
+    }
+
+    /**
+     * Counts the line break {@code c} that has just been consumed, consuming the {@code \n} of a {@code \r\n}.
+     */
+    private void endLine(char c) throws IOException {
+        if (c == '\r' && fill() && buffer[position] == '\n') {
+            position++;
+        }
+        lineNumber++;
+    }
+
+    /**
+     * Makes sure that there are characters in the buffer, reading more from the underlying reader if needed.
+     *
+     * @return false if the end of the text has been reached.
+     */
+    private boolean fill() throws IOException {
+        while (position == limit) {
+            int read = in.read(buffer, 0, buffer.length);
+            if (read < 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            if (isStart && limit > 0) {
+                isStart = false;
+                if (buffer[0] == BYTE_ORDER_MARK) {
+                    position++;
+                }
+            }
+        }
+        return true;
+    }
+}
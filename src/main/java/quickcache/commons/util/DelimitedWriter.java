@@ -0,0 +1,103 @@
+package quickcache.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rows of delimited text that can be read back by {@link DelimitedReader}.
+ * A field is quoted only if it holds the delimiter, a double quote or a line break, or starts with a character that
+ * readers may take as the start of a comment, and every row ends with {@code \n}.
+ */
+public class DelimitedWriter implements Closeable, Flushable {
+
+    private static final char QUOTE = '"';
+    private static final char COMMENT = '#';
+
+    private final Writer out;
+    private final char delimiter;
+
+    /**
+     * Creates a {@code DelimitedWriter} that writes to {@code out}, with fields separated by {@code delimiter}.
+     */
+    public DelimitedWriter(Writer out, char delimiter) {
+        requireNonNull(out);
+        checkArgument(delimiter != QUOTE && delimiter != '\n' && delimiter != '\r',
+                "Delimiter cannot be a double quote or a line break");
+        this.out = out;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Writes a row holding {@code fields}.
+     */
+    public void writeRow(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.write(delimiter);
+            }
+            writeField(fields.get(i));
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Writes {@code line} as it is, followed by a line break.
+     * {@code line} must not hold a line break itself.
+     */
+    public void writeLine(String line) throws IOException {
+        requireNonNull(line);
+        checkArgument(line.indexOf('\n') < 0 && line.indexOf('\r') < 0, "Line cannot hold a line break");
+        out.write(line);
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeField(String value) throws IOException {
+        requireNonNull(value);
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+
+        out.write(QUOTE);
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == QUOTE) {
+                out.write(value, start, i + 1 - start);
+                out.write(QUOTE);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write(QUOTE);
+    }
+
+    private boolean needsQuotes(String value) {
+        if (!value.isEmpty() && value.charAt(0) == COMMENT) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == delimiter || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,19 +2,38 @@ package quickcache.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,13 +41,25 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import quickcache.commons.core.LogsCenter;
 import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
  */
 public class JsonUtil {
 
+    public static final String CHECKSUM_FIELD = "crc32";
+    /** The first field of a file that ends with a {@link #CHECKSUM_FIELD}, naming that field. */
+    public static final String CHECKSUM_TYPE_FIELD = "checksum";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHECKSUM_HEAD_SIZE = 64;
+    private static final int CHECKSUM_TAIL_SIZE = 128;
+    private static final Pattern CHECKSUM_HEAD_PATTERN =
+            Pattern.compile("\\{\\s*\"" + CHECKSUM_TYPE_FIELD + "\"\\s*:\\s*\"" + CHECKSUM_FIELD + "\"\\s*,");
+    private static final Pattern CHECKSUM_TAIL_PATTERN =
+            Pattern.compile("]\\s*,\\s*\"" + CHECKSUM_FIELD + "\"\\s*:\\s*\"([0-9a-f]{8})\"\\s*}\\s*$");
 
     private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
         .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -93,6 +124,176 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves a Json object with a field {@code fieldName} holding an array of {@code elements} to the specified file,
+     * followed by a field {@link #CHECKSUM_FIELD} holding the CRC-32 of the file up to the end of the array.
+     * The object starts with a field {@link #CHECKSUM_TYPE_FIELD}, which marks the file as one that has to end with
+     * the checksum.
+     * The elements are converted and written one at a time, so the whole document is never held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @param elements cannot be null
+     * @param isCompact whether to leave out the line breaks and indentation
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(String fieldName, Iterable<T> elements, Path filePath,
+            boolean isCompact) throws IOException {
+        requireNonNull(fieldName);
+        requireNonNull(elements);
+        requireNonNull(filePath);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE)) {
+            saveJsonArray(fieldName, elements, out, isCompact);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(String, Iterable, Path, boolean)}, but writes to {@code out},
+     * which is left open.
+     */
+    public static <T> void saveJsonArray(String fieldName, Iterable<T> elements, OutputStream out,
+            boolean isCompact) throws IOException {
+        requireNonNull(fieldName);
+        requireNonNull(elements);
+        requireNonNull(out);
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(checkedOut, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            // flushing after every element would defeat the buffering
+            ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            generator.writeStartObject();
+            generator.writeStringField(CHECKSUM_TYPE_FIELD, CHECKSUM_FIELD);
+            generator.writeArrayFieldStart(fieldName);
+            for (T element : elements) {
+                elementWriter.writeValue(generator, element);
+            }
+            generator.writeEndArray();
+            generator.flush();
+            generator.writeStringField(CHECKSUM_FIELD, formatChecksum(checkedOut.getChecksum().getValue()));
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the elements of the array in the field {@code fieldName} of the Json object in the specified file,
+     * passing each element to {@code consumer} as soon as it has been read. Other fields are skipped.
+     * The file is read one element at a time, so the whole document is never held in memory.
+     * The checksum of a file written by {@link #saveJsonArrayFile(String, Iterable, Path, boolean)} is verified
+     * before any element is read, and such a file that no longer ends with its checksum is rejected.
+     * Assumes file exists
+     *
+     * @param elementClass every element of the array has to correspond to the structure in the class given here.
+     * @throws IOException if the file could not be read, does not match its checksum or is not in the expected format
+     * @throws IllegalValueException if {@code consumer} rejects an element
+     */
+    public static <T> void readJsonArrayFile(Path filePath, String fieldName, Class<T> elementClass,
+            ElementConsumer<? super T> consumer) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+        requireNonNull(consumer);
+
+        verifyChecksum(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            readJsonArray(in, fieldName, elementClass, consumer);
+        }
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayFile(Path, String, Class, ElementConsumer)}, but reads from {@code in},
+     * which is left open, and does not verify the checksum.
+     */
+    public static <T> void readJsonArray(InputStream in, String fieldName, Class<T> elementClass,
+            ElementConsumer<? super T> consumer) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        requireNonNull(fieldName);
+        requireNonNull(consumer);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = fieldName.equals(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+                if (!isArrayField || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a json array in field " + fieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of json object");
+            }
+        }
+    }
+
+    /**
+     * Verifies the checksum at the end of a file written by
+     * {@link #saveJsonArrayFile(String, Iterable, Path, boolean)}.
+     * Files that do not start with a {@link #CHECKSUM_TYPE_FIELD}, such as files written by hand or by versions
+     * that did not write a checksum, are not verified.
+     *
+     * @throws IOException if the file could not be read, does not match its checksum, or is marked as having a
+     *     checksum but does not end with one, e.g. because it was truncated.
+     */
+    private static void verifyChecksum(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(CHECKSUM_HEAD_SIZE);
+            while (head.hasRemaining() && channel.read(head) > 0) {
+                // keeps reading until the head is full
+            }
+            String headText = new String(head.array(), 0, head.position(), StandardCharsets.ISO_8859_1);
+            boolean isChecked = CHECKSUM_HEAD_PATTERN.matcher(headText).lookingAt();
+
+            long size = channel.size();
+            ByteBuffer tail = ByteBuffer.allocate((int) Math.min(size, CHECKSUM_TAIL_SIZE));
+            long tailPosition = size - tail.capacity();
+            while (tail.hasRemaining() && channel.read(tail, tailPosition + tail.position()) > 0) {
+                // keeps reading until the tail is full
+            }
+            // ISO-8859-1 decodes one character per byte, so that positions in the tail are positions in the file
+            String tailText = new String(tail.array(), 0, tail.position(), StandardCharsets.ISO_8859_1);
+            Matcher matcher = CHECKSUM_TAIL_PATTERN.matcher(tailText);
+            if (!matcher.find()) {
+                if (isChecked) {
+                    throw new IOException("File " + filePath + " does not end with its checksum");
+                }
+                return;
+            }
+
+            long checkedSize = tailPosition + matcher.start() + 1;
+            CRC32 checksum = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            channel.position(0);
+            for (long remaining = checkedSize; remaining > 0; remaining -= buffer.limit()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(remaining, BUFFER_SIZE));
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of file " + filePath);
+                }
+                buffer.flip();
+                checksum.update(buffer);
+            }
+            if (!matcher.group(1).equals(formatChecksum(checksum.getValue()))) {
+                throw new IOException("Checksum of " + filePath + " does not match its contents");
+            }
+        }
+    }
+
+    private static String formatChecksum(long checksum) {
+        return String.format("%08x", checksum);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      *
@@ -114,6 +315,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Accepts the elements read by {@link #readJsonArrayFile(Path, String, Class, ElementConsumer)}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -51,4 +51,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Returns the number of executed commands after which saving the QuickCache was skipped
+     * because they did not modify it.
+     */
+    int getSkippedSaveCount();
 }
@@ -27,6 +27,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final QuickCacheParser quickCacheParser;
+    private int skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -43,7 +44,20 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = quickCacheParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long versionBeforeCommand = model.getQuickCacheVersion();
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitQuickCache();
+        }
+
+        boolean isModified = model.getQuickCacheVersion() != versionBeforeCommand;
+        assert command.mutatesModel() || !isModified : "Command modified the model without declaring it";
+        if (!command.mutatesModel() || !isModified) {
+            skippedSaveCount++;
+            logger.fine("QuickCache not modified, skipped saving (" + skippedSaveCount + " saves skipped)");
+            return commandResult;
+        }
 
         try {
             storage.saveQuickCache(model.getQuickCache());
@@ -78,4 +92,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
 }
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the QuickCache in the model.
+     * The QuickCache is not saved after commands that return false.
+     */
+    public boolean mutatesModel() {
+        return true;
+    }
+
 }
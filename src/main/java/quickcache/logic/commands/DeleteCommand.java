@@ -77,15 +77,7 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         if (isDeleteByTag) {
             assert(predicate != null && tagsToMatch != null && !tagsToMatch.isEmpty());
-            model.updateFilteredFlashcardList(predicate);
-            List<Flashcard> filteredList = model.getFilteredFlashcardList();
-
-            // filtered list is a mutable list and the indices change with every model.deleteFlashcard execution
-            // hence a for loop will not possible. A workaround would be to use a while loop
-            while (!filteredList.isEmpty()) {
-                Flashcard flashcardToDelete = filteredList.get(0);
-                model.deleteFlashcard(flashcardToDelete);
-            }
+            model.deleteFlashcards(predicate);
 
             // necessary to display all the remaining flashcards in the list
             model.updateFilteredFlashcardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
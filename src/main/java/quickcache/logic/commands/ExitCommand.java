@@ -11,6 +11,11 @@ public class ExitCommand extends Command {
 
     public static final String MESSAGE_EXIT_ACKNOWLEDGEMENT = "Exiting QuickCache as requested ...";
 
+    @Override
+    public boolean mutatesModel() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, false);
@@ -4,26 +4,27 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
 import quickcache.commons.core.LogsCenter;
 import quickcache.logic.commands.exceptions.CommandException;
 import quickcache.model.Model;
-import quickcache.model.QuickCache;
-import quickcache.model.flashcard.Flashcard;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.storage.DelimitedQuickCacheStorage;
 import quickcache.storage.JsonQuickCacheStorage;
 import quickcache.storage.QuickCacheStorage;
 
 /**
  * Saves the last shown flashcard list into a specified file.
+ * The flashcards of the list are written to the file as they are, without copying them into another QuickCache.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Exports the last opened set of flashcards to specified file. "
+        + "Files ending with .csv, .tsv or .txt are written as comma or tab separated values. "
         + "Parameters: FILE_NAME\n"
         + "Example: " + COMMAND_WORD + " CS2103_Flashcards.json";
     public static final String MESSAGE_EXPORT_FLASHCARDS_SUCCESS =
@@ -42,7 +43,9 @@ public class ExportCommand extends Command {
     public ExportCommand(Path path) {
         requireNonNull(path);
         this.path = path;
-        this.storage = new JsonQuickCacheStorage(path);
+        this.storage = DelimitedQuickCacheStorage.isDelimitedFile(path)
+            ? new DelimitedQuickCacheStorage(path)
+            : new JsonQuickCacheStorage(path);
     }
 
     /**
@@ -57,15 +60,21 @@ public class ExportCommand extends Command {
         this.storage = storage;
     }
 
+    @Override
+    public boolean mutatesModel() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Flashcard> lastShownList = model.getFilteredFlashcardList();
-        // Initialize storage at user defined file name
-        QuickCache lastShownQuickCache = new QuickCache();
-        lastShownQuickCache.setFlashcards(lastShownList);
+        // the flashcards in the model are already valid and unique, so the list is written without being checked again
+        ReadOnlyQuickCache lastShownQuickCache = model::getFilteredFlashcardList;
+        long startTime = System.nanoTime();
         try {
             storage.saveQuickCache(lastShownQuickCache);
+            logger.info(String.format("Exported %d flashcards to %s in %d ms",
+                model.getFilteredFlashcardList().size(), path, (System.nanoTime() - startTime) / 1_000_000));
             return new CommandResult(String.format(MESSAGE_EXPORT_FLASHCARDS_SUCCESS, path));
         } catch (IOException ioe) {
             logger.info("Error saving into " + path);
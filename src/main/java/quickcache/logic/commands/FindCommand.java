@@ -1,6 +1,7 @@
 package quickcache.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static quickcache.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
 import static quickcache.logic.parser.CliSyntax.PREFIX_QUESTION;
 import static quickcache.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -20,8 +21,10 @@ public class FindCommand extends Command {
             + "and tags respectively contains all of\n"
             + "[" + PREFIX_QUESTION + "KEYWORD]...\n"
             + "[" + PREFIX_TAG + "TAG]...\n"
+            + "and whose difficulty is [" + PREFIX_DIFFICULTY + "DIFFICULTY],\n"
             + " and displays them as a list with index numbers.\n"
-            + "Parameters: [" + PREFIX_QUESTION + "KEYWORD]..." + " [" + PREFIX_TAG + "TAG]...\n"
+            + "Parameters: [" + PREFIX_QUESTION + "KEYWORD]..." + " [" + PREFIX_TAG + "TAG]..."
+            + " [" + PREFIX_DIFFICULTY + "DIFFICULTY]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_QUESTION + "What "
             + PREFIX_TAG + "CS2100";
@@ -32,6 +35,11 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean mutatesModel() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
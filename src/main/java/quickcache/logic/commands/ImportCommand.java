@@ -4,34 +4,49 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import quickcache.commons.core.LogsCenter;
 import quickcache.commons.exceptions.DataConversionException;
 import quickcache.logic.commands.exceptions.CommandException;
 import quickcache.model.Model;
-import quickcache.model.ReadOnlyQuickCache;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.storage.DelimitedQuickCacheStorage;
 import quickcache.storage.JsonQuickCacheStorage;
 import quickcache.storage.QuickCacheStorage;
 
 /**
  * Imports the set of flashcards from a specified file.
+ * The flashcards are read from the file in batches, and the flashcards of each batch that are not already in the
+ * QuickCache are added to it together, so that a large file never has to be held in memory at once.
+ * If the file cannot be read to its end, the flashcards added before the problem was found are kept, and the
+ * command succeeds with a message reporting the problem, so that they are saved and can be undone.
  */
 public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Imports the flashcards from a specified file into your local QuickCache. "
+        + "Files ending with .csv, .tsv or .txt are read as comma or tab separated values. "
         + "Parameters: FILE_NAME\n"
         + "Example: " + COMMAND_WORD + " CS2103_Flashcards.json";
     public static final String MESSAGE_IMPORT_FLASHCARD_SUCCESS =
-        "Flashcards from %1$s has been successfully imported.";
+        "Flashcards from %1$s has been successfully imported: %2$d added, %3$d skipped as duplicates.";
     public static final String MESSAGE_IMPORT_FLASHCARD_CORRUPTED_FILE_FAILURE =
         "Flashcards from %1$s are corrupted.";
+    public static final String MESSAGE_IMPORT_FLASHCARD_INVALID_ENTRIES =
+        "\n%1$d invalid entries were skipped:";
+    public static final String MESSAGE_IMPORT_FLASHCARD_MORE_INVALID_ENTRIES =
+        "\n...and %1$d more";
+    public static final int MAX_REPORTED_INVALID_ENTRIES = 10;
+    public static final String MESSAGE_IMPORT_FLASHCARD_PARTLY_CORRUPTED_FILE_FAILURE =
+        "Flashcards from %1$s are corrupted. The %2$d flashcards read before the corrupted flashcard were imported.";
+    public static final String MESSAGE_IMPORT_FLASHCARD_PARTLY_READ_FAILURE =
+        "There was an error reading the file %1$s. The %2$d flashcards read before the error were imported.";
+    public static final int BATCH_SIZE = 1024;
     public static final String MESSAGE_IMPORT_FLASHCARD_EMPTY_FILE_FAILURE =
         "The file %1$s is empty or does not exist.";
     public static final String MESSAGE_IMPORT_FLASHCARD_ERROR_READING_FAILURE =
@@ -48,7 +63,9 @@ public class ImportCommand extends Command {
     public ImportCommand(Path path) {
         requireNonNull(path);
         this.path = path;
-        this.storage = new JsonQuickCacheStorage(path);
+        this.storage = DelimitedQuickCacheStorage.isDelimitedFile(path)
+            ? new DelimitedQuickCacheStorage(path)
+            : new JsonQuickCacheStorage(path);
     }
 
     /**
@@ -66,28 +83,60 @@ public class ImportCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        int[] counts = new int[2]; // the number of flashcards added and skipped so far
+        List<String> invalidEntries = new ArrayList<>();
         try {
-            Optional<ReadOnlyQuickCache> readBack = storage.readQuickCache();
-            if (readBack.isEmpty()) {
+            boolean isFound = storage.readFlashcards(storage.getQuickCacheFilePath(), BATCH_SIZE, batch -> {
+                List<Flashcard> newFlashcards = model.filterNewFlashcards(batch);
+                model.addFlashcards(newFlashcards);
+                counts[0] += newFlashcards.size();
+                counts[1] += batch.size() - newFlashcards.size();
+                logger.fine(String.format("Importing from %s: %d added, %d skipped so far", path, counts[0],
+                        counts[1]));
+            }, invalidEntries::add);
+            if (!isFound) {
                 throw new CommandException(String.format(MESSAGE_IMPORT_FLASHCARD_EMPTY_FILE_FAILURE, path));
             }
-            List<Flashcard> additionalFlashcards = readBack.get().getFlashcardList();
-            additionalFlashcards.forEach((flashcard -> checkAndAddFlashcardToModel(flashcard, model)));
-            return new CommandResult(String.format(MESSAGE_IMPORT_FLASHCARD_SUCCESS, path));
+            logger.info(String.format("Imported %s: %d added, %d skipped, %d invalid", path, counts[0], counts[1],
+                    invalidEntries.size()));
+            return new CommandResult(String.format(MESSAGE_IMPORT_FLASHCARD_SUCCESS, path, counts[0], counts[1])
+                    + describeInvalidEntries(invalidEntries));
         } catch (DataConversionException dce) {
             logger.info(path + " is corrupted");
+            if (counts[0] > 0) {
+                return new CommandResult(String.format(MESSAGE_IMPORT_FLASHCARD_PARTLY_CORRUPTED_FILE_FAILURE,
+                        path, counts[0]) + describeInvalidEntries(invalidEntries));
+            }
             throw new CommandException(String.format(MESSAGE_IMPORT_FLASHCARD_CORRUPTED_FILE_FAILURE, path));
         } catch (IOException ioe) {
             logger.info("Unable to read from " + path);
+            if (counts[0] > 0) {
+                return new CommandResult(String.format(MESSAGE_IMPORT_FLASHCARD_PARTLY_READ_FAILURE,
+                        path, counts[0]) + describeInvalidEntries(invalidEntries));
+            }
             throw new CommandException(String.format(MESSAGE_IMPORT_FLASHCARD_ERROR_READING_FAILURE, path));
         }
     }
 
-    private void checkAndAddFlashcardToModel(Flashcard flashcard, Model model) {
-        if (model.hasFlashcard(flashcard)) {
-            return;
+    /**
+     * Returns a description of the first {@link #MAX_REPORTED_INVALID_ENTRIES} of {@code invalidEntries}, one on
+     * each line, or an empty string if there are none.
+     */
+    private static String describeInvalidEntries(List<String> invalidEntries) {
+        if (invalidEntries.isEmpty()) {
+            return "";
+        }
+        StringBuilder description = new StringBuilder(
+                String.format(MESSAGE_IMPORT_FLASHCARD_INVALID_ENTRIES, invalidEntries.size()));
+        for (String invalidEntry : invalidEntries.subList(0,
+                Math.min(invalidEntries.size(), MAX_REPORTED_INVALID_ENTRIES))) {
+            description.append('\n').append(invalidEntry);
+        }
+        if (invalidEntries.size() > MAX_REPORTED_INVALID_ENTRIES) {
+            description.append(String.format(MESSAGE_IMPORT_FLASHCARD_MORE_INVALID_ENTRIES,
+                    invalidEntries.size() - MAX_REPORTED_INVALID_ENTRIES));
         }
-        model.addFlashcard(flashcard);
+        return description.toString();
     }
 
     @Override
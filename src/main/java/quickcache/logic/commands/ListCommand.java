@@ -14,6 +14,11 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all flashcards";
 
 
+    @Override
+    public boolean mutatesModel() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
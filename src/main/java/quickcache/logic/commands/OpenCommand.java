@@ -28,6 +28,11 @@ public class OpenCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean mutatesModel() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -0,0 +1,30 @@
+package quickcache.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import quickcache.logic.commands.exceptions.CommandException;
+import quickcache.model.Model;
+
+/**
+ * Reapplies the most recently undone change to the QuickCache.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoQuickCache()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoQuickCache();
+        model.updateFilteredFlashcardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -76,13 +76,16 @@ public class StatsCommand extends Command {
             .trim();
     }
 
+    @Override
+    public boolean mutatesModel() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         if (isStatsByTag) {
-            model.updateFilteredFlashcardList(predicate);
-            List<Flashcard> filteredList = model.getFilteredFlashcardList();
-            Statistics aggregatedStatistics = getAggregatedStatistics(filteredList);
+            Statistics aggregatedStatistics = model.getAggregatedStatistics(tagsToMatch);
             String statsWithTagsMessage = createStatsWithTagsMessage();
 
             // necessary to display all the remaining flashcards in the list
@@ -107,16 +110,6 @@ public class StatsCommand extends Command {
         }
     }
 
-    private Statistics getAggregatedStatistics(List<Flashcard> filteredList) {
-        int timesTested = 0;
-        int timesTestedCorrect = 0;
-        for (Flashcard flashcard : filteredList) {
-            timesTested += flashcard.getStatistics().getTimesTested();
-            timesTestedCorrect += flashcard.getStatistics().getTimesTestedCorrect();
-        }
-        return new Statistics(timesTested, timesTestedCorrect);
-    }
-
     @Override
     public boolean equals(Object object) {
         if (this == object) {
@@ -1,6 +1,5 @@
 package quickcache.logic.commands;
 
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static quickcache.logic.parser.CliSyntax.PREFIX_ANSWER;
 import static quickcache.logic.parser.CliSyntax.PREFIX_OPTION;
@@ -112,18 +111,8 @@ public class TestCommand extends Command {
         requireNonNull(answer);
         boolean isCorrect = flashcardToTest.checkAnswer(answer);
 
-        // Initialize an updated flashcard
-        Flashcard updatedFlashcard;
-        if (isCorrect) {
-            updatedFlashcard = flashcardToTest.getFlashcardAfterTestSuccess();
-        } else {
-            updatedFlashcard = flashcardToTest.getFlashcardAfterTestFailure();
-        }
-
-        // Updates the flashcardToTest with the new updatedFlashCard (with incremented test count)
-        assert nonNull(updatedFlashcard);
-        assert !flashcardToTest.equals(updatedFlashcard);
-        model.setFlashcard(flashcardToTest, updatedFlashcard);
+        // Updates the test counts of flashcardToTest in place
+        model.recordTestResult(flashcardToTest, isCorrect);
         return new CommandResult(getTestResult(
                 flashcardToTest.getAnswer(), answer), question, isCorrect, true);
     }
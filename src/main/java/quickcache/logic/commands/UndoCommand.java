@@ -0,0 +1,30 @@
+package quickcache.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import quickcache.logic.commands.exceptions.CommandException;
+import quickcache.model.Model;
+
+/**
+ * Reverts the most recent change to the QuickCache.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoQuickCache()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoQuickCache();
+        model.updateFilteredFlashcardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,19 +1,23 @@
 package quickcache.logic.parser;
 
 import static quickcache.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static quickcache.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
 import static quickcache.logic.parser.CliSyntax.PREFIX_QUESTION;
 import static quickcache.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import quickcache.logic.commands.FindCommand;
 import quickcache.logic.parser.exceptions.ParseException;
+import quickcache.model.flashcard.Difficulty;
 import quickcache.model.flashcard.Flashcard;
 import quickcache.model.flashcard.FlashcardContainsTagPredicate;
+import quickcache.model.flashcard.FlashcardHasDifficultyPredicate;
 import quickcache.model.flashcard.FlashcardPredicate;
 import quickcache.model.flashcard.QuestionContainsKeywordsPredicate;
 import quickcache.model.flashcard.Tag;
@@ -39,9 +43,9 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_QUESTION, PREFIX_TAG);
+                ArgumentTokenizer.tokenize(args, PREFIX_QUESTION, PREFIX_TAG, PREFIX_DIFFICULTY);
 
-        if (!areSomePrefixesPresent(argMultimap, PREFIX_QUESTION, PREFIX_TAG)
+        if (!areSomePrefixesPresent(argMultimap, PREFIX_QUESTION, PREFIX_TAG, PREFIX_DIFFICULTY)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindCommand.MESSAGE_USAGE));
@@ -49,18 +53,22 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         Set<Tag> tagsToMatch = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         List<String> questionKeywords = ParserUtil.parseKeywords(argMultimap.getAllValues(PREFIX_QUESTION));
+        Optional<Difficulty> difficultyToMatch = argMultimap.getValue(PREFIX_DIFFICULTY).isPresent()
+                ? Optional.of(ParserUtil.parseDifficulty(argMultimap.getValue(PREFIX_DIFFICULTY).get()))
+                : Optional.empty();
 
-        assert !(tagsToMatch.isEmpty() && questionKeywords.isEmpty());
+        assert !(tagsToMatch.isEmpty() && questionKeywords.isEmpty() && difficultyToMatch.isEmpty());
 
-        FlashcardPredicate predicate = getFlashcardPredicate(tagsToMatch, questionKeywords);
+        FlashcardPredicate predicate = getFlashcardPredicate(tagsToMatch, questionKeywords, difficultyToMatch);
 
         return new FindCommand(predicate);
     }
 
-    private FlashcardPredicate getFlashcardPredicate(Set<Tag> tagsToMatch, List<String> questionKeywords) {
+    private FlashcardPredicate getFlashcardPredicate(Set<Tag> tagsToMatch, List<String> questionKeywords,
+            Optional<Difficulty> difficultyToMatch) {
         ArrayList<Predicate<Flashcard>> predicates = new ArrayList<>();
 
-        assert !(tagsToMatch.isEmpty() && questionKeywords.isEmpty());
+        assert !(tagsToMatch.isEmpty() && questionKeywords.isEmpty() && difficultyToMatch.isEmpty());
 
         if (!tagsToMatch.isEmpty()) {
             predicates.add(new FlashcardContainsTagPredicate(tagsToMatch));
@@ -70,6 +78,8 @@ public class FindCommandParser implements Parser<FindCommand> {
             predicates.add(new QuestionContainsKeywordsPredicate(questionKeywords));
         }
 
+        difficultyToMatch.ifPresent(difficulty -> predicates.add(new FlashcardHasDifficultyPredicate(difficulty)));
+
         assert !predicates.isEmpty();
         return new FlashcardPredicate(predicates);
     }
@@ -18,7 +18,6 @@ import quickcache.logic.commands.AddMultipleChoiceQuestionCommand;
 import quickcache.logic.parser.exceptions.ParseException;
 import quickcache.model.flashcard.Answer;
 import quickcache.model.flashcard.Choice;
-import quickcache.model.flashcard.Difficulties;
 import quickcache.model.flashcard.Difficulty;
 import quickcache.model.flashcard.MultipleChoiceQuestion;
 import quickcache.model.flashcard.OpenEndedQuestion;
@@ -155,7 +154,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -167,13 +166,13 @@ public class ParserUtil {
     public static Difficulty parseDifficulty(String difficulty) throws ParseException {
         requireNonNull(difficulty);
         if (difficulty.isEmpty()) {
-            return new Difficulty(Difficulties.UNSPECIFIED.name());
+            return Difficulty.unspecified();
         }
         String trimmedDifficulty = difficulty.trim();
         if (!Difficulty.isValidDifficultyName(trimmedDifficulty)) {
             throw new ParseException(Difficulty.MESSAGE_CONSTRAINTS);
         }
-        return new Difficulty(trimmedDifficulty);
+        return Difficulty.of(trimmedDifficulty);
     }
 
     /**
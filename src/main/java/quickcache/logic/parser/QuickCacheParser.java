@@ -18,8 +18,10 @@ import quickcache.logic.commands.HelpCommand;
 import quickcache.logic.commands.ImportCommand;
 import quickcache.logic.commands.ListCommand;
 import quickcache.logic.commands.OpenCommand;
+import quickcache.logic.commands.RedoCommand;
 import quickcache.logic.commands.StatsCommand;
 import quickcache.logic.commands.TestCommand;
+import quickcache.logic.commands.UndoCommand;
 import quickcache.logic.parser.exceptions.ParseException;
 
 /**
@@ -94,6 +96,12 @@ public class QuickCacheParser {
         case ClearStatsCommand.COMMAND_WORD:
             return new ClearStatsCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
@@ -1,11 +1,17 @@
 package quickcache.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import quickcache.commons.core.GuiSettings;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.Statistics;
+import quickcache.model.flashcard.Tag;
 
 /**
  * The API of the Model component.
@@ -60,11 +66,30 @@ public interface Model {
      */
     void setQuickCache(ReadOnlyQuickCache quickCache);
 
+    /**
+     * Replaces QuickCache data with the data in {@code quickCache} as the state that the history starts from,
+     * so that the replacement cannot be undone.
+     */
+    void loadQuickCache(ReadOnlyQuickCache quickCache);
+
+    /**
+     * Adds flashcards read while the QuickCache is being loaded, without changing the filter of the filtered
+     * flashcard list or recording them in the history.
+     * The flashcards that are the same as one already in the QuickCache are skipped.
+     */
+    void loadFlashcards(Collection<Flashcard> flashcards);
+
     /**
      * Returns true if a flashcard with the same identity as {@code flashcard} exists in the QuickCache.
      */
     boolean hasFlashcard(Flashcard flashcard);
 
+    /**
+     * Returns the flashcards in {@code flashcards} that do not have the same identity as a flashcard in the QuickCache
+     * or an earlier flashcard in {@code flashcards}, in the order they are given.
+     */
+    List<Flashcard> filterNewFlashcards(Collection<Flashcard> flashcards);
+
     /**
      * Deletes the given flashcard.
      * The flashcard must exist in the QuickCache.
@@ -77,6 +102,19 @@ public interface Model {
      */
     void addFlashcard(Flashcard flashcard);
 
+    /**
+     * Adds all of the given flashcards at once.
+     * None of {@code flashcards} may already exist in the QuickCache or be the same as each other.
+     */
+    void addFlashcards(Collection<Flashcard> flashcards);
+
+    /**
+     * Deletes all flashcards that satisfy {@code predicate} at once.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void deleteFlashcards(Predicate<Flashcard> predicate);
+
     /**
      * Updates the filter of the filtered flashcard list to filter by the given {@code predicate}.
      *
@@ -91,6 +129,66 @@ public interface Model {
      */
     void setFlashcard(Flashcard target, Flashcard editedFlashcard);
 
+    /**
+     * Replaces each key of {@code replacements} with its value at once.
+     * Every key must exist in the QuickCache.
+     * The flashcards in the QuickCache after the replacement must not be the same as each other.
+     */
+    void replaceFlashcards(Map<Flashcard, Flashcard> replacements);
+
+    /**
+     * Brings in the flashcards changed outside of the application at once, without changing the filter of the
+     * filtered flashcard list.
+     * Each of {@code updatedFlashcards} replaces the flashcard with the same id, or is added if there is none, unless
+     * it would be the same as another flashcard. The flashcards with {@code removedIds} are deleted.
+     */
+    void mergeFlashcards(Collection<Flashcard> updatedFlashcards, Set<Integer> removedIds);
+
+    /**
+     * Adds the result of a test of {@code target} to its statistics.
+     * {@code target} must exist in the QuickCache.
+     * The flashcard is updated in place, so the flashcard lists do not change.
+     */
+    void recordTestResult(Flashcard target, boolean isCorrect);
+
+    /**
+     * Returns the sum of the statistics of the flashcards that have all of the given {@code tags},
+     * or of all flashcards if {@code tags} is empty.
+     */
+    Statistics getAggregatedStatistics(Set<Tag> tags);
+
+    /**
+     * Returns true if the QuickCache has a previous state to undo to.
+     */
+    boolean canUndoQuickCache();
+
+    /**
+     * Returns true if the QuickCache has an undone state to redo to.
+     */
+    boolean canRedoQuickCache();
+
+    /**
+     * Restores the QuickCache to its previous state.
+     * There must be a previous state to undo to.
+     */
+    void undoQuickCache();
+
+    /**
+     * Restores the QuickCache to its most recently undone state.
+     * There must be an undone state to redo to.
+     */
+    void redoQuickCache();
+
+    /**
+     * Saves the changes made to the QuickCache since the last commit as a state that can be undone to.
+     */
+    void commitQuickCache();
+
+    /**
+     * Returns a number that changes whenever the QuickCache is modified.
+     */
+    long getQuickCacheVersion();
+
     /**
      * Returns an unmodifiable view of the filtered flashcard list
      */
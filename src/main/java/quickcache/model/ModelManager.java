@@ -3,6 +3,15 @@ package quickcache.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +21,11 @@ import quickcache.commons.core.GuiSettings;
 import quickcache.commons.core.LogsCenter;
 import quickcache.commons.util.CollectionUtil;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.FlashcardPredicate;
+import quickcache.model.flashcard.QuestionContainsKeywordsPredicate;
+import quickcache.model.flashcard.Statistics;
+import quickcache.model.flashcard.Tag;
+import quickcache.model.flashcard.UniqueFlashcardList;
 
 /**
  * Represents the in-memory model of the QuickCache data.
@@ -19,7 +33,7 @@ import quickcache.model.flashcard.Flashcard;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final QuickCache quickCache;
+    private final VersionedQuickCache quickCache;
     private final UserPrefs userPrefs;
     private final FilteredList<Flashcard> filteredFlashcards;
 
@@ -33,8 +47,8 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with quick cache: " + quickCache + " and user prefs " + userPrefs);
 
-        this.quickCache = new QuickCache(quickCache);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.quickCache = new VersionedQuickCache(quickCache, this.userPrefs.getHistoryDepth());
         filteredFlashcards = new FilteredList<>(this.quickCache.getFlashcardList());
 
     }
@@ -90,12 +104,33 @@ public class ModelManager implements Model {
         this.quickCache.resetData(quickCache);
     }
 
+    @Override
+    public void loadQuickCache(ReadOnlyQuickCache quickCache) {
+        requireNonNull(quickCache);
+        this.quickCache.loadQuickCache(quickCache);
+    }
+
+    @Override
+    public void loadFlashcards(Collection<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        int loadedCount = quickCache.loadFlashcards(flashcards);
+        if (loadedCount < flashcards.size()) {
+            logger.warning("Skipped " + (flashcards.size() - loadedCount) + " duplicate flashcards while loading");
+        }
+    }
+
     @Override
     public boolean hasFlashcard(Flashcard flashcard) {
         requireNonNull(flashcard);
         return quickCache.hasFlashcard(flashcard);
     }
 
+    @Override
+    public List<Flashcard> filterNewFlashcards(Collection<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        return quickCache.filterNewFlashcards(flashcards);
+    }
+
     @Override
     public void deleteFlashcard(Flashcard target) {
         quickCache.removeFlashcard(target);
@@ -107,10 +142,22 @@ public class ModelManager implements Model {
         updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
     }
 
+    @Override
+    public void addFlashcards(Collection<Flashcard> flashcards) {
+        quickCache.addFlashcards(flashcards);
+        updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+    }
+
+    @Override
+    public void deleteFlashcards(Predicate<Flashcard> predicate) {
+        requireNonNull(predicate);
+        quickCache.removeFlashcards(withIndexes(predicate));
+    }
+
     @Override
     public void updateFilteredFlashcardList(Predicate<Flashcard> predicate) {
         requireNonNull(predicate);
-        filteredFlashcards.setPredicate(predicate);
+        filteredFlashcards.setPredicate(withIndexes(predicate));
     }
 
     @Override
@@ -120,6 +167,147 @@ public class ModelManager implements Model {
         quickCache.setFlashcard(target, editedFlashcard);
     }
 
+    @Override
+    public void replaceFlashcards(Map<Flashcard, Flashcard> replacements) {
+        requireNonNull(replacements);
+        quickCache.replaceFlashcards(replacements);
+    }
+
+    @Override
+    public void mergeFlashcards(Collection<Flashcard> updatedFlashcards, Set<Integer> removedIds) {
+        CollectionUtil.requireAllNonNull(updatedFlashcards, removedIds);
+
+        List<Flashcard> storedFlashcards = quickCache.getFlashcardList();
+        Set<Integer> storedIds = new HashSet<>(storedFlashcards.size() * 2);
+        for (Flashcard flashcard : storedFlashcards) {
+            storedIds.add(flashcard.getId());
+        }
+        Map<Integer, Flashcard> replacements = new LinkedHashMap<>();
+        List<Flashcard> additions = new ArrayList<>();
+        for (Flashcard flashcard : updatedFlashcards) {
+            if (flashcard.hasId() && storedIds.contains(flashcard.getId()) && !removedIds.contains(flashcard.getId())) {
+                replacements.put(flashcard.getId(), flashcard);
+            } else {
+                additions.add(flashcard);
+            }
+        }
+
+        Set<Flashcard> mergeableFlashcards = findMergeable(storedFlashcards, removedIds, replacements, additions);
+        Map<Flashcard, Flashcard> storedReplacements = new LinkedHashMap<>();
+        boolean hasRemovals = false;
+        for (Flashcard stored : storedFlashcards) {
+            Flashcard replacement = replacements.get(stored.getId());
+            if (replacement != null && mergeableFlashcards.contains(replacement)) {
+                storedReplacements.put(stored, replacement);
+            }
+            hasRemovals |= removedIds.contains(stored.getId());
+        }
+        List<Flashcard> mergedAdditions = new ArrayList<>(additions.size());
+        for (Flashcard flashcard : additions) {
+            if (mergeableFlashcards.contains(flashcard)) {
+                mergedAdditions.add(flashcard);
+            }
+        }
+        if (hasRemovals || !storedReplacements.isEmpty() || !mergedAdditions.isEmpty()) {
+            quickCache.mergeFlashcards(flashcard -> removedIds.contains(flashcard.getId()), storedReplacements,
+                    mergedAdditions);
+        }
+    }
+
+    @Override
+    public void recordTestResult(Flashcard target, boolean isCorrect) {
+        quickCache.recordTestResult(target, isCorrect);
+    }
+
+    @Override
+    public Statistics getAggregatedStatistics(Set<Tag> tags) {
+        requireNonNull(tags);
+        return quickCache.getAggregatedStatistics(tags);
+    }
+
+    @Override
+    public boolean canUndoQuickCache() {
+        return quickCache.canUndo();
+    }
+
+    @Override
+    public boolean canRedoQuickCache() {
+        return quickCache.canRedo();
+    }
+
+    @Override
+    public void undoQuickCache() {
+        quickCache.undo();
+    }
+
+    @Override
+    public void redoQuickCache() {
+        quickCache.redo();
+    }
+
+    @Override
+    public void commitQuickCache() {
+        quickCache.commit();
+    }
+
+    @Override
+    public long getQuickCacheVersion() {
+        return quickCache.getVersion();
+    }
+
+    /**
+     * Returns the replacements and additions that can be merged into {@code storedFlashcards}, after the flashcards
+     * with {@code removedIds} are removed, without any flashcard being the same as another.
+     * Flashcards that are kept as they are take priority over replacements, and replacements over additions.
+     */
+    private Set<Flashcard> findMergeable(List<Flashcard> storedFlashcards, Set<Integer> removedIds,
+            Map<Integer, Flashcard> replacements, List<Flashcard> additions) {
+        Map<Integer, Flashcard> mergedReplacements = new LinkedHashMap<>(replacements);
+        Set<Flashcard> uniqueFlashcards = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean isRejected;
+        do {
+            List<Flashcard> candidates = new ArrayList<>(storedFlashcards.size() + additions.size());
+            for (Flashcard stored : storedFlashcards) {
+                if (!removedIds.contains(stored.getId()) && !mergedReplacements.containsKey(stored.getId())) {
+                    candidates.add(stored);
+                }
+            }
+            candidates.addAll(mergedReplacements.values());
+            candidates.addAll(additions);
+            uniqueFlashcards.clear();
+            uniqueFlashcards.addAll(new UniqueFlashcardList().filterNew(candidates));
+            // a rejected replacement keeps the stored flashcard, which may in turn be the same as another replacement
+            isRejected = mergedReplacements.values().removeIf(flashcard -> !uniqueFlashcards.contains(flashcard));
+        } while (isRejected);
+
+        List<Flashcard> updatedFlashcards = new ArrayList<>(replacements.values());
+        updatedFlashcards.addAll(additions);
+        Set<Flashcard> mergeableFlashcards = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Flashcard flashcard : updatedFlashcards) {
+            if (uniqueFlashcards.contains(flashcard)) {
+                mergeableFlashcards.add(flashcard);
+            } else {
+                logger.info("Not merging " + flashcard + " as it is the same as another flashcard");
+            }
+        }
+        return mergeableFlashcards;
+    }
+
+    /**
+     * Returns a predicate that matches the same flashcards as {@code predicate},
+     * looking them up in the indexes of the QuickCache where it can.
+     */
+    private Predicate<Flashcard> withIndexes(Predicate<Flashcard> predicate) {
+        if (predicate instanceof FlashcardPredicate) {
+            return ((FlashcardPredicate) predicate)
+                    .withIndexes(quickCache.getTagIndex(), quickCache.getKeywordIndex(), quickCache.getColumns());
+        } else if (predicate instanceof QuestionContainsKeywordsPredicate) {
+            return ((QuestionContainsKeywordsPredicate) predicate).withKeywordIndex(quickCache.getKeywordIndex());
+        } else {
+            return predicate;
+        }
+    }
+
     //=========== Filtered Flashcard List Accessors =============================================================
 
     @Override
@@ -2,19 +2,41 @@ package quickcache.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javafx.collections.ObservableList;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.FlashcardColumns;
+import quickcache.model.flashcard.KeywordIndex;
+import quickcache.model.flashcard.Statistics;
+import quickcache.model.flashcard.Tag;
+import quickcache.model.flashcard.TagIndex;
 import quickcache.model.flashcard.UniqueFlashcardList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameFlashcard comparison)
+ * Every flashcard in the QuickCache is given an id that is unique within it and stays the same across edits.
+ * The flashcards are also indexed by their tags and by the text of their questions,
+ * and their statistics are kept in {@code FlashcardColumns} so that test results can be recorded in place.
  */
 public class QuickCache implements ReadOnlyQuickCache {
 
     private final UniqueFlashcardList flashcards;
+    private final TagIndex tagIndex = new TagIndex();
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    private FlashcardColumns columns = new FlashcardColumns();
+    private int nextId;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,7 +67,16 @@ public class QuickCache implements ReadOnlyQuickCache {
      * {@code flashcards} must not contain duplicate flashcards.
      */
     public void setFlashcards(List<Flashcard> flashcards) {
-        this.flashcards.setFlashcards(flashcards);
+        List<Statistics> statistics = getStatistics(flashcards);
+        if (!isRecording()) {
+            reset(flashcards, statistics);
+            return;
+        }
+
+        List<Flashcard> oldFlashcards = new ArrayList<>(this.flashcards.asUnmodifiableObservableList());
+        List<Statistics> oldStatistics = getStatistics(oldFlashcards);
+        List<Flashcard> newFlashcards = reset(flashcards, statistics);
+        record(new Reset(oldFlashcards, oldStatistics, newFlashcards, statistics));
     }
 
     /**
@@ -67,12 +98,33 @@ public class QuickCache implements ReadOnlyQuickCache {
         return flashcards.contains(flashcard);
     }
 
+    /**
+     * Returns the flashcards in {@code candidates} that do not have the same identity as a flashcard in the QuickCache
+     * or an earlier flashcard in {@code candidates}, in the order they are given.
+     */
+    public List<Flashcard> filterNewFlashcards(Collection<Flashcard> candidates) {
+        requireNonNull(candidates);
+        return flashcards.filterNew(candidates);
+    }
+
     /**
      * Adds a flashcard to the QuickCache.
      * The flashcard must not already exist in the QuickCache.
      */
     public void addFlashcard(Flashcard f) {
-        flashcards.add(f);
+        Statistics statistics = f.getStatistics();
+        Flashcard toAdd = columns.attach(f, getAvailableId(f));
+        index(toAdd, statistics);
+        try {
+            flashcards.add(toAdd);
+        } catch (RuntimeException e) {
+            unindex(toAdd);
+            throw e;
+        }
+        if (isRecording()) {
+            int[] indexes = {flashcards.asUnmodifiableObservableList().size() - 1};
+            record(new Insertion(indexes, List.of(toAdd), List.of(statistics)));
+        }
     }
 
     /**
@@ -84,7 +136,13 @@ public class QuickCache implements ReadOnlyQuickCache {
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireNonNull(editedFlashcard);
 
-        flashcards.setFlashcard(target, editedFlashcard);
+        Flashcard stored = flashcards.get(target);
+        Statistics oldStatistics = stored.getStatistics();
+        Statistics statistics = editedFlashcard.getStatistics();
+        List<Flashcard> replaced = replace(List.of(stored), List.of(editedFlashcard), List.of(statistics));
+        if (isRecording()) {
+            record(new Replacement(List.of(stored), List.of(oldStatistics), replaced, List.of(statistics)));
+        }
     }
 
     /**
@@ -92,7 +150,343 @@ public class QuickCache implements ReadOnlyQuickCache {
      * {@code key} must exist in the QuickCache.
      */
     public void removeFlashcard(Flashcard key) {
-        flashcards.remove(key);
+        Flashcard stored = flashcards.get(key);
+        int[] indexes = {flashcards.indexOf(stored)};
+        flashcards.remove(stored);
+        unindex(stored);
+        if (isRecording()) {
+            record(new Removal(indexes, List.of(stored), List.of(stored.getStatistics())));
+        }
+    }
+
+    /**
+     * Adds the result of a test of {@code target} to its statistics, without replacing it.
+     * {@code target} must exist in the QuickCache.
+     */
+    public void recordTestResult(Flashcard target, boolean isCorrect) {
+        requireNonNull(target);
+        Flashcard stored = columns.isStored(target) ? target : flashcards.get(target);
+        tagIndex.recordTestResult(stored, isCorrect);
+        columns.recordTestResult(stored.getId(), isCorrect);
+        version++;
+        if (isRecording()) {
+            record(new TestResult(stored.getId(), isCorrect));
+        }
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the QuickCache at once.
+     * None of the flashcards may already exist in the QuickCache or be the same as each other.
+     */
+    public void addFlashcards(Collection<Flashcard> toAdd) {
+        requireNonNull(toAdd);
+        Insertion insertion = addAll(toAdd);
+        if (isRecording()) {
+            record(insertion);
+        }
+    }
+
+    /**
+     * Removes all flashcards that satisfy {@code predicate} from the QuickCache at once.
+     *
+     * @return the flashcards that were removed.
+     */
+    public List<Flashcard> removeFlashcards(Predicate<Flashcard> predicate) {
+        Removal removal = removeAll(predicate);
+        if (isRecording() && !removal.isEmpty()) {
+            record(removal);
+        }
+        return removal.getFlashcards();
+    }
+
+    /**
+     * Replaces each key of {@code replacements} in the QuickCache with its value at once.
+     * Every key must exist in the QuickCache.
+     * The flashcards in the QuickCache after the replacement must not be the same as each other.
+     */
+    public void replaceFlashcards(Map<Flashcard, Flashcard> replacements) {
+        requireNonNull(replacements);
+        Replacement replacement = replaceAll(replacements);
+        if (isRecording()) {
+            record(replacement);
+        }
+    }
+
+    /**
+     * Removes all flashcards that satisfy {@code predicate}, replaces each key of {@code replacements} with its value
+     * and adds all of {@code toAdd}, as a single change. Nothing is changed if any part of the change fails.
+     * Every key of {@code replacements} must exist in the QuickCache and not satisfy {@code predicate}.
+     * The flashcards in the QuickCache afterwards must not be the same as each other.
+     */
+    public void mergeFlashcards(Predicate<Flashcard> predicate, Map<Flashcard, Flashcard> replacements,
+            Collection<Flashcard> toAdd) {
+        requireNonNull(predicate);
+        requireNonNull(replacements);
+        requireNonNull(toAdd);
+        List<Change> changes = new ArrayList<>();
+        try {
+            changes.add(removeAll(predicate));
+            changes.add(replaceAll(replacements));
+            changes.add(addAll(toAdd));
+        } catch (RuntimeException e) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(this);
+            }
+            throw e;
+        }
+        if (isRecording()) {
+            record(new Merge(changes));
+        }
+    }
+
+    // changes shared by the operations above and by undo and redo
+    // The indexes are updated before the flashcard list, as the filtered lists built on the flashcard list test the
+    // changed flashcards against the indexes as soon as it changes. They are restored if the list rejects the change.
+
+    /**
+     * Adds all of {@code toAdd} at the end of the flashcard list, giving them ids.
+     *
+     * @return the change that was made.
+     */
+    private Insertion addAll(Collection<Flashcard> toAdd) {
+        List<Flashcard> attachedFlashcards = new ArrayList<>(toAdd.size());
+        List<Statistics> statistics = new ArrayList<>(toAdd.size());
+        Set<Integer> usedIds = new HashSet<>();
+        for (Flashcard flashcard : toAdd) {
+            int id = getAvailableId(flashcard);
+            if (!usedIds.add(id)) {
+                id = nextId++;
+                usedIds.add(id);
+            }
+            attachedFlashcards.add(columns.attach(flashcard, id));
+            statistics.add(flashcard.getStatistics());
+        }
+        int size = flashcards.asUnmodifiableObservableList().size();
+        for (int i = 0; i < attachedFlashcards.size(); i++) {
+            index(attachedFlashcards.get(i), statistics.get(i));
+        }
+        try {
+            flashcards.addAll(attachedFlashcards);
+        } catch (RuntimeException e) {
+            attachedFlashcards.forEach(this::unindex);
+            throw e;
+        }
+        int[] indexes = IntStream.range(size, size + attachedFlashcards.size()).toArray();
+        return new Insertion(indexes, attachedFlashcards, statistics);
+    }
+
+    /**
+     * Removes all flashcards that satisfy {@code predicate}.
+     *
+     * @return the change that was made.
+     */
+    private Removal removeAll(Predicate<Flashcard> predicate) {
+        int[] indexes = flashcards.findAll(predicate);
+        List<Flashcard> removed = remove(indexes);
+        return new Removal(indexes, removed, getStatistics(removed));
+    }
+
+    /**
+     * Replaces each key of {@code replacements} with its value.
+     *
+     * @return the change that was made.
+     */
+    private Replacement replaceAll(Map<Flashcard, Flashcard> replacements) {
+        List<Flashcard> storedFlashcards = new ArrayList<>(replacements.size());
+        List<Flashcard> editedFlashcards = new ArrayList<>(replacements.size());
+        replacements.forEach((target, editedFlashcard) -> {
+            storedFlashcards.add(flashcards.get(target));
+            editedFlashcards.add(requireNonNull(editedFlashcard));
+        });
+        List<Statistics> oldStatistics = getStatistics(storedFlashcards);
+        List<Statistics> statistics = getStatistics(editedFlashcards);
+        List<Flashcard> replaced = replace(storedFlashcards, editedFlashcards, statistics);
+        return new Replacement(storedFlashcards, oldStatistics, replaced, statistics);
+    }
+
+    /**
+     * Replaces the contents of the flashcard list with {@code flashcards}, giving them the {@code statistics}.
+     *
+     * @return the flashcards now in the list, which have ids.
+     */
+    private List<Flashcard> reset(List<Flashcard> flashcards, List<Statistics> statistics) {
+        FlashcardColumns newColumns = new FlashcardColumns();
+        int newNextId = 0;
+        for (Flashcard flashcard : flashcards) {
+            newNextId = Math.max(newNextId, flashcard.getId() + 1);
+        }
+
+        Set<Integer> usedIds = new HashSet<>();
+        List<Flashcard> attachedFlashcards = new ArrayList<>(flashcards.size());
+        for (Flashcard flashcard : flashcards) {
+            int id = flashcard.hasId() && usedIds.add(flashcard.getId()) ? flashcard.getId() : newNextId++;
+            attachedFlashcards.add(newColumns.attach(flashcard, id));
+        }
+
+        FlashcardColumns oldColumns = columns;
+        int oldNextId = nextId;
+        columns = newColumns;
+        nextId = newNextId;
+        tagIndex.clear();
+        keywordIndex.clear();
+        for (int i = 0; i < attachedFlashcards.size(); i++) {
+            index(attachedFlashcards.get(i), statistics.get(i));
+        }
+        try {
+            this.flashcards.setFlashcards(attachedFlashcards);
+        } catch (RuntimeException e) {
+            columns = oldColumns;
+            nextId = oldNextId;
+            tagIndex.clear();
+            keywordIndex.clear();
+            for (Flashcard flashcard : this.flashcards) {
+                tagIndex.add(flashcard);
+                keywordIndex.add(flashcard);
+            }
+            throw e;
+        }
+        version++;
+        return attachedFlashcards;
+    }
+
+    /**
+     * Inserts {@code toInsert}, which already have ids that are not in use, at the given {@code indexes}.
+     */
+    private void insert(int[] indexes, List<Flashcard> toInsert, List<Statistics> statistics) {
+        List<Flashcard> attachedFlashcards = new ArrayList<>(toInsert.size());
+        for (Flashcard flashcard : toInsert) {
+            attachedFlashcards.add(columns.attach(flashcard, flashcard.getId()));
+            nextId = Math.max(nextId, flashcard.getId() + 1);
+        }
+        for (int i = 0; i < attachedFlashcards.size(); i++) {
+            index(attachedFlashcards.get(i), statistics.get(i));
+        }
+        try {
+            flashcards.insertAll(indexes, attachedFlashcards);
+        } catch (RuntimeException e) {
+            attachedFlashcards.forEach(this::unindex);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the flashcards at the given {@code indexes}.
+     *
+     * @return the flashcards that were removed.
+     */
+    private List<Flashcard> remove(int[] indexes) {
+        List<Flashcard> removed = flashcards.removeAll(indexes);
+        removed.forEach(this::unindex);
+        return removed;
+    }
+
+    /**
+     * Replaces each of the {@code storedFlashcards} with the corresponding flashcard in {@code editedFlashcards},
+     * giving them the {@code statistics}. The replacements keep the ids of the flashcards they replace.
+     *
+     * @return the flashcards now in the list.
+     */
+    private List<Flashcard> replace(List<Flashcard> storedFlashcards, List<Flashcard> editedFlashcards,
+            List<Statistics> statistics) {
+        List<Flashcard> attachedFlashcards = new ArrayList<>(editedFlashcards.size());
+        Map<Flashcard, Flashcard> storedReplacements = new HashMap<>(storedFlashcards.size() * 2);
+        for (int i = 0; i < storedFlashcards.size(); i++) {
+            Flashcard toSet = columns.attach(editedFlashcards.get(i), storedFlashcards.get(i).getId());
+            attachedFlashcards.add(toSet);
+            storedReplacements.put(storedFlashcards.get(i), toSet);
+        }
+        List<Statistics> oldStatistics = getStatistics(storedFlashcards);
+        for (int i = 0; i < storedFlashcards.size(); i++) {
+            unindex(storedFlashcards.get(i));
+            index(attachedFlashcards.get(i), statistics.get(i));
+        }
+        try {
+            if (storedFlashcards.size() == 1) {
+                flashcards.setFlashcard(storedFlashcards.get(0), attachedFlashcards.get(0));
+            } else {
+                flashcards.replaceAll(storedReplacements);
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < storedFlashcards.size(); i++) {
+                unindex(attachedFlashcards.get(i));
+                index(storedFlashcards.get(i), oldStatistics.get(i));
+            }
+            throw e;
+        }
+        return attachedFlashcards;
+    }
+
+    /**
+     * Gives the flashcard with the given {@code id} the {@code statistics}, without replacing it.
+     */
+    private void restoreStatistics(int id, Statistics statistics) {
+        Flashcard stored = getFlashcardWithId(id);
+        tagIndex.remove(stored);
+        columns.store(id, statistics, stored.getDifficulty());
+        tagIndex.add(stored);
+        version++;
+    }
+
+    /**
+     * Returns the flashcards in the list that have the same ids as {@code flashcards}.
+     */
+    private List<Flashcard> getStoredFlashcards(List<Flashcard> flashcards) {
+        return flashcards.stream().map(flashcard -> getFlashcardWithId(flashcard.getId()))
+                .collect(Collectors.toList());
+    }
+
+    private Flashcard getFlashcardWithId(int id) {
+        int index = flashcards.indexOfId(id);
+        assert index != -1;
+        return flashcards.asUnmodifiableObservableList().get(index);
+    }
+
+    /**
+     * Stores {@code statistics} as the statistics of the newly stored {@code flashcard} and adds it to the indexes.
+     */
+    private void index(Flashcard flashcard, Statistics statistics) {
+        columns.store(flashcard.getId(), statistics, flashcard.getDifficulty());
+        tagIndex.add(flashcard);
+        keywordIndex.add(flashcard);
+        version++;
+    }
+
+    private void unindex(Flashcard flashcard) {
+        tagIndex.remove(flashcard);
+        keywordIndex.remove(flashcard);
+        columns.remove(flashcard.getId());
+        version++;
+    }
+
+    /**
+     * Returns the id of {@code flashcard} if it can keep it in this QuickCache,
+     * or a newly assigned id otherwise.
+     */
+    private int getAvailableId(Flashcard flashcard) {
+        if (columns.canStoreWithOwnId(flashcard)) {
+            nextId = Math.max(nextId, flashcard.getId() + 1);
+            return flashcard.getId();
+        }
+        return nextId++;
+    }
+
+    private static List<Statistics> getStatistics(List<Flashcard> flashcards) {
+        return flashcards.stream().map(Flashcard::getStatistics).collect(Collectors.toList());
+    }
+
+    // history of changes
+
+    /**
+     * Returns true if the changes made to this QuickCache should be passed to {@link #record(Change)}.
+     */
+    boolean isRecording() {
+        return false;
+    }
+
+    /**
+     * Called with every change made to this QuickCache while {@link #isRecording()} is true.
+     */
+    void record(Change change) {
     }
 
     // util methods
@@ -106,6 +500,41 @@ public class QuickCache implements ReadOnlyQuickCache {
         return flashcards.asUnmodifiableObservableList();
     }
 
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public KeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
+    public FlashcardColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns a number that changes whenever the flashcards or their statistics change,
+     * so that callers can tell whether this {@code QuickCache} was modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the sum of the statistics of the flashcards that have all of the given {@code tags},
+     * or of all flashcards if {@code tags} is empty.
+     */
+    public Statistics getAggregatedStatistics(Set<Tag> tags) {
+        requireNonNull(tags);
+        if (tags.isEmpty()) {
+            return tagIndex.getTotalStatistics();
+        }
+        if (tags.size() == 1) {
+            return tagIndex.getTotalStatistics(tags.iterator().next());
+        }
+        return columns.sumStatistics(tagIndex.getIdsWithAllTags(tags));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -117,4 +546,174 @@ public class QuickCache implements ReadOnlyQuickCache {
     public int hashCode() {
         return flashcards.hashCode();
     }
+
+    /**
+     * A change made to a QuickCache, which can be undone and redone on the QuickCache it was made to.
+     * Changes only hold the flashcards that they affect, and find them in the QuickCache by id.
+     */
+    interface Change {
+        void undo(QuickCache quickCache);
+
+        void redo(QuickCache quickCache);
+    }
+
+    /**
+     * Flashcards were inserted at the given indexes.
+     */
+    private static class Insertion implements Change {
+        private final int[] indexes;
+        private final List<Flashcard> flashcards;
+        private final List<Statistics> statistics;
+
+        Insertion(int[] indexes, List<Flashcard> flashcards, List<Statistics> statistics) {
+            this.indexes = indexes;
+            this.flashcards = flashcards;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void undo(QuickCache quickCache) {
+            quickCache.remove(indexes);
+        }
+
+        @Override
+        public void redo(QuickCache quickCache) {
+            quickCache.insert(indexes, flashcards, statistics);
+        }
+    }
+
+    /**
+     * Flashcards were removed from the given indexes.
+     */
+    private static class Removal implements Change {
+        private final Insertion insertion;
+
+        Removal(int[] indexes, List<Flashcard> flashcards, List<Statistics> statistics) {
+            this.insertion = new Insertion(indexes, flashcards, statistics);
+        }
+
+        List<Flashcard> getFlashcards() {
+            return insertion.flashcards;
+        }
+
+        boolean isEmpty() {
+            return insertion.flashcards.isEmpty();
+        }
+
+        @Override
+        public void undo(QuickCache quickCache) {
+            insertion.redo(quickCache);
+        }
+
+        @Override
+        public void redo(QuickCache quickCache) {
+            insertion.undo(quickCache);
+        }
+    }
+
+    /**
+     * Flashcards were replaced by flashcards with the same ids.
+     */
+    private static class Replacement implements Change {
+        private final List<Flashcard> oldFlashcards;
+        private final List<Statistics> oldStatistics;
+        private final List<Flashcard> newFlashcards;
+        private final List<Statistics> newStatistics;
+
+        Replacement(List<Flashcard> oldFlashcards, List<Statistics> oldStatistics,
+                List<Flashcard> newFlashcards, List<Statistics> newStatistics) {
+            this.oldFlashcards = oldFlashcards;
+            this.oldStatistics = oldStatistics;
+            this.newFlashcards = newFlashcards;
+            this.newStatistics = newStatistics;
+        }
+
+        @Override
+        public void undo(QuickCache quickCache) {
+            quickCache.replace(quickCache.getStoredFlashcards(newFlashcards), oldFlashcards, oldStatistics);
+        }
+
+        @Override
+        public void redo(QuickCache quickCache) {
+            quickCache.replace(quickCache.getStoredFlashcards(oldFlashcards), newFlashcards, newStatistics);
+        }
+    }
+
+    /**
+     * The result of a test was added to the statistics of the flashcard with the given id.
+     */
+    private static class TestResult implements Change {
+        private final int id;
+        private final boolean isCorrect;
+
+        TestResult(int id, boolean isCorrect) {
+            this.id = id;
+            this.isCorrect = isCorrect;
+        }
+
+        @Override
+        public void undo(QuickCache quickCache) {
+            Statistics statistics = quickCache.getFlashcardWithId(id).getStatistics();
+            quickCache.restoreStatistics(id, new Statistics(statistics.getTimesTested() - 1,
+                    statistics.getTimesTestedCorrect() - (isCorrect ? 1 : 0)));
+        }
+
+        @Override
+        public void redo(QuickCache quickCache) {
+            quickCache.recordTestResult(quickCache.getFlashcardWithId(id), isCorrect);
+        }
+    }
+
+    /**
+     * Several changes were made together, in order.
+     */
+    private static class Merge implements Change {
+        private final List<Change> changes;
+
+        Merge(List<Change> changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void undo(QuickCache quickCache) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(quickCache);
+            }
+        }
+
+        @Override
+        public void redo(QuickCache quickCache) {
+            for (Change change : changes) {
+                change.redo(quickCache);
+            }
+        }
+    }
+
+    /**
+     * All flashcards were replaced.
+     */
+    private static class Reset implements Change {
+        private final List<Flashcard> oldFlashcards;
+        private final List<Statistics> oldStatistics;
+        private final List<Flashcard> newFlashcards;
+        private final List<Statistics> newStatistics;
+
+        Reset(List<Flashcard> oldFlashcards, List<Statistics> oldStatistics,
+                List<Flashcard> newFlashcards, List<Statistics> newStatistics) {
+            this.oldFlashcards = oldFlashcards;
+            this.oldStatistics = oldStatistics;
+            this.newFlashcards = newFlashcards;
+            this.newStatistics = newStatistics;
+        }
+
+        @Override
+        public void undo(QuickCache quickCache) {
+            quickCache.reset(oldFlashcards, oldStatistics);
+        }
+
+        @Override
+        public void redo(QuickCache quickCache) {
+            quickCache.reset(newFlashcards, newStatistics);
+        }
+    }
 }
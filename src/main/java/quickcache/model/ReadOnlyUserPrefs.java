@@ -2,6 +2,7 @@ package quickcache.model;
 
 import java.nio.file.Path;
 
+import quickcache.commons.core.DataFileFormat;
 import quickcache.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getQuickCacheFilePath();
 
+    int getHistoryDepth();
+
+    DataFileFormat getDataFileFormat();
+
 }
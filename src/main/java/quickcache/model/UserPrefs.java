@@ -1,11 +1,13 @@
 package quickcache.model;
 
 import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import quickcache.commons.core.DataFileFormat;
 import quickcache.commons.core.GuiSettings;
 
 /**
@@ -15,6 +17,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path quickCacheFilePath = Paths.get("data", "quickcache.json");
+    private int historyDepth = 100;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +41,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setQuickCacheFilePath(newUserPrefs.getQuickCacheFilePath());
+        setHistoryDepth(newUserPrefs.getHistoryDepth());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +63,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.quickCacheFilePath = quickCacheFilePath;
     }
 
+    public int getHistoryDepth() {
+        return historyDepth;
+    }
+
+    public void setHistoryDepth(int historyDepth) {
+        checkArgument(historyDepth >= 0, "History depth should not be negative");
+        this.historyDepth = historyDepth;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +93,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && quickCacheFilePath.equals(o.quickCacheFilePath);
+                && quickCacheFilePath.equals(o.quickCacheFilePath)
+                && historyDepth == o.historyDepth
+                && dataFileFormat == o.dataFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, quickCacheFilePath);
+        return Objects.hash(guiSettings, quickCacheFilePath, historyDepth, dataFileFormat);
     }
 
     @Override
@@ -82,6 +108,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + quickCacheFilePath);
+        sb.append("\nUndo history depth : " + historyDepth);
+        sb.append("\nData file format : " + dataFileFormat);
         return sb.toString();
     }
 
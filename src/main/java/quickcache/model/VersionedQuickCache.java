@@ -0,0 +1,155 @@
+package quickcache.model;
+
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+
+import quickcache.model.flashcard.Flashcard;
+
+/**
+ * A {@code QuickCache} that keeps a history of its states, so that changes to it can be undone and redone.
+ * Instead of a copy of every state, each entry of the history holds only the changes that lead to the next
+ * state, together with the flashcards and statistics they affect.
+ * At most {@code historyDepth} states are kept to undo to; older ones are forgotten.
+ */
+public class VersionedQuickCache extends QuickCache {
+
+    private final Deque<List<Change>> undoStack = new ArrayDeque<>();
+    private final Deque<List<Change>> redoStack = new ArrayDeque<>();
+    private final int historyDepth;
+    private List<Change> pendingChanges = new ArrayList<>();
+    private boolean isReplaying;
+    private boolean isLoading;
+
+    /**
+     * Creates a {@code VersionedQuickCache} using the Flashcards in the {@code toBeCopied},
+     * keeping at most {@code historyDepth} states to undo to.
+     */
+    public VersionedQuickCache(ReadOnlyQuickCache toBeCopied, int historyDepth) {
+        checkArgument(historyDepth >= 0, "History depth should not be negative");
+        this.historyDepth = historyDepth;
+        resetData(toBeCopied);
+        pendingChanges.clear();
+    }
+
+    /**
+     * Replaces the flashcards with those of {@code quickCache} and forgets the history, so that the new flashcards
+     * are the state the history starts from.
+     */
+    public void loadQuickCache(ReadOnlyQuickCache quickCache) {
+        requireNonNull(quickCache);
+        isLoading = true;
+        try {
+            resetData(quickCache);
+        } finally {
+            isLoading = false;
+        }
+        pendingChanges.clear();
+        undoStack.clear();
+        redoStack.clear();
+    }
+
+    /**
+     * Adds {@code flashcards} to the state the history starts from, so that adding them cannot be undone.
+     * The flashcards that are the same as a flashcard already in the QuickCache, or an earlier flashcard in
+     * {@code flashcards}, are skipped. There must be no changes to undo or redo.
+     *
+     * @return the number of flashcards added.
+     */
+    public int loadFlashcards(Collection<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        assert !canUndo() && !canRedo();
+        List<Flashcard> newFlashcards = filterNewFlashcards(flashcards);
+        isLoading = true;
+        try {
+            addFlashcards(newFlashcards);
+        } finally {
+            isLoading = false;
+        }
+        return newFlashcards.size();
+    }
+
+    /**
+     * Saves the changes made since the last commit as a new state that can be undone to.
+     * Discards the states that could be redone to, if there were any changes.
+     */
+    public void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        undoStack.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        while (undoStack.size() > historyDepth) {
+            undoStack.removeLast();
+        }
+        redoStack.clear();
+    }
+
+    /**
+     * Returns true if there is a previous state to undo to.
+     */
+    public boolean canUndo() {
+        return !undoStack.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone state to redo to.
+     */
+    public boolean canRedo() {
+        return pendingChanges.isEmpty() && !redoStack.isEmpty();
+    }
+
+    /**
+     * Restores the previous state.
+     * There must be a previous state to undo to.
+     */
+    public void undo() {
+        commit();
+        assert canUndo();
+        List<Change> changes = undoStack.pop();
+        isReplaying = true;
+        try {
+            ListIterator<Change> iterator = changes.listIterator(changes.size());
+            while (iterator.hasPrevious()) {
+                iterator.previous().undo(this);
+            }
+        } finally {
+            isReplaying = false;
+        }
+        redoStack.push(changes);
+    }
+
+    /**
+     * Restores the most recently undone state.
+     * There must be an undone state to redo to.
+     */
+    public void redo() {
+        assert canRedo();
+        List<Change> changes = redoStack.pop();
+        isReplaying = true;
+        try {
+            for (Change change : changes) {
+                change.redo(this);
+            }
+        } finally {
+            isReplaying = false;
+        }
+        undoStack.push(changes);
+    }
+
+    @Override
+    boolean isRecording() {
+        return !isReplaying && !isLoading && historyDepth > 0;
+    }
+
+    @Override
+    void record(Change change) {
+        pendingChanges.add(change);
+    }
+}
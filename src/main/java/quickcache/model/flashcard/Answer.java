@@ -74,6 +74,11 @@ public class Answer {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
     @Override
     public String toString() {
         return value;
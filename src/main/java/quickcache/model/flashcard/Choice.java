@@ -64,4 +64,9 @@ public class Choice {
             return false;
         }
     }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
 }
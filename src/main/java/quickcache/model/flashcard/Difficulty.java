@@ -2,8 +2,17 @@ package quickcache.model.flashcard;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
 import quickcache.commons.util.AppUtil;
 
+/**
+ * Represents the Difficulty of a Flashcard.
+ * There is exactly one {@code Difficulty} for each of the {@link Difficulties}, obtained through
+ * {@link #of(String)} or {@link #of(Difficulties)}, so difficulties can be compared by reference.
+ */
 public class Difficulty {
 
     public static final String MESSAGE_CONSTRAINTS = "Difficulty names should only be "
@@ -11,51 +20,67 @@ public class Difficulty {
             + "No spaces allowed. "
             + "Difficulty will be set to UNSPECIFIED if input is empty or UNSPECIFIED.";
 
+    private static final Map<Difficulties, Difficulty> INSTANCES = new EnumMap<>(Difficulties.class);
+    private static final Map<String, Difficulty> INSTANCES_BY_NAME = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (Difficulties level : Difficulties.values()) {
+            Difficulty difficulty = new Difficulty(level);
+            INSTANCES.put(level, difficulty);
+            INSTANCES_BY_NAME.put(level.name(), difficulty);
+        }
+    }
+
     public final String value;
+    private final Difficulties level;
+
+    private Difficulty(Difficulties level) {
+        this.level = level;
+        this.value = level.name();
+    }
 
     /**
-     * Constructs a {@code Difficulty}.
+     * Returns the {@code Difficulty} with the given name, ignoring case.
      *
      * @param value A valid difficulty.
      */
-    public Difficulty(String value) {
+    public static Difficulty of(String value) {
         requireNonNull(value);
-        AppUtil.checkArgument(isValidDifficultyName(value), MESSAGE_CONSTRAINTS);
-        boolean isValidInput = isValidDifficultyName(value);
-        assert isValidInput;
-        this.value = value.toUpperCase();
+        Difficulty difficulty = INSTANCES_BY_NAME.get(value);
+        AppUtil.checkArgument(difficulty != null, MESSAGE_CONSTRAINTS);
+        return difficulty;
     }
 
     /**
-     * Constructs a {@code Difficulty}.
-      */
-    public Difficulty() {
-        this.value = Difficulties.UNSPECIFIED.name();
+     * Returns the {@code Difficulty} of the given {@code level}.
+     */
+    public static Difficulty of(Difficulties level) {
+        requireNonNull(level);
+        return INSTANCES.get(level);
     }
 
     /**
-     * Returns true if a given string is a valid tag name.
+     * Returns the {@code Difficulty} of a flashcard whose difficulty was not given.
+     */
+    public static Difficulty unspecified() {
+        return of(Difficulties.UNSPECIFIED);
+    }
+
+    /**
+     * Returns true if a given string is a valid difficulty name.
      */
     public static boolean isValidDifficultyName(String test) {
-        String uppercaseTest = test.toUpperCase();
-        for (Difficulties difficultyLevel : Difficulties.values()) {
-            if (difficultyLevel.name().equals(uppercaseTest)) {
-                return true;
-            }
-        }
-        return false;
+        return INSTANCES_BY_NAME.containsKey(test);
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Difficulty // instanceof handles nulls
-                && value.equals(((Difficulty) other).value)); // state check
+        return other == this; // there is only one instance for each level
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return level.ordinal();
     }
 
     /**
@@ -68,4 +93,8 @@ public class Difficulty {
     public String getValue() {
         return value;
     }
+
+    public Difficulties getLevel() {
+        return level;
+    }
 }
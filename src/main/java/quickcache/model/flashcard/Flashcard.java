@@ -1,17 +1,24 @@
 package quickcache.model.flashcard;
 
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * Represents a Flashcard. Each Flashcard will contain one question and
  * one difficulty and one statistics. In addition, it can have multiple tags.
+ * A Flashcard stored in a QuickCache also carries a stable id, which does not take part in equality,
+ * and reads its statistics from the {@code FlashcardColumns} of the QuickCache.
  */
 public class Flashcard {
 
+    public static final int NO_ID = -1;
+
     private final Question question;
     private final Set<Tag> tags;
     private final Difficulty difficulty;
     private final Statistics statistics;
+    private final int id;
+    private final FlashcardColumns columns;
 
     /**
      * A constructor to create flashcard object.
@@ -22,8 +29,10 @@ public class Flashcard {
     public Flashcard(Question question, Set<Tag> tags) {
         this.question = question;
         this.tags = tags;
-        this.difficulty = new Difficulty();
-        this.statistics = new Statistics();
+        this.difficulty = Difficulty.unspecified();
+        this.statistics = Statistics.ZERO;
+        this.id = NO_ID;
+        this.columns = null;
     }
 
     /**
@@ -36,8 +45,10 @@ public class Flashcard {
     public Flashcard(Question question, Set<Tag> tags, Statistics statistics) {
         this.question = question;
         this.tags = tags;
-        this.difficulty = new Difficulty();
+        this.difficulty = Difficulty.unspecified();
         this.statistics = statistics;
+        this.id = NO_ID;
+        this.columns = null;
     }
 
     /**
@@ -51,7 +62,9 @@ public class Flashcard {
         this.question = question;
         this.tags = tags;
         this.difficulty = difficulty;
-        this.statistics = new Statistics();
+        this.statistics = Statistics.ZERO;
+        this.id = NO_ID;
+        this.columns = null;
     }
 
     /**
@@ -67,6 +80,38 @@ public class Flashcard {
         this.tags = tags;
         this.difficulty = difficulty;
         this.statistics = statistics;
+        this.id = NO_ID;
+        this.columns = null;
+    }
+
+    /**
+     * A constructor to create flashcard object.
+     *
+     * @param question Question of the flashcard.
+     * @param tags Tags of the flashcard.
+     * @param difficulty Difficulty of the flashcard.
+     * @param statistics Statistics of the flashcard.
+     * @param id Id of the flashcard in its QuickCache.
+     */
+    public Flashcard(Question question, Set<Tag> tags, Difficulty difficulty, Statistics statistics, int id) {
+        this.question = question;
+        this.tags = tags;
+        this.difficulty = difficulty;
+        this.statistics = statistics;
+        this.id = id;
+        this.columns = null;
+    }
+
+    /**
+     * Creates a flashcard with the given id that reads its statistics from {@code columns}.
+     */
+    Flashcard(Question question, Set<Tag> tags, Difficulty difficulty, FlashcardColumns columns, int id) {
+        this.question = question;
+        this.tags = tags;
+        this.difficulty = difficulty;
+        this.statistics = null;
+        this.id = id;
+        this.columns = columns;
     }
 
     /**
@@ -162,21 +207,42 @@ public class Flashcard {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(question, tags, difficulty, getStatistics());
+    }
+
     public Statistics getStatistics() {
-        return statistics;
+        return columns == null ? statistics : columns.getStatistics(id);
     }
 
-    public Flashcard getFlashcardAfterClearStatistics() {
-        return new Flashcard(question, tags, difficulty, new Statistics());
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this flashcard has been given an id by a QuickCache.
+     */
+    public boolean hasId() {
+        return id != NO_ID;
     }
 
-    public Flashcard getFlashcardAfterTestSuccess() {
-        Statistics newStats = statistics.incrementTimesTested().incrementTimesTestedCorrect();
-        return new Flashcard(question, tags, difficulty, newStats);
+    /**
+     * Returns true if this flashcard reads its statistics from {@code columns}.
+     */
+    boolean isAttachedTo(FlashcardColumns columns) {
+        return this.columns != null && this.columns == columns;
     }
 
-    public Flashcard getFlashcardAfterTestFailure() {
-        Statistics newStats = statistics.incrementTimesTested();
-        return new Flashcard(question, tags, difficulty, newStats);
+    /**
+     * Returns a copy of this flashcard with the given {@code id}.
+     * The copy holds its own statistics.
+     */
+    public Flashcard withId(int id) {
+        return new Flashcard(question, tags, difficulty, getStatistics(), id);
+    }
+
+    public Flashcard getFlashcardAfterClearStatistics() {
+        return new Flashcard(question, tags, difficulty, Statistics.ZERO, id);
     }
 }
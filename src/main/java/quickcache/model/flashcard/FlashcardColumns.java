@@ -0,0 +1,140 @@
+package quickcache.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Stores the test statistics and difficulties of the flashcards in a QuickCache in primitive arrays,
+ * one column per field, indexed by flashcard id.
+ * A flashcard attached to a {@code FlashcardColumns} reads its statistics from the columns,
+ * so that recording a test result only has to update a counter instead of replacing the flashcard.
+ * Scans over many flashcards, such as summing statistics or finding the flashcards of a difficulty,
+ * are loops over the columns instead of over the flashcards.
+ * The values of an id are kept after it is removed, so a removed flashcard keeps reading the statistics
+ * it had when it was removed. Such an id should not be stored again for a different flashcard.
+ */
+public class FlashcardColumns {
+
+    private int[] timesTested = new int[0];
+    private int[] timesTestedCorrect = new int[0];
+    private byte[] difficulties = new byte[0];
+    private final BitSet usedIds = new BitSet();
+    private final BitSet storedIds = new BitSet();
+    private int version;
+
+    /**
+     * Returns a copy of {@code flashcard} with the given {@code id} that reads its statistics from these columns.
+     * The statistics of the copy are undefined until they are stored with
+     * {@link #store(int, Statistics, Difficulty)}.
+     */
+    public Flashcard attach(Flashcard flashcard, int id) {
+        requireNonNull(flashcard);
+        assert id >= 0;
+        return new Flashcard(flashcard.getQuestion(), flashcard.getTags(), flashcard.getDifficulty(), this, id);
+    }
+
+    /**
+     * Stores {@code statistics} and {@code difficulty} as those of the flashcard with the given {@code id}.
+     */
+    public void store(int id, Statistics statistics, Difficulty difficulty) {
+        requireNonNull(statistics);
+        requireNonNull(difficulty);
+        if (id >= timesTested.length) {
+            int newLength = Math.max(id + 1, timesTested.length * 2);
+            timesTested = Arrays.copyOf(timesTested, newLength);
+            timesTestedCorrect = Arrays.copyOf(timesTestedCorrect, newLength);
+            difficulties = Arrays.copyOf(difficulties, newLength);
+        }
+        timesTested[id] = statistics.getTimesTested();
+        timesTestedCorrect[id] = statistics.getTimesTestedCorrect();
+        difficulties[id] = (byte) difficulty.getLevel().ordinal();
+        usedIds.set(id);
+        storedIds.set(id);
+        version++;
+    }
+
+    /**
+     * Marks the flashcard with the given {@code id} as no longer stored.
+     * Its statistics can still be read.
+     */
+    public void remove(int id) {
+        storedIds.clear(id);
+        version++;
+    }
+
+    /**
+     * Returns true if {@code flashcard} is attached to these columns and is stored in them.
+     */
+    public boolean isStored(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        return flashcard.isAttachedTo(this) && storedIds.get(flashcard.getId());
+    }
+
+    /**
+     * Returns true if {@code flashcard} can be stored in these columns under its own id.
+     * That is the case if the id is not stored, and was either never used or used by {@code flashcard} itself.
+     */
+    public boolean canStoreWithOwnId(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        int id = flashcard.getId();
+        return flashcard.hasId() && !storedIds.get(id) && (!usedIds.get(id) || flashcard.isAttachedTo(this));
+    }
+
+    /**
+     * Records the result of a test of the stored flashcard with the given {@code id}.
+     */
+    public void recordTestResult(int id, boolean isCorrect) {
+        assert storedIds.get(id);
+        timesTested[id]++;
+        if (isCorrect) {
+            timesTestedCorrect[id]++;
+        }
+    }
+
+    public Statistics getStatistics(int id) {
+        assert usedIds.get(id);
+        return Statistics.of(timesTested[id], timesTestedCorrect[id]);
+    }
+
+    /**
+     * Returns the sum of the statistics of the stored flashcards with the given {@code ids}.
+     */
+    public Statistics sumStatistics(BitSet ids) {
+        requireNonNull(ids);
+        int sumTimesTested = 0;
+        int sumTimesTestedCorrect = 0;
+        for (int id = ids.nextSetBit(0); id >= 0 && id < timesTested.length; id = ids.nextSetBit(id + 1)) {
+            if (storedIds.get(id)) {
+                sumTimesTested += timesTested[id];
+                sumTimesTestedCorrect += timesTestedCorrect[id];
+            }
+        }
+        return Statistics.of(sumTimesTested, sumTimesTestedCorrect);
+    }
+
+    /**
+     * Returns the ids of the stored flashcards with the given difficulty {@code level}.
+     * The returned {@code BitSet} is a copy that the caller is free to modify.
+     */
+    public BitSet getIdsWithDifficulty(Difficulties level) {
+        requireNonNull(level);
+        byte ordinal = (byte) level.ordinal();
+        BitSet ids = new BitSet(difficulties.length);
+        for (int id = 0; id < difficulties.length; id++) {
+            if (difficulties[id] == ordinal) {
+                ids.set(id);
+            }
+        }
+        ids.and(storedIds);
+        return ids;
+    }
+
+    /**
+     * Returns a number that changes whenever flashcards are stored in or removed from the columns.
+     */
+    public int getVersion() {
+        return version;
+    }
+}
@@ -1,22 +1,51 @@
 package quickcache.model.flashcard;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Predicate;
 
 /**
  * Tests that the {@code Flashcards}'s {@code Tag}s matches any of the tags given.
+ * If it is given a {@code TagIndex}, the matching flashcards are looked up in the index
+ * instead of checking the tags of each flashcard.
  */
 public class FlashcardContainsTagPredicate implements Predicate<Flashcard> {
 
     private final Set<Tag> tagsToMatch;
+    private final TagIndex tagIndex;
+    private BitSet matchingIds;
+    private int matchingIdsVersion;
 
     public FlashcardContainsTagPredicate(Set<Tag> tagsToMatch) {
+        this(tagsToMatch, null);
+    }
+
+    private FlashcardContainsTagPredicate(Set<Tag> tagsToMatch, TagIndex tagIndex) {
         this.tagsToMatch = tagsToMatch;
+        this.tagIndex = tagIndex;
+    }
+
+    /**
+     * Returns a predicate that matches the same flashcards as this one by looking them up in {@code tagIndex}.
+     * {@code tagIndex} must index the flashcards that the returned predicate will be tested on.
+     */
+    public FlashcardContainsTagPredicate withTagIndex(TagIndex tagIndex) {
+        requireNonNull(tagIndex);
+        return new FlashcardContainsTagPredicate(tagsToMatch, tagIndex);
     }
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return flashcard.containsAllTags(tagsToMatch);
+        if (tagIndex == null || !flashcard.hasId() || tagsToMatch.isEmpty()) {
+            return flashcard.containsAllTags(tagsToMatch);
+        }
+        if (matchingIds == null || matchingIdsVersion != tagIndex.getVersion()) {
+            matchingIds = tagIndex.getIdsWithAllTags(tagsToMatch);
+            matchingIdsVersion = tagIndex.getVersion();
+        }
+        return matchingIds.get(flashcard.getId());
     }
 
     @Override
@@ -0,0 +1,57 @@
+package quickcache.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Flashcard}'s {@code Difficulty} is the given difficulty.
+ * If it is given a {@code FlashcardColumns}, the matching flashcards are found with a scan over the
+ * difficulty column instead of checking the difficulty of each flashcard.
+ */
+public class FlashcardHasDifficultyPredicate implements Predicate<Flashcard> {
+
+    private final Difficulty difficulty;
+    private final FlashcardColumns columns;
+    private BitSet matchingIds;
+    private int matchingIdsVersion;
+
+    public FlashcardHasDifficultyPredicate(Difficulty difficulty) {
+        this(difficulty, null);
+    }
+
+    private FlashcardHasDifficultyPredicate(Difficulty difficulty, FlashcardColumns columns) {
+        requireNonNull(difficulty);
+        this.difficulty = difficulty;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns a predicate that matches the same flashcards as this one by looking them up in {@code columns}.
+     * Flashcards that are not stored in {@code columns} are checked directly.
+     */
+    public FlashcardHasDifficultyPredicate withColumns(FlashcardColumns columns) {
+        requireNonNull(columns);
+        return new FlashcardHasDifficultyPredicate(difficulty, columns);
+    }
+
+    @Override
+    public boolean test(Flashcard flashcard) {
+        if (columns == null || !columns.isStored(flashcard)) {
+            return flashcard.getDifficulty().equals(difficulty);
+        }
+        if (matchingIds == null || matchingIdsVersion != columns.getVersion()) {
+            matchingIds = columns.getIdsWithDifficulty(difficulty.getLevel());
+            matchingIdsVersion = columns.getVersion();
+        }
+        return matchingIds.get(flashcard.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FlashcardHasDifficultyPredicate // instanceof handles nulls
+                && difficulty.equals(((FlashcardHasDifficultyPredicate) other).difficulty)); // state check
+    }
+}
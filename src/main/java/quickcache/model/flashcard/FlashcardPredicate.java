@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Compiles all predicates for testing {@code Flashcard}.
@@ -46,6 +47,31 @@ public class FlashcardPredicate implements Predicate<Flashcard> {
         return new FlashcardPredicate(predicates);
     }
 
+    /**
+     * Returns a predicate that matches the same flashcards as this one,
+     * answering its tag conditions from {@code tagIndex}, its question conditions from {@code keywordIndex}
+     * and its difficulty conditions from {@code columns}.
+     */
+    public FlashcardPredicate withIndexes(TagIndex tagIndex, KeywordIndex keywordIndex, FlashcardColumns columns) {
+        requireNonNull(tagIndex);
+        requireNonNull(keywordIndex);
+        requireNonNull(columns);
+        List<Predicate<Flashcard>> indexedPredicates = predicates.stream()
+                .map(predicate -> {
+                    if (predicate instanceof FlashcardContainsTagPredicate) {
+                        return ((FlashcardContainsTagPredicate) predicate).withTagIndex(tagIndex);
+                    } else if (predicate instanceof QuestionContainsKeywordsPredicate) {
+                        return ((QuestionContainsKeywordsPredicate) predicate).withKeywordIndex(keywordIndex);
+                    } else if (predicate instanceof FlashcardHasDifficultyPredicate) {
+                        return ((FlashcardHasDifficultyPredicate) predicate).withColumns(columns);
+                    } else {
+                        return predicate;
+                    }
+                })
+                .collect(Collectors.toList());
+        return new FlashcardPredicate(indexedPredicates);
+    }
+
     @Override
     public boolean test(Flashcard flashcard) {
         requireNonNull(flashcard);
@@ -0,0 +1,139 @@
+package quickcache.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes flashcards by the text of their questions, ignoring the case of ASCII letters.
+ * Each trigram (sequence of three characters) in a question is mapped to a posting list of the ids of the
+ * flashcards whose questions contain it, held as a {@code BitSet}. The flashcards whose questions may contain
+ * a keyword are found by intersecting the posting lists of the keyword's trigrams, and only those candidates
+ * are then checked against the question text.
+ * Only flashcards with an id can be indexed.
+ */
+public class KeywordIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<Integer, String> questions = new HashMap<>();
+    private final BitSet allIds = new BitSet();
+    private int version;
+
+    /**
+     * Adds the question of {@code flashcard} to the index.
+     */
+    public void add(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        assert flashcard.hasId();
+        int id = flashcard.getId();
+        String question = toLowerCase(flashcard.getQuestion().getValue());
+        questions.put(id, question);
+        allIds.set(id);
+        for (int i = 0; i + GRAM_LENGTH <= question.length(); i++) {
+            postings.computeIfAbsent(question.substring(i, i + GRAM_LENGTH), unused -> new BitSet()).set(id);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the question of {@code flashcard} from the index.
+     */
+    public void remove(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        assert flashcard.hasId();
+        int id = flashcard.getId();
+        String question = questions.remove(id);
+        if (question == null) {
+            return;
+        }
+        allIds.clear(id);
+        for (int i = 0; i + GRAM_LENGTH <= question.length(); i++) {
+            String gram = question.substring(i, i + GRAM_LENGTH);
+            BitSet ids = postings.get(gram);
+            if (ids == null) {
+                continue;
+            }
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes all flashcards from the index.
+     */
+    public void clear() {
+        postings.clear();
+        questions.clear();
+        allIds.clear();
+        version++;
+    }
+
+    /**
+     * Returns the ids of the indexed flashcards whose questions contain all of the given {@code keywords},
+     * ignoring case. Each keyword must be a single word, so containing it is the same as it being part of
+     * some word of the question.
+     * The returned {@code BitSet} is a copy that the caller is free to modify.
+     */
+    public BitSet getIdsContainingAll(List<String> keywords) {
+        requireNonNull(keywords);
+        String[] preppedKeywords = keywords.stream().map(String::trim).map(KeywordIndex::toLowerCase)
+                .toArray(String[]::new);
+
+        BitSet candidates = (BitSet) allIds.clone();
+        for (String keyword : preppedKeywords) {
+            for (int i = 0; i + GRAM_LENGTH <= keyword.length() && !candidates.isEmpty(); i++) {
+                BitSet posting = postings.get(keyword.substring(i, i + GRAM_LENGTH));
+                if (posting == null) {
+                    return new BitSet();
+                }
+                candidates.and(posting);
+            }
+        }
+
+        BitSet ids = new BitSet();
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (containsAll(questions.get(id), preppedKeywords)) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the index change.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private static boolean containsAll(String question, String[] keywords) {
+        for (String keyword : keywords) {
+            if (!question.contains(keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lowercases the ASCII letters of {@code text}, leaving the other characters as they are.
+     * This ignores case the way {@code StringUtil#containsWordAsSubsetIgnoreCase(String, String)} does.
+     */
+    private static String toLowerCase(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] = (char) (chars[i] + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+}
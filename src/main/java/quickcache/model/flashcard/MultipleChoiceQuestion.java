@@ -3,6 +3,7 @@ package quickcache.model.flashcard;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import quickcache.commons.core.index.Index;
@@ -126,6 +127,11 @@ public class MultipleChoiceQuestion implements Question {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(value, answer) + Arrays.hashCode(choices);
+    }
+
     @Override
     public String toString() {
         return value;
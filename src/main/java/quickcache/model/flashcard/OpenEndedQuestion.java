@@ -1,5 +1,6 @@
 package quickcache.model.flashcard;
 
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -55,6 +56,11 @@ public class OpenEndedQuestion implements Question {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, answer);
+    }
+
     public Optional<Choice[]> getChoices() {
         return Optional.empty();
     }
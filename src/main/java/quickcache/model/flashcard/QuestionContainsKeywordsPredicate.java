@@ -1,5 +1,8 @@
 package quickcache.model.flashcard;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -7,19 +10,45 @@ import quickcache.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Flashcards}'s {@code Question} matches any of the keywords given.
+ * If it is given a {@code KeywordIndex}, the matching flashcards are looked up in the index
+ * instead of checking the question of each flashcard.
  */
 public class QuestionContainsKeywordsPredicate implements Predicate<Flashcard> {
     private final List<String> keywords;
+    private final KeywordIndex keywordIndex;
+    private BitSet matchingIds;
+    private int matchingIdsVersion;
 
     public QuestionContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private QuestionContainsKeywordsPredicate(List<String> keywords, KeywordIndex keywordIndex) {
         this.keywords = keywords;
+        this.keywordIndex = keywordIndex;
+    }
+
+    /**
+     * Returns a predicate that matches the same flashcards as this one by looking them up in {@code keywordIndex}.
+     * {@code keywordIndex} must index the flashcards that the returned predicate will be tested on.
+     */
+    public QuestionContainsKeywordsPredicate withKeywordIndex(KeywordIndex keywordIndex) {
+        requireNonNull(keywordIndex);
+        return new QuestionContainsKeywordsPredicate(keywords, keywordIndex);
     }
 
     @Override
     public boolean test(Flashcard flashcard) {
-        return keywords.stream()
-                .allMatch(keyword ->
-                        StringUtil.containsWordAsSubsetIgnoreCase(flashcard.getQuestion().toString(), keyword));
+        if (keywordIndex == null || !flashcard.hasId()) {
+            return keywords.stream()
+                    .allMatch(keyword ->
+                            StringUtil.containsWordAsSubsetIgnoreCase(flashcard.getQuestion().toString(), keyword));
+        }
+        if (matchingIds == null || matchingIdsVersion != keywordIndex.getVersion()) {
+            matchingIds = keywordIndex.getIdsContainingAll(keywords);
+            matchingIdsVersion = keywordIndex.getVersion();
+        }
+        return matchingIds.get(flashcard.getId());
     }
 
     @Override
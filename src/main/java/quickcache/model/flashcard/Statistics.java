@@ -1,5 +1,7 @@
 package quickcache.model.flashcard;
 
+import java.util.Objects;
+
 /**
  * A class to store information of a flashcard's statistics.
  */
@@ -8,6 +10,9 @@ public class Statistics {
     public static final String TIMES_TESTED_LESS_THAN_TIMES_TESTED_CORRECT_CONSTRAINT = "Times tested should be more "
             + "than times tested correctly";
 
+    /** Statistics of a flashcard that has never been tested, shared by all such flashcards. */
+    public static final Statistics ZERO = new Statistics();
+
     private final int timesTested;
     private final int timesTestedCorrect;
 
@@ -36,6 +41,19 @@ public class Statistics {
         this.timesTestedCorrect = timesTestedCorrect;
     }
 
+    /**
+     * Returns statistics with the given counts, sharing {@link #ZERO} for a flashcard that has never been tested.
+     *
+     * @param timesTested Number of times the flashcard is tested.
+     * @param timesTestedCorrect Number of times the flashcard is tested correctly.
+     */
+    public static Statistics of(int timesTested, int timesTestedCorrect) {
+        if (timesTested == 0 && timesTestedCorrect == 0) {
+            return ZERO;
+        }
+        return new Statistics(timesTested, timesTestedCorrect);
+    }
+
     public Statistics incrementTimesTested() {
         return new Statistics(timesTested + 1, timesTestedCorrect);
     }
@@ -80,6 +98,11 @@ public class Statistics {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(timesTested, timesTestedCorrect);
+    }
+
     @Override
     public String toString() {
         return String.format("Times Correct: %d\nTimes Tested: %d\nCorrect Rate: %.2f%%\n",
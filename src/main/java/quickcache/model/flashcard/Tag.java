@@ -2,11 +2,16 @@ package quickcache.model.flashcard;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import quickcache.commons.util.AppUtil;
 
 /**
  * Represents a Tag in QuickCache.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Tags are interned: {@link #of(String)} returns the same instance for the same name,
+ * so equal tags share one instance and are usually compared by reference.
  */
 public class Tag {
 
@@ -14,17 +19,27 @@ public class Tag {
         + "No spaces allowed. Cannot be empty.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Map<String, Tag> POOL = new ConcurrentHashMap<>();
+
     public final String tagName;
 
+    private Tag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
-     * Constructs a {@code Tag}.
+     * Returns the {@code Tag} with the given name.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
+        Tag tag = POOL.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
         AppUtil.checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return POOL.computeIfAbsent(tagName, Tag::new);
     }
 
     /**
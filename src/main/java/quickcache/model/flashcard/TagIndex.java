@@ -0,0 +1,155 @@
+package quickcache.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes flashcards by their tags.
+ * Each tag is mapped to a posting list of the ids of the flashcards with that tag, held as a {@code BitSet},
+ * so that the flashcards with all of a set of tags can be found by intersecting posting lists.
+ * Running totals of the statistics of the indexed flashcards are also kept, in total and for each tag,
+ * so that the statistics of a tag do not need a scan over the flashcards.
+ * Only flashcards with an id can be indexed.
+ */
+public class TagIndex {
+
+    private final Map<Tag, BitSet> postings = new HashMap<>();
+    private final Map<Tag, Totals> tagTotals = new HashMap<>();
+    private final Totals totals = new Totals();
+    private int version;
+
+    /**
+     * Adds {@code flashcard} to the posting lists of its tags.
+     */
+    public void add(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        assert flashcard.hasId();
+        int id = flashcard.getId();
+        Statistics statistics = flashcard.getStatistics();
+        for (Tag tag : flashcard.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new BitSet()).set(id);
+            tagTotals.computeIfAbsent(tag, unused -> new Totals()).add(statistics, 1);
+        }
+        totals.add(statistics, 1);
+        version++;
+    }
+
+    /**
+     * Removes {@code flashcard} from the posting lists of its tags.
+     */
+    public void remove(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        assert flashcard.hasId();
+        Statistics statistics = flashcard.getStatistics();
+        for (Tag tag : flashcard.getTags()) {
+            BitSet ids = postings.get(tag);
+            if (ids == null || !ids.get(flashcard.getId())) {
+                continue;
+            }
+            ids.clear(flashcard.getId());
+            tagTotals.get(tag).add(statistics, -1);
+            if (ids.isEmpty()) {
+                postings.remove(tag);
+                tagTotals.remove(tag);
+            }
+        }
+        totals.add(statistics, -1);
+        version++;
+    }
+
+    /**
+     * Adds the result of a test of the indexed {@code flashcard} to the statistics totals.
+     */
+    public void recordTestResult(Flashcard flashcard, boolean isCorrect) {
+        requireNonNull(flashcard);
+        assert flashcard.hasId();
+        int correct = isCorrect ? 1 : 0;
+        for (Tag tag : flashcard.getTags()) {
+            Totals tagTotal = tagTotals.get(tag);
+            tagTotal.timesTested++;
+            tagTotal.timesTestedCorrect += correct;
+        }
+        totals.timesTested++;
+        totals.timesTestedCorrect += correct;
+    }
+
+    /**
+     * Removes all flashcards from the index.
+     */
+    public void clear() {
+        postings.clear();
+        tagTotals.clear();
+        totals.timesTested = 0;
+        totals.timesTestedCorrect = 0;
+        version++;
+    }
+
+    /**
+     * Returns the ids of the indexed flashcards that have all of the given {@code tags}.
+     * The returned {@code BitSet} is a copy that the caller is free to modify.
+     */
+    public BitSet getIdsWithAllTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        assert !tags.isEmpty();
+        BitSet ids = null;
+        for (Tag tag : tags) {
+            BitSet posting = postings.get(tag);
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (ids == null) {
+                ids = (BitSet) posting.clone();
+            } else {
+                ids.and(posting);
+            }
+            if (ids.isEmpty()) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the sum of the statistics of all indexed flashcards.
+     */
+    public Statistics getTotalStatistics() {
+        return totals.toStatistics();
+    }
+
+    /**
+     * Returns the sum of the statistics of the indexed flashcards that have the given {@code tag}.
+     */
+    public Statistics getTotalStatistics(Tag tag) {
+        requireNonNull(tag);
+        Totals tagTotal = tagTotals.get(tag);
+        return tagTotal == null ? Statistics.ZERO : tagTotal.toStatistics();
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the index change.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Running totals of the statistics of a group of flashcards.
+     */
+    private static class Totals {
+        private int timesTested;
+        private int timesTestedCorrect;
+
+        void add(Statistics statistics, int sign) {
+            timesTested += sign * statistics.getTimesTested();
+            timesTestedCorrect += sign * statistics.getTimesTestedCorrect();
+        }
+
+        Statistics toStatistics() {
+            return Statistics.of(timesTested, timesTestedCorrect);
+        }
+    }
+}
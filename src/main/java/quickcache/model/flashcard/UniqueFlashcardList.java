@@ -1,10 +1,20 @@
 package quickcache.model.flashcard;
 
 import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
 import static quickcache.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,22 +31,52 @@ import quickcache.model.flashcard.exceptions.FlashcardNotFoundException;
  * However, the removal of a Flashcard uses Flashcard#equals(Object) so
  * as to ensure that the flashcard with exactly the same fields will be removed.
  * <p>
- * Supports a minimal set of list operations.
+ * Every flashcard in the list is indexed by its identity, and by its id if it has one,
+ * so that lookups do not have to scan the list. Removing a single flashcard does not renumber the flashcards after
+ * it straight away: their indexed positions may be ahead of their actual positions by at most the number of such
+ * removals, and are renumbered together once there have been {@code MAX_UNNUMBERED_REMOVALS} of them.
+ * <p>
+ * Supports a minimal set of list operations, some of which also come in a batch form that
+ * changes the backing list only once.
  *
  * @see Flashcard#isSameFlashcard(Flashcard)
  */
 public class UniqueFlashcardList implements Iterable<Flashcard> {
 
+    private static final int MAX_UNNUMBERED_REMOVALS = 64;
+
     private final ObservableList<Flashcard> internalList = FXCollections.observableArrayList();
     private final ObservableList<Flashcard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Integer> positions = new HashMap<>();
+    private final Map<Integer, Integer> idPositions = new HashMap<>();
+    private int unnumberedFrom = Integer.MAX_VALUE;
+    private int unnumberedRemovals = 0;
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument.
      */
     public boolean contains(Flashcard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashcard);
+        return positions.containsKey(new Identity(toCheck));
+    }
+
+    /**
+     * Returns the flashcards in {@code candidates} that are not the same as a flashcard in the list or an earlier
+     * flashcard in {@code candidates}, in the order they are given.
+     */
+    public List<Flashcard> filterNew(Collection<Flashcard> candidates) {
+        requireAllNonNull(candidates);
+        Set<Identity> newIdentities = new HashSet<>(candidates.size() * 2);
+        List<Flashcard> newFlashcards = new ArrayList<>(candidates.size());
+        for (Flashcard flashcard : candidates) {
+            requireNonNull(flashcard);
+            Identity identity = new Identity(flashcard);
+            if (!positions.containsKey(identity) && newIdentities.add(identity)) {
+                newFlashcards.add(flashcard);
+            }
+        }
+        return newFlashcards;
     }
 
     /**
@@ -45,12 +85,168 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void add(Flashcard toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || (toAdd.hasId() && containsId(toAdd.getId()))) {
             throw new DuplicateFlashcardException();
         }
+        index(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change.
+     * None of the flashcards may already exist in the list or appear more than once in {@code toAdd}.
+     */
+    public void addAll(Collection<Flashcard> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Identity> newIdentities = new HashSet<>(toAdd.size() * 2);
+        Set<Integer> newIds = new HashSet<>(toAdd.size() * 2);
+        for (Flashcard flashcard : toAdd) {
+            requireNonNull(flashcard);
+            Identity identity = new Identity(flashcard);
+            if (positions.containsKey(identity) || !newIdentities.add(identity)) {
+                throw new DuplicateFlashcardException();
+            }
+            if (flashcard.hasId() && (containsId(flashcard.getId()) || !newIds.add(flashcard.getId()))) {
+                throw new DuplicateFlashcardException();
+            }
+        }
+
+        int index = internalList.size();
+        for (Flashcard flashcard : toAdd) {
+            index(flashcard, index++);
+        }
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Returns the positions of the flashcards in the list that satisfy {@code predicate}, in ascending order.
+     */
+    public int[] findAll(Predicate<Flashcard> predicate) {
+        requireNonNull(predicate);
+        int[] found = new int[internalList.size()];
+        int count = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            if (predicate.test(internalList.get(i))) {
+                found[count++] = i;
+            }
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Removes all flashcards that satisfy {@code predicate} from the list as a single change.
+     *
+     * @return the flashcards that were removed, in the order they appeared in the list.
+     */
+    public List<Flashcard> removeAll(Predicate<Flashcard> predicate) {
+        return removeAll(findAll(predicate));
+    }
+
+    /**
+     * Removes the flashcards at the given {@code indexes} from the list as a single change.
+     * {@code indexes} must be in ascending order.
+     *
+     * @return the flashcards that were removed, in the order they appeared in the list.
+     */
+    public List<Flashcard> removeAll(int[] indexes) {
+        requireNonNull(indexes);
+        List<Flashcard> removed = new ArrayList<>(indexes.length);
+        if (indexes.length == 0) {
+            return removed;
+        }
+
+        List<Flashcard> kept = new ArrayList<>(internalList.size() - indexes.length);
+        int next = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            if (next < indexes.length && indexes[next] == i) {
+                removed.add(internalList.get(i));
+                next++;
+            } else {
+                kept.add(internalList.get(i));
+            }
+        }
+        if (next != indexes.length) {
+            throw new FlashcardNotFoundException();
+        }
+
+        positions.clear();
+        idPositions.clear();
+        for (int i = 0; i < kept.size(); i++) {
+            index(kept.get(i), i);
+        }
+        markNumbered();
+        internalList.setAll(kept);
+        return removed;
+    }
+
+    /**
+     * Inserts {@code toInsert} into the list as a single change, so that each flashcard ends up at
+     * the corresponding position in {@code indexes}.
+     * {@code indexes} must be in ascending order. None of the flashcards may already exist in the list.
+     */
+    public void insertAll(int[] indexes, List<Flashcard> toInsert) {
+        requireAllNonNull(indexes, toInsert);
+        checkArgument(indexes.length == toInsert.size(), "Every flashcard should have an index");
+        List<Flashcard> merged = new ArrayList<>(internalList.size() + toInsert.size());
+        int next = 0;
+        for (Flashcard flashcard : internalList) {
+            while (next < indexes.length && indexes[next] == merged.size()) {
+                merged.add(toInsert.get(next++));
+            }
+            merged.add(flashcard);
+        }
+        while (next < indexes.length) {
+            merged.add(toInsert.get(next++));
+        }
+        setFlashcards(merged);
+    }
+
+    /**
+     * Replaces each key of {@code replacements} in the list with its value, as a single change.
+     * Every key must exist in the list.
+     * The flashcards in the list after the replacement must be unique.
+     */
+    public void replaceAll(Map<Flashcard, Flashcard> replacements) {
+        requireNonNull(replacements);
+        List<Flashcard> replaced = new ArrayList<>(internalList);
+        replacements.forEach((target, editedFlashcard) -> {
+            requireAllNonNull(target, editedFlashcard);
+            int index = indexOf(target);
+            if (index == -1) {
+                throw new FlashcardNotFoundException();
+            }
+            replaced.set(index, editedFlashcard);
+        });
+        setFlashcards(replaced);
+    }
+
+    /**
+     * Returns the position of the flashcard with the given {@code id} in the list, or -1 if there is none.
+     */
+    public int indexOfId(int id) {
+        return locate(idPositions.get(id), flashcard -> flashcard.hasId() && flashcard.getId() == id);
+    }
+
+    /**
+     * Returns true if the list contains a flashcard with the given {@code id}.
+     */
+    public boolean containsId(int id) {
+        return idPositions.containsKey(id);
+    }
+
+    /**
+     * Returns the flashcard in the list that is equal to {@code flashcard}.
+     * The flashcard must exist in the list.
+     */
+    public Flashcard get(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        int index = indexOf(flashcard);
+        if (index == -1) {
+            throw new FlashcardNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
     /**
      * Replaces the Flashcard {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in the list.
@@ -59,7 +255,7 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireAllNonNull(target, editedFlashcard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new FlashcardNotFoundException();
         }
@@ -68,6 +264,13 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
             throw new DuplicateFlashcardException();
         }
 
+        if (editedFlashcard.hasId() && editedFlashcard.getId() != internalList.get(index).getId()
+                && containsId(editedFlashcard.getId())) {
+            throw new DuplicateFlashcardException();
+        }
+
+        unindex(internalList.get(index));
+        index(editedFlashcard, index);
         internalList.set(index, editedFlashcard);
     }
 
@@ -77,9 +280,19 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void remove(Flashcard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new FlashcardNotFoundException();
         }
+
+        unindex(internalList.get(index));
+        internalList.remove(index);
+        if (index < internalList.size()) {
+            unnumberedFrom = Math.min(unnumberedFrom, index);
+            if (++unnumberedRemovals > MAX_UNNUMBERED_REMOVALS) {
+                renumber();
+            }
+        }
     }
 
 
@@ -96,15 +309,35 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void setFlashcards(List<Flashcard> flashcards) {
         requireAllNonNull(flashcards);
-        if (!flashcardsAreUnique(flashcards)) {
-            throw new DuplicateFlashcardException();
+        Map<Identity, Integer> newPositions = new HashMap<>(flashcards.size() * 2);
+        Map<Integer, Integer> newIdPositions = new HashMap<>(flashcards.size() * 2);
+        for (int i = 0; i < flashcards.size(); i++) {
+            Flashcard flashcard = flashcards.get(i);
+            if (newPositions.put(new Identity(flashcard), i) != null
+                    || (flashcard.hasId() && newIdPositions.put(flashcard.getId(), i) != null)) {
+                throw new DuplicateFlashcardException();
+            }
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
+        idPositions.clear();
+        idPositions.putAll(newIdPositions);
+        markNumbered();
         internalList.setAll(flashcards);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setFlashcards(UniqueFlashcardList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        idPositions.clear();
+        idPositions.putAll(replacement.idPositions);
+        unnumberedFrom = replacement.unnumberedFrom;
+        unnumberedRemovals = replacement.unnumberedRemovals;
         internalList.setAll(replacement.internalList);
     }
 
@@ -126,16 +359,95 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     }
 
     /**
-     * Returns true if {@code flashcards} contains only unique flashcards.
+     * Returns the position of the flashcard equal to {@code flashcard} in the list, or -1 if there is none.
+     * A flashcard with an id is found through its id, and only compared field by field
+     * if it is not the instance stored in the list.
+     */
+    public int indexOf(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        int index = flashcard.hasId() ? indexOfId(flashcard.getId()) : -1;
+        if (index == -1 || internalList.get(index) != flashcard) {
+            index = locate(positions.get(new Identity(flashcard)), flashcard::isSameFlashcard);
+        }
+        if (index == -1 || !internalList.get(index).equals(flashcard)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the actual position of the flashcard satisfying {@code isTarget} that was indexed at
+     * {@code indexedPosition}, or -1 if no flashcard was indexed.
+     * A flashcard indexed before any unnumbered removal is still where it was indexed. Any other is at most
+     * one position earlier for each unnumbered removal.
      */
-    private boolean flashcardsAreUnique(List<Flashcard> flashcards) {
-        for (int i = 0; i < flashcards.size() - 1; i++) {
-            for (int j = i + 1; j < flashcards.size(); j++) {
-                if (flashcards.get(i).isSameFlashcard(flashcards.get(j))) {
-                    return false;
-                }
+    private int locate(Integer indexedPosition, Predicate<Flashcard> isTarget) {
+        if (indexedPosition == null) {
+            return -1;
+        }
+        if (indexedPosition < unnumberedFrom) {
+            return indexedPosition;
+        }
+        int lowest = Math.max(unnumberedFrom, indexedPosition - unnumberedRemovals);
+        for (int i = Math.min(indexedPosition, internalList.size() - 1); i >= lowest; i--) {
+            if (isTarget.test(internalList.get(i))) {
+                return i;
             }
         }
-        return true;
+        return -1;
+    }
+
+    /**
+     * Indexes the flashcards after the earliest unnumbered removal at their actual positions.
+     */
+    private void renumber() {
+        for (int i = unnumberedFrom; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+        markNumbered();
+    }
+
+    private void markNumbered() {
+        unnumberedFrom = Integer.MAX_VALUE;
+        unnumberedRemovals = 0;
+    }
+
+    private void index(Flashcard flashcard, int index) {
+        positions.put(new Identity(flashcard), index);
+        if (flashcard.hasId()) {
+            idPositions.put(flashcard.getId(), index);
+        }
+    }
+
+    private void unindex(Flashcard flashcard) {
+        positions.remove(new Identity(flashcard));
+        if (flashcard.hasId()) {
+            idPositions.remove(flashcard.getId());
+        }
+    }
+
+    /**
+     * Wraps a flashcard so that it can be used as a hash key under {@code Flashcard#isSameFlashcard(Flashcard)}.
+     */
+    private static class Identity {
+        private final Flashcard flashcard;
+        private final int hash;
+
+        Identity(Flashcard flashcard) {
+            this.flashcard = flashcard;
+            this.hash = Objects.hash(flashcard.getQuestion(), flashcard.getTags(), flashcard.getDifficulty());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Identity // instanceof handles nulls
+                    && flashcard.isSameFlashcard(((Identity) other).flashcard)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 }
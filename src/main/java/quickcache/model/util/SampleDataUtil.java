@@ -31,7 +31,7 @@ public class SampleDataUtil {
             new Flashcard(new OpenEndedQuestion("(Sample question) Complete the following sentence. "
                     + "National University of ______ . (Try sample ans: Singapore)",
                     new Answer("Singapore")
-            ), getTagSet("OEQ", "General"), new Difficulty("low")),
+            ), getTagSet("OEQ", "General"), Difficulty.of("low")),
             new Flashcard(new MultipleChoiceQuestion("(Sample question) All mammals need ______ to survive. "
                     + "(Try sample option: 2)",
                     new Answer("oxygen"),
@@ -39,7 +39,7 @@ public class SampleDataUtil {
                     choice6,
                     choice7,
                     choice8
-            ), getTagSet("MCQ", "Biology"), new Difficulty("Medium")),
+            ), getTagSet("MCQ", "Biology"), Difficulty.of("Medium")),
             new Flashcard(new MultipleChoiceQuestion("(Sample question) What is CS2103? "
                     + "(Try sample option: 1)",
                     new Answer("Software Engineering module for NUS students"),
@@ -47,7 +47,7 @@ public class SampleDataUtil {
                     choice2,
                     choice3,
                     choice4
-            ), getTagSet("MCQ", "CS2103"), new Difficulty("High"))
+            ), getTagSet("MCQ", "CS2103"), Difficulty.of("High"))
         };
     }
 
@@ -64,7 +64,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-            .map(Tag::new)
+            .map(Tag::of)
             .collect(Collectors.toSet());
     }
 
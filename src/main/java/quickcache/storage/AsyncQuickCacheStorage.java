@@ -0,0 +1,226 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import quickcache.commons.core.LogsCenter;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
+
+/**
+ * A {@code QuickCacheStorage} that saves to its file in the background, so that saving does not hold up the caller.
+ * A save only remembers the QuickCache to be saved. A single writer thread waits {@code saveDelay} milliseconds for
+ * further saves, has a snapshot of the QuickCache of the latest save taken on the snapshot executor, and writes it,
+ * so that the QuickCache is copied once for each write rather than once for each save.
+ * A failure to write is reported by the next call to save or flush.
+ */
+public class AsyncQuickCacheStorage implements QuickCacheStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncQuickCacheStorage.class);
+
+    private final QuickCacheStorage storage;
+    private final long saveDelay;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "QuickCache writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Executor snapshotExecutor;
+
+    private ReadOnlyQuickCache pendingQuickCache;
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+
+    /**
+     * Creates an {@code AsyncQuickCacheStorage} that writes through {@code storage}, waiting {@code saveDelay}
+     * milliseconds after a save before writing, and takes its snapshots on the writer thread.
+     */
+    public AsyncQuickCacheStorage(QuickCacheStorage storage, long saveDelay) {
+        this(storage, saveDelay, Runnable::run);
+    }
+
+    /**
+     * Creates an {@code AsyncQuickCacheStorage} that writes through {@code storage}, waiting {@code saveDelay}
+     * milliseconds after a save before writing, and takes its snapshots on {@code snapshotExecutor}, which should
+     * run them on the thread that changes the saved QuickCache.
+     */
+    public AsyncQuickCacheStorage(QuickCacheStorage storage, long saveDelay, Executor snapshotExecutor) {
+        requireNonNull(storage);
+        requireNonNull(snapshotExecutor);
+        checkArgument(saveDelay >= 0, "Save delay should not be negative");
+        this.storage = storage;
+        this.saveDelay = saveDelay;
+        this.snapshotExecutor = snapshotExecutor;
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return storage.getQuickCacheFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(getQuickCacheFilePath());
+    }
+
+    /**
+     * Similar to {@link #readQuickCache()}.
+     * Waits for the pending save to be written first.
+     */
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        flushQuickCache();
+        synchronized (storage) {
+            return storage.readQuickCache(filePath);
+        }
+    }
+
+    /**
+     * Similar to {@link QuickCacheStorage#readFlashcards(Path, int, Consumer)}.
+     * Waits for the pending save to be written first.
+     */
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        flushQuickCache();
+        synchronized (storage) {
+            return storage.readFlashcards(filePath, batchSize, batchHandler);
+        }
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, getQuickCacheFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveQuickCache(ReadOnlyQuickCache)}.
+     * Only saves to {@link #getQuickCacheFilePath()} are written in the background; other files are written
+     * before this method returns.
+     *
+     * @throws IOException if there was any problem writing to the file, or writing a previous save.
+     */
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        requireNonNull(quickCache);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getQuickCacheFilePath())) {
+            flushQuickCache();
+            synchronized (storage) {
+                storage.saveQuickCache(quickCache, filePath);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            throwWriteFailure();
+            pendingQuickCache = quickCache;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(() -> snapshotExecutor.execute(this::snapshotPendingSave), saveDelay,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Takes the snapshot of the pending save at once, on the calling thread, and waits until it has been written.
+     * If a save is pending, this should be called on the thread that changes the saved QuickCache.
+     *
+     * @throws IOException if there was any problem writing the snapshot, or writing a previous save.
+     */
+    @Override
+    public void flushQuickCache() throws IOException {
+        snapshotPendingSave();
+        try {
+            // the writer runs its tasks in order, so every snapshot handed to it before has been written
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for QuickCache to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+        synchronized (this) {
+            throwWriteFailure();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the QuickCache of the pending save, if there is one, and hands it to the writer thread.
+     */
+    private void snapshotPendingSave() {
+        ReadOnlyQuickCache quickCache;
+        synchronized (this) {
+            quickCache = pendingQuickCache;
+            pendingQuickCache = null;
+            isWriteScheduled = false;
+        }
+        if (quickCache == null) {
+            return;
+        }
+        ReadOnlyQuickCache snapshot = new Snapshot(quickCache);
+        writer.execute(() -> write(snapshot));
+    }
+
+    private void write(ReadOnlyQuickCache snapshot) {
+        try {
+            synchronized (storage) {
+                storage.saveQuickCache(snapshot);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save QuickCache in the background: " + ioe);
+            synchronized (this) {
+                writeFailure = ioe;
+            }
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the flashcards of a QuickCache at the time it was taken.
+     */
+    private static class Snapshot implements ReadOnlyQuickCache {
+        private final ObservableList<Flashcard> flashcards;
+
+        Snapshot(ReadOnlyQuickCache quickCache) {
+            // copies the flashcards, as the statistics of a flashcard stored in a QuickCache change in place
+            List<Flashcard> copies = quickCache.getFlashcardList().stream()
+                    .map(flashcard -> flashcard.withId(flashcard.getId()))
+                    .collect(Collectors.toList());
+            flashcards = FXCollections.unmodifiableObservableList(FXCollections.observableList(copies));
+        }
+
+        @Override
+        public ObservableList<Flashcard> getFlashcardList() {
+            return flashcards;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import quickcache.commons.core.Durability;
+import quickcache.commons.core.LogsCenter;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.util.FileUtil;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
+
+/**
+ * A {@code QuickCacheStorage} that replaces its files in a single step, so that a crash while saving never leaves
+ * a partly written file behind.
+ * Each save is written to a temporary file next to the target, forced to the disk as required by the durability,
+ * and then moved over the target. When the QuickCache file is replaced, the previous one is kept as a backup,
+ * which is read instead if the QuickCache file is missing or damaged. The underlying storage verifies the checksum
+ * of a file before reading its flashcards, so a damaged file is found without decoding it.
+ * Once a backup has been read, it is made the QuickCache file again and the restore handler is called, so that
+ * the storages layered over this one can discard what they keep about the lost file.
+ */
+public class AtomicQuickCacheStorage implements QuickCacheStorage {
+
+    public static final String TEMP_FILE_EXTENSION = ".tmp";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicQuickCacheStorage.class);
+
+    private final QuickCacheStorage fileStorage;
+    private final Durability durability;
+    private RestoreHandler restoreHandler = filePath -> { };
+
+    /**
+     * Creates an {@code AtomicQuickCacheStorage} that writes and reads files through {@code fileStorage},
+     * forcing each file to the disk before it replaces the previous one unless {@code durability} is
+     * {@code Durability.NONE}.
+     */
+    public AtomicQuickCacheStorage(QuickCacheStorage fileStorage, Durability durability) {
+        requireNonNull(fileStorage);
+        requireNonNull(durability);
+        this.fileStorage = fileStorage;
+        this.durability = durability;
+    }
+
+    /**
+     * Returns the path of the temporary file a save to {@code filePath} is written to.
+     */
+    public static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the backup kept of the file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return fileStorage.getQuickCacheFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(getQuickCacheFilePath());
+    }
+
+    /**
+     * Similar to {@link #readQuickCache()}.
+     * Reads the backup of the file instead if the file is missing or not in the correct format, and restores it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor its backup is in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path backupFilePath = getBackupFilePath(filePath);
+        try {
+            Optional<ReadOnlyQuickCache> quickCache = fileStorage.readQuickCache(filePath);
+            if (quickCache.isPresent() || !FileUtil.isFileExists(backupFilePath)) {
+                return quickCache;
+            }
+            logger.warning("Data file " + filePath + " not found, reading its backup " + backupFilePath);
+        } catch (DataConversionException dce) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw dce;
+            }
+            logger.warning("Data file " + filePath + " is damaged, reading its backup " + backupFilePath + ": "
+                    + dce.getMessage());
+        }
+        Optional<ReadOnlyQuickCache> backup = fileStorage.readQuickCache(backupFilePath);
+        if (backup.isPresent()) {
+            restoreBackup(filePath);
+        }
+        return backup;
+    }
+
+    /**
+     * Similar to {@link QuickCacheStorage#readFlashcards(Path, int, Consumer)}.
+     * Reads the backup of the file instead if the file is missing, or is found not to be in the correct format
+     * before any of its flashcards have been handed over, and restores it. If the file is found not to be in the
+     * correct format only after some flashcards have been handed over, the caller can discard them and read the
+     * file again with {@link #readQuickCache(Path)}, which reads the backup instead.
+     */
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(batchHandler);
+
+        Path backupFilePath = getBackupFilePath(filePath);
+        boolean[] isHandedOver = {false};
+        try {
+            boolean isFound = fileStorage.readFlashcards(filePath, batchSize, batch -> {
+                isHandedOver[0] = true;
+                batchHandler.accept(batch);
+            });
+            if (isFound || !FileUtil.isFileExists(backupFilePath)) {
+                return isFound;
+            }
+            logger.warning("Data file " + filePath + " not found, reading its backup " + backupFilePath);
+        } catch (DataConversionException dce) {
+            if (isHandedOver[0] || !FileUtil.isFileExists(backupFilePath)) {
+                throw dce;
+            }
+            logger.warning("Data file " + filePath + " is damaged, reading its backup " + backupFilePath + ": "
+                    + dce.getMessage());
+        }
+        boolean isFound = fileStorage.readFlashcards(backupFilePath, batchSize, batchHandler);
+        if (isFound) {
+            restoreBackup(filePath);
+        }
+        return isFound;
+    }
+
+    @Override
+    public void setRestoreHandler(RestoreHandler restoreHandler) {
+        requireNonNull(restoreHandler);
+        this.restoreHandler = restoreHandler;
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with a copy of its backup, and calls the restore handler.
+     */
+    private void restoreBackup(Path filePath) throws IOException {
+        Path tempFilePath = getTempFilePath(filePath);
+        Files.copy(getBackupFilePath(filePath), tempFilePath, StandardCopyOption.REPLACE_EXISTING);
+        if (durability != Durability.NONE) {
+            FileUtil.syncFile(tempFilePath);
+        }
+        FileUtil.moveReplacing(tempFilePath, filePath);
+        restoreHandler.fileRestored(filePath);
+        if (durability != Durability.NONE) {
+            FileUtil.syncParentDirectory(filePath);
+        }
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, getQuickCacheFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveQuickCache(ReadOnlyQuickCache)}.
+     * Only the QuickCache file is backed up; other files are replaced without keeping the previous file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        requireNonNull(quickCache);
+        requireNonNull(filePath);
+
+        Path tempFilePath = getTempFilePath(filePath);
+        try {
+            fileStorage.saveQuickCache(quickCache, tempFilePath);
+            if (durability != Durability.NONE) {
+                FileUtil.syncFile(tempFilePath);
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+
+        if (filePath.equals(getQuickCacheFilePath()) && FileUtil.isFileExists(filePath)) {
+            FileUtil.moveReplacing(filePath, getBackupFilePath(filePath));
+        }
+        FileUtil.moveReplacing(tempFilePath, filePath);
+        if (durability != Durability.NONE) {
+            FileUtil.syncParentDirectory(filePath);
+        }
+    }
+
+    @Override
+    public void flushQuickCache() throws IOException {
+        fileStorage.flushQuickCache();
+    }
+}
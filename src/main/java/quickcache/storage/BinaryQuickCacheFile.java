@@ -0,0 +1,301 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.model.flashcard.Answer;
+import quickcache.model.flashcard.Difficulties;
+import quickcache.model.flashcard.Difficulty;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.MultipleChoiceQuestion;
+import quickcache.model.flashcard.OpenEndedQuestion;
+import quickcache.model.flashcard.Question;
+import quickcache.model.flashcard.Statistics;
+import quickcache.model.flashcard.Tag;
+
+/**
+ * A binary QuickCache data file held in a {@code ByteBuffer}, which decodes each flashcard only when it is asked for.
+ * Flashcards and the strings they share are found through the fixed-width offset indexes at the end of the file,
+ * so decoding one flashcard does not decode the flashcards before it. The checksum of the file is only verified
+ * when {@link #verifyChecksum()} is called.
+ */
+public class BinaryQuickCacheFile {
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary QuickCache data file!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary QuickCache data file version %d!";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary QuickCache data file is truncated or corrupt!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary QuickCache data file does not match its checksum!";
+    public static final String MESSAGE_FILE_TOO_LARGE = "Binary QuickCache data file is too large to be read!";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Flashcard refers to a missing answer, choice or tag!";
+    public static final String MESSAGE_INVALID_TYPE = "Invalid flashcard type!";
+    public static final String MESSAGE_INVALID_DIFFICULTY = "Invalid flashcard difficulty!";
+    public static final String MESSAGE_MISSING_CHOICES = "Multiple choice flashcard has no choices!";
+
+    /** The first version of the format, which has no offset indexes. */
+    private static final int UNINDEXED_FORMAT_VERSION = 1;
+    /** The version of the format before the checksum was added. */
+    private static final int UNCHECKED_FORMAT_VERSION = 2;
+    private static final int OFFSET_SIZE = Long.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int flashcardCount;
+    private final int checksumSize;
+    private final ByteBuffer stringIndex;
+    private final ByteBuffer flashcardIndex;
+
+    /**
+     * Reads the header and locates the offset indexes of the binary QuickCache data file in {@code buffer}.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a binary QuickCache data file.
+     */
+    BinaryQuickCacheFile(ByteBuffer buffer) throws IllegalValueException {
+        requireNonNull(buffer);
+        this.buffer = buffer;
+
+        try {
+            ByteBuffer in = buffer.duplicate();
+            byte[] header = new byte[BinaryQuickCacheStorage.MAGIC.length];
+            in.get(header);
+            if (!Arrays.equals(header, BinaryQuickCacheStorage.MAGIC)) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+
+            int version = readVarInt(in);
+            if (version == UNINDEXED_FORMAT_VERSION) {
+                checksumSize = 0;
+                stringCount = readCount(in);
+                stringIndex = indexEntries(in, stringCount);
+                flashcardCount = readCount(in);
+                flashcardIndex = indexEntries(in, flashcardCount);
+            } else if (version == UNCHECKED_FORMAT_VERSION || version == BinaryQuickCacheStorage.FORMAT_VERSION) {
+                checksumSize = version == UNCHECKED_FORMAT_VERSION ? 0 : CHECKSUM_SIZE;
+                stringCount = readCount(in);
+                flashcardCount = readCount(in);
+                int indexEnd = buffer.limit() - checksumSize - OFFSET_SIZE;
+                long indexPosition = buffer.getLong(indexEnd);
+                long indexSize = ((long) stringCount + flashcardCount) * OFFSET_SIZE;
+                if (indexPosition < in.position() || indexPosition + indexSize != indexEnd) {
+                    throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+                }
+                stringIndex = slice((int) indexPosition, stringCount * OFFSET_SIZE);
+                flashcardIndex = slice((int) indexPosition + stringCount * OFFSET_SIZE, flashcardCount * OFFSET_SIZE);
+            } else {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        }
+    }
+
+    /**
+     * Reads the whole binary QuickCache data file at {@code filePath} into memory.
+     * The file is read rather than memory-mapped, so that it is free to be replaced once this returns.
+     *
+     * @throws IOException if the file cannot be read, or is too large to be held in a {@code ByteBuffer}.
+     * @throws IllegalValueException if the file is not a binary QuickCache data file.
+     */
+    public static BinaryQuickCacheFile read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        if (Files.size(filePath) > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_FILE_TOO_LARGE);
+        }
+        return new BinaryQuickCacheFile(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+    }
+
+    public int getFlashcardCount() {
+        return flashcardCount;
+    }
+
+    /**
+     * Verifies that the file matches the checksum at its end, which reads the whole file.
+     * Files saved before the checksum was added are not verified.
+     *
+     * @throws IllegalValueException if the file does not match its checksum.
+     */
+    public void verifyChecksum() throws IllegalValueException {
+        if (checksumSize == 0) {
+            return;
+        }
+        int checkedSize = buffer.limit() - checksumSize;
+        CRC32 checksum = new CRC32();
+        checksum.update(slice(0, checkedSize));
+        if ((int) checksum.getValue() != buffer.getInt(checkedSize)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    /**
+     * Decodes the flashcard at {@code index}, in the order the flashcards were saved.
+     * This is safe to call from several threads at once.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid flashcard index.
+     * @throws IllegalValueException if the flashcard is stored incorrectly.
+     */
+    public Flashcard getFlashcard(int index) throws IllegalValueException {
+        Objects.checkIndex(index, flashcardCount);
+        try {
+            return readFlashcard(getEntry(flashcardIndex, index));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        }
+    }
+
+    // locating entries
+
+    private static int readCount(ByteBuffer in) throws IllegalValueException {
+        int count = readVarInt(in);
+        // every entry takes at least one byte
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        }
+        return count;
+    }
+
+    /**
+     * Builds the offset index of the {@code count} length-prefixed entries starting at the position of {@code in},
+     * for files saved before the offset indexes were stored in the file. Leaves {@code in} after the last entry.
+     */
+    private static ByteBuffer indexEntries(ByteBuffer in, int count) {
+        ByteBuffer index = ByteBuffer.allocate(count * OFFSET_SIZE);
+        for (int i = 0; i < count; i++) {
+            index.putLong(i * OFFSET_SIZE, in.position());
+            int length = readVarInt(in);
+            in.position(in.position() + length);
+        }
+        return index;
+    }
+
+    private ByteBuffer slice(int position, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(position);
+        slice.limit(position + length);
+        return slice.slice();
+    }
+
+    /**
+     * Returns the length-prefixed entry at {@code index} of {@code entryIndex}, limited to the bytes of the entry.
+     */
+    private ByteBuffer getEntry(ByteBuffer entryIndex, int index) throws IllegalValueException {
+        long offset = entryIndex.getLong(index * OFFSET_SIZE);
+        if (offset < 0 || offset >= buffer.limit()) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        }
+        ByteBuffer entry = buffer.duplicate();
+        entry.position((int) offset);
+        int length = readVarInt(entry);
+        entry.limit(entry.position() + length);
+        return entry;
+    }
+
+    private String getString(int index) throws IllegalValueException {
+        if (index < 0 || index >= stringCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRING_INDEX);
+        }
+        ByteBuffer entry = getEntry(stringIndex, index);
+        return StandardCharsets.UTF_8.decode(entry).toString();
+    }
+
+    // decoding flashcards
+
+    private Flashcard readFlashcard(ByteBuffer in) throws IllegalValueException {
+        int type = Byte.toUnsignedInt(in.get());
+        int id = readVarInt(in) - 1;
+        String questionValue = readString(in);
+        String answerValue = getString(readVarInt(in));
+        if (!Answer.isValidAnswer(answerValue)) {
+            throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+        }
+        Answer answer = new Answer(answerValue);
+
+        Question question;
+        if (type == BinaryQuickCacheStorage.MULTIPLE_CHOICE_TYPE) {
+            if (!MultipleChoiceQuestion.isValidQuestion(questionValue)) {
+                throw new IllegalValueException(MultipleChoiceQuestion.MESSAGE_CONSTRAINTS);
+            }
+            List<String> choices = new ArrayList<>();
+            int choiceCount = readVarInt(in);
+            for (int i = 0; i < choiceCount; i++) {
+                choices.add(getString(readVarInt(in)));
+            }
+            if (choices.isEmpty()) {
+                throw new IllegalValueException(MESSAGE_MISSING_CHOICES);
+            }
+            question = new MultipleChoiceQuestion(questionValue, choices, answer);
+        } else if (type == BinaryQuickCacheStorage.OPEN_ENDED_TYPE) {
+            if (!OpenEndedQuestion.isValidQuestion(questionValue)) {
+                throw new IllegalValueException(OpenEndedQuestion.MESSAGE_CONSTRAINTS);
+            }
+            question = new OpenEndedQuestion(questionValue, answer);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readVarInt(in);
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = getString(readVarInt(in));
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(Tag.of(tagName));
+        }
+
+        int level = Byte.toUnsignedInt(in.get());
+        if (level >= Difficulties.values().length) {
+            throw new IllegalValueException(MESSAGE_INVALID_DIFFICULTY);
+        }
+        Difficulty difficulty = Difficulty.of(Difficulties.values()[level]);
+
+        Statistics statistics;
+        try {
+            statistics = Statistics.of(readVarInt(in), readVarInt(in));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+
+        return new Flashcard(question, tags, difficulty, statistics, id);
+    }
+
+    // decoding values
+
+    /**
+     * Reads an unsigned variable-length integer written by {@code BinaryQuickCacheStorage}.
+     *
+     * @throws IllegalArgumentException if the integer is longer than five bytes.
+     */
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        ByteBuffer bytes = in.duplicate();
+        bytes.limit(in.position() + length);
+        in.position(in.position() + length);
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+}
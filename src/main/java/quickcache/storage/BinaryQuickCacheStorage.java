@@ -0,0 +1,299 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import quickcache.commons.core.LogsCenter;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.commons.util.FileUtil;
+import quickcache.model.QuickCache;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Choice;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.MultipleChoiceQuestion;
+import quickcache.model.flashcard.Question;
+import quickcache.model.flashcard.Statistics;
+import quickcache.model.flashcard.Tag;
+
+/**
+ * A class to access QuickCache data stored in a compact binary format on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC}, the format version and the numbers of strings and flashcards, followed by a
+ * table of the answers, choices and tags used by the flashcards, each stored once, and then the flashcards. Every
+ * flashcard is a record prefixed with its length, holding its type, id, question, the indexes of its answer, choices
+ * and tags in the table, its difficulty and its statistics. Lengths, counts, indexes and statistics are stored as
+ * variable-length integers. The file ends with the offsets of the strings and of the flashcards, eight bytes each,
+ * and the position of these offsets, so that any flashcard can be found without reading the ones before it,
+ * and then the CRC-32 of everything before it, so that a damaged file is found before any flashcard is decoded.
+ */
+public class BinaryQuickCacheStorage implements QuickCacheStorage {
+
+    public static final int FORMAT_VERSION = 3;
+
+    static final byte[] MAGIC = {'Q', 'C', 'B', 'F'};
+    static final int OPEN_ENDED_TYPE = 0;
+    static final int MULTIPLE_CHOICE_TYPE = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryQuickCacheStorage.class);
+
+    private final Path filePath;
+
+    public BinaryQuickCacheStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the header of a binary QuickCache data file.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = new byte[MAGIC.length];
+            int length = in.readNBytes(header, 0, header.length);
+            return length == MAGIC.length && Arrays.equals(header, MAGIC);
+        }
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(filePath);
+    }
+
+    /**
+     * Similar to {@link #readQuickCache()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readQuickCache(BinaryQuickCacheFile.read(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveQuickCache(ReadOnlyQuickCache)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        requireNonNull(quickCache);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE)) {
+            writeQuickCache(quickCache, out);
+        }
+    }
+
+    @Override
+    public void flushQuickCache() {
+        // every save is written before it returns
+    }
+
+    /**
+     * Writes {@code quickCache} to {@code out} in the binary format, leaving {@code out} open.
+     */
+    static void writeQuickCache(ReadOnlyQuickCache quickCache, OutputStream out) throws IOException {
+        requireNonNull(quickCache);
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        CountingOutputStream countingOut = new CountingOutputStream(checkedOut);
+        DataOutputStream dataOut = new DataOutputStream(countingOut);
+        writeFlashcards(quickCache.getFlashcardList(), dataOut, countingOut);
+        dataOut.writeInt((int) checkedOut.getChecksum().getValue());
+        dataOut.flush();
+    }
+
+    /**
+     * Verifies the checksum of {@code file} and decodes all of its flashcards into a QuickCache.
+     *
+     * @throws IllegalValueException if the file is damaged or there were any data constraints violated.
+     */
+    static QuickCache readQuickCache(BinaryQuickCacheFile file) throws IllegalValueException {
+        file.verifyChecksum();
+        ParallelQuickCacheLoader<Integer> loader = new ParallelQuickCacheLoader<>(file::getFlashcard);
+        for (int i = 0; i < file.getFlashcardCount(); i++) {
+            loader.add(i);
+        }
+        return loader.finish();
+    }
+
+    // writing
+
+    /**
+     * Writes {@code flashcards} to {@code out}, taking the offsets in the indexes from {@code position},
+     * which must count every byte written to {@code out}.
+     */
+    private static void writeFlashcards(List<Flashcard> flashcards, DataOutputStream out,
+            CountingOutputStream position) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            addString(strings, flashcard.getAnswer().getValue());
+            for (Choice choice : flashcard.getQuestion().getChoices().orElse(new Choice[0])) {
+                addString(strings, choice.toString());
+            }
+            for (Tag tag : flashcard.getTags()) {
+                addString(strings, tag.tagName);
+            }
+        }
+
+        out.write(MAGIC);
+        writeVarInt(out, FORMAT_VERSION);
+        writeVarInt(out, strings.size());
+        writeVarInt(out, flashcards.size());
+
+        long[] stringOffsets = new long[strings.size()];
+        int stringCount = 0;
+        for (String string : strings.keySet()) {
+            stringOffsets[stringCount++] = position.getCount();
+            writeString(out, string);
+        }
+
+        long[] flashcardOffsets = new long[flashcards.size()];
+        int flashcardCount = 0;
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Flashcard flashcard : flashcards) {
+            recordBytes.reset();
+            writeFlashcard(flashcard, strings, record);
+            flashcardOffsets[flashcardCount++] = position.getCount();
+            writeVarInt(out, recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+
+        long indexPosition = position.getCount();
+        for (long offset : stringOffsets) {
+            out.writeLong(offset);
+        }
+        for (long offset : flashcardOffsets) {
+            out.writeLong(offset);
+        }
+        out.writeLong(indexPosition);
+    }
+
+    private static void addString(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    private static void writeFlashcard(Flashcard flashcard, Map<String, Integer> strings, DataOutput out)
+            throws IOException {
+        Question question = flashcard.getQuestion();
+        boolean isMultipleChoice = question instanceof MultipleChoiceQuestion;
+        out.writeByte(isMultipleChoice ? MULTIPLE_CHOICE_TYPE : OPEN_ENDED_TYPE);
+        writeVarInt(out, flashcard.getId() + 1); // flashcards without an id are stored as 0
+        writeString(out, question.getValue());
+        writeVarInt(out, strings.get(flashcard.getAnswer().getValue()));
+        if (isMultipleChoice) {
+            Choice[] choices = question.getChoices().orElse(new Choice[0]);
+            writeVarInt(out, choices.length);
+            for (Choice choice : choices) {
+                writeVarInt(out, strings.get(choice.toString()));
+            }
+        }
+        writeVarInt(out, flashcard.getTags().size());
+        for (Tag tag : flashcard.getTags()) {
+            writeVarInt(out, strings.get(tag.tagName));
+        }
+        out.writeByte(flashcard.getDifficulty().getLevel().ordinal());
+        Statistics statistics = flashcard.getStatistics();
+        writeVarInt(out, statistics.getTimesTested());
+        writeVarInt(out, statistics.getTimesTestedCorrect());
+    }
+
+    // encoding of values
+
+    /**
+     * Writes {@code value} as an unsigned variable-length integer, 7 bits per byte, least significant bits first.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeString(DataOutput out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * An output stream that counts the bytes written through it in a {@code long},
+     * unlike {@code DataOutputStream#size()}, which stops counting at {@code Integer.MAX_VALUE}.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
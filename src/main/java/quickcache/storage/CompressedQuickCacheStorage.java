@@ -0,0 +1,156 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import quickcache.commons.core.DataFileFormat;
+import quickcache.commons.core.LogsCenter;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.commons.util.BlockDeflaterOutputStream;
+import quickcache.commons.util.BlockInflaterInputStream;
+import quickcache.commons.util.FileUtil;
+import quickcache.model.QuickCache;
+import quickcache.model.ReadOnlyQuickCache;
+
+/**
+ * A class to access QuickCache data stored compressed on the hard disk, in either json or the binary format.
+ * The data is compressed in independent blocks, which are compressed and decompressed in parallel.
+ * The format of the compressed data is detected from its header when it is read, and files are saved in the given
+ * format.
+ */
+public class CompressedQuickCacheStorage implements QuickCacheStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(CompressedQuickCacheStorage.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final DataFileFormat saveFormat;
+    private final boolean isCompactJson;
+
+    /**
+     * Creates a {@code CompressedQuickCacheStorage} that saves to {@code filePath} in {@code saveFormat},
+     * leaving out the line breaks and indentation of json data if {@code isCompactJson} is true.
+     */
+    public CompressedQuickCacheStorage(Path filePath, DataFileFormat saveFormat, boolean isCompactJson) {
+        requireNonNull(saveFormat);
+        this.filePath = filePath;
+        this.saveFormat = saveFormat;
+        this.isCompactJson = isCompactJson;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and holds compressed QuickCache data.
+     */
+    public static boolean isCompressedFile(Path filePath) throws IOException {
+        return BlockInflaterInputStream.isBlockCompressedFile(filePath);
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(filePath);
+    }
+
+    /**
+     * Similar to {@link #readQuickCache()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Compressed file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        try (BlockInflaterInputStream inflater = new BlockInflaterInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE));
+                InputStream in = new BufferedInputStream(inflater, BUFFER_SIZE)) {
+            QuickCache quickCache = isBinary(in)
+                    ? BinaryQuickCacheStorage.readQuickCache(new BinaryQuickCacheFile(ByteBuffer.wrap(
+                            in.readAllBytes())))
+                    : JsonQuickCacheStorage.readQuickCache(in);
+            logger.fine(String.format("Read %d flashcards from %s in %d ms (%d bytes compressed)",
+                    quickCache.getFlashcardList().size(), filePath, elapsedMillis(startTime),
+                    inflater.getCompressedSize()));
+            return Optional.of(quickCache);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from compressed file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveQuickCache(ReadOnlyQuickCache)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        requireNonNull(quickCache);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        long startTime = System.nanoTime();
+        BlockDeflaterOutputStream deflater = new BlockDeflaterOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE));
+        try (BufferedOutputStream out = new BufferedOutputStream(deflater, BUFFER_SIZE)) {
+            if (saveFormat == DataFileFormat.BINARY) {
+                BinaryQuickCacheStorage.writeQuickCache(quickCache, out);
+            } else {
+                JsonQuickCacheStorage.writeQuickCache(quickCache, out, isCompactJson);
+            }
+        }
+        logger.fine(String.format("Saved %d flashcards to %s in %d ms, compressed from %d to %d bytes (%.1f%%)",
+                quickCache.getFlashcardList().size(), filePath, elapsedMillis(startTime),
+                deflater.getUncompressedSize(), deflater.getCompressedSize(),
+                100.0 * deflater.getCompressedSize() / Math.max(1, deflater.getUncompressedSize())));
+    }
+
+    @Override
+    public void flushQuickCache() {
+        // every save is written before it returns
+    }
+
+    /**
+     * Returns true if the data in {@code in}, which must support marking, starts with the header of the binary format.
+     */
+    private static boolean isBinary(InputStream in) throws IOException {
+        byte[] header = new byte[BinaryQuickCacheStorage.MAGIC.length];
+        in.mark(header.length);
+        int length = in.readNBytes(header, 0, header.length);
+        in.reset();
+        return length == header.length && Arrays.equals(header, BinaryQuickCacheStorage.MAGIC);
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000;
+    }
+}
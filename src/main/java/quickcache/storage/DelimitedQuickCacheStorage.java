@@ -0,0 +1,335 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import quickcache.commons.core.LogsCenter;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.commons.util.DelimitedReader;
+import quickcache.commons.util.DelimitedWriter;
+import quickcache.commons.util.FileUtil;
+import quickcache.model.QuickCache;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Answer;
+import quickcache.model.flashcard.Choice;
+import quickcache.model.flashcard.Difficulty;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.MultipleChoiceQuestion;
+import quickcache.model.flashcard.OpenEndedQuestion;
+import quickcache.model.flashcard.Question;
+import quickcache.model.flashcard.Tag;
+
+/**
+ * A class to access flashcards stored as comma or tab separated values, as written by spreadsheets and by the plain
+ * text export of Anki.
+ * <p>
+ * Every row holds the question, the answer, the tags separated by spaces, the difficulty and then the choices of a
+ * multiple choice question, of which only the question and the answer are required. A flashcard without choices is
+ * an open ended question. Lines starting with {@code #} at the start of the file are headers and are skipped.
+ * Statistics and ids are not stored, so flashcards read from these files have not been tested yet.
+ */
+public class DelimitedQuickCacheStorage implements QuickCacheStorage {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String TSV_EXTENSION = ".tsv";
+    public static final String TXT_EXTENSION = ".txt";
+
+    public static final String MESSAGE_INVALID_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_MISSING_ANSWER = "A row should have at least a question and an answer";
+
+    private static final Logger logger = LogsCenter.getLogger(DelimitedQuickCacheStorage.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int QUESTION_COLUMN = 0;
+    private static final int ANSWER_COLUMN = 1;
+    private static final int TAGS_COLUMN = 2;
+    private static final int DIFFICULTY_COLUMN = 3;
+    private static final int FIRST_CHOICE_COLUMN = 4;
+    private static final String HEADER_PREFIX = "#";
+
+    private final Path filePath;
+    private final char delimiter;
+
+    /**
+     * Creates a {@code DelimitedQuickCacheStorage} for {@code filePath}, separating fields with tabs if its name ends
+     * with {@link #TSV_EXTENSION} or {@link #TXT_EXTENSION}, and with commas otherwise.
+     */
+    public DelimitedQuickCacheStorage(Path filePath) {
+        this(filePath, hasExtension(filePath, TSV_EXTENSION) || hasExtension(filePath, TXT_EXTENSION) ? '\t' : ',');
+    }
+
+    /**
+     * Creates a {@code DelimitedQuickCacheStorage} for {@code filePath}, separating fields with {@code delimiter}.
+     */
+    public DelimitedQuickCacheStorage(Path filePath, char delimiter) {
+        this.filePath = filePath;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns true if the name of {@code filePath} ends with the extension of comma or tab separated values.
+     */
+    public static boolean isDelimitedFile(Path filePath) {
+        requireNonNull(filePath);
+        return hasExtension(filePath, CSV_EXTENSION) || hasExtension(filePath, TSV_EXTENSION)
+                || hasExtension(filePath, TXT_EXTENSION);
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(filePath);
+    }
+
+    /**
+     * Similar to {@link #readQuickCache()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format, has an invalid row or holds
+     *     the same flashcard twice.
+     */
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException {
+        QuickCache quickCache = new QuickCache();
+        List<String> invalidRows = new ArrayList<>();
+        boolean isFound = readFlashcards(filePath, ParallelQuickCacheLoader.DEFAULT_BATCH_SIZE, batch -> {
+            for (Flashcard flashcard : batch) {
+                if (quickCache.hasFlashcard(flashcard)) {
+                    invalidRows.add(JsonSerializableQuickCache.MESSAGE_DUPLICATE_FLASHCARD);
+                    return;
+                }
+                quickCache.addFlashcard(flashcard);
+            }
+        }, invalidRows::add);
+        if (!invalidRows.isEmpty()) {
+            throw new DataConversionException(new IllegalValueException(invalidRows.get(0)));
+        }
+        return isFound ? Optional.of(quickCache) : Optional.empty();
+    }
+
+    /**
+     * Similar to {@link #readFlashcards(Path, int, Consumer, Consumer)}, logging the invalid rows.
+     */
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException {
+        return readFlashcards(filePath, batchSize, batchHandler, message ->
+                logger.warning("Skipped invalid row in " + filePath + ": " + message));
+    }
+
+    /**
+     * Reads the rows of the file at {@code filePath} as it is parsed, skipping the rows that are not valid
+     * flashcards and handing a description of each, starting with its line number, to {@code invalidEntryHandler}.
+     *
+     * @see QuickCacheStorage#readFlashcards(Path, int, Consumer, Consumer)
+     */
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler,
+            Consumer<String> invalidEntryHandler) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(batchHandler);
+        requireNonNull(invalidEntryHandler);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Delimited file " + filePath + " not found");
+            return false;
+        }
+
+        long startTime = System.nanoTime();
+        long rowCount = 0;
+        try (DelimitedReader reader = new DelimitedReader(Channels.newReader(FileChannel.open(filePath),
+                StandardCharsets.UTF_8), delimiter)) {
+            skipHeaders(reader);
+            List<String> fields = new ArrayList<>();
+            List<Flashcard> batch = new ArrayList<>(batchSize);
+            while (reader.readRow(fields)) {
+                rowCount++;
+                if (isBlank(fields)) {
+                    continue;
+                }
+                try {
+                    batch.add(toFlashcard(fields));
+                } catch (IllegalValueException ive) {
+                    invalidEntryHandler.accept(String.format(MESSAGE_INVALID_ROW, reader.getRowLineNumber(),
+                            ive.getMessage()));
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    batchHandler.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchHandler.accept(batch);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from delimited file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+        logger.fine(String.format("Read %d rows from %s in %d ms", rowCount, filePath,
+                (System.nanoTime() - startTime) / 1_000_000));
+        return true;
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveQuickCache(ReadOnlyQuickCache)}.
+     * The file starts with headers that tell Anki how to import it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        requireNonNull(quickCache);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (DelimitedWriter writer = new DelimitedWriter(new BufferedWriter(Channels.newWriter(
+                FileChannel.open(filePath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+                StandardCharsets.UTF_8), BUFFER_SIZE), delimiter)) {
+            writer.writeLine(HEADER_PREFIX + "separator:" + (delimiter == '\t' ? "Tab" : delimiter == ','
+                    ? "Comma" : String.valueOf(delimiter)));
+            writer.writeLine(HEADER_PREFIX + "html:false");
+            writer.writeLine(HEADER_PREFIX + "tags column:" + (TAGS_COLUMN + 1));
+            List<String> fields = new ArrayList<>();
+            for (Flashcard flashcard : quickCache.getFlashcardList()) {
+                toFields(flashcard, fields);
+                writer.writeRow(fields);
+            }
+        }
+    }
+
+    @Override
+    public void flushQuickCache() {
+        // every save is written before it returns
+    }
+
+    /**
+     * Converts the fields of a row into a flashcard.
+     *
+     * @throws IllegalValueException if the row violates a data constraint.
+     */
+    static Flashcard toFlashcard(List<String> fields) throws IllegalValueException {
+        if (fields.size() <= ANSWER_COLUMN || fields.get(ANSWER_COLUMN).isBlank()) {
+            throw new IllegalValueException(MESSAGE_MISSING_ANSWER);
+        }
+        String answer = fields.get(ANSWER_COLUMN).strip();
+        if (!Answer.isValidAnswer(answer)) {
+            throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+        }
+
+        List<String> choices = new ArrayList<>();
+        for (int i = FIRST_CHOICE_COLUMN; i < fields.size(); i++) {
+            String choice = fields.get(i).strip();
+            if (choice.isEmpty()) {
+                continue;
+            }
+            if (!Choice.isValidChoice(choice)) {
+                throw new IllegalValueException(Choice.MESSAGE_CONSTRAINTS);
+            }
+            choices.add(choice);
+        }
+
+        String questionValue = fields.get(QUESTION_COLUMN).strip();
+        Question question;
+        if (choices.isEmpty()) {
+            if (!OpenEndedQuestion.isValidQuestion(questionValue)) {
+                throw new IllegalValueException(OpenEndedQuestion.MESSAGE_CONSTRAINTS);
+            }
+            question = new OpenEndedQuestion(questionValue, new Answer(answer));
+        } else {
+            if (!MultipleChoiceQuestion.isValidQuestion(questionValue)) {
+                throw new IllegalValueException(MultipleChoiceQuestion.MESSAGE_CONSTRAINTS);
+            }
+            question = new MultipleChoiceQuestion(questionValue, choices, new Answer(answer));
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        if (fields.size() > TAGS_COLUMN && !fields.get(TAGS_COLUMN).isBlank()) {
+            for (String tagName : fields.get(TAGS_COLUMN).strip().split("\\s+")) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(Tag.of(tagName));
+            }
+        }
+
+        Difficulty difficulty = Difficulty.unspecified();
+        if (fields.size() > DIFFICULTY_COLUMN && !fields.get(DIFFICULTY_COLUMN).isBlank()) {
+            String difficultyName = fields.get(DIFFICULTY_COLUMN).strip();
+            if (!Difficulty.isValidDifficultyName(difficultyName)) {
+                throw new IllegalValueException(Difficulty.MESSAGE_CONSTRAINTS);
+            }
+            difficulty = Difficulty.of(difficultyName);
+        }
+
+        return new Flashcard(question, tags, difficulty);
+    }
+
+    /**
+     * Replaces the contents of {@code fields} with the fields of the row of {@code flashcard}.
+     */
+    static void toFields(Flashcard flashcard, List<String> fields) {
+        fields.clear();
+        fields.add(flashcard.getQuestion().getValue());
+        fields.add(flashcard.getAnswer().getValue());
+        StringBuilder tags = new StringBuilder();
+        for (Tag tag : flashcard.getTags()) {
+            if (tags.length() > 0) {
+                tags.append(' ');
+            }
+            tags.append(tag.tagName);
+        }
+        fields.add(tags.toString());
+        Difficulty difficulty = flashcard.getDifficulty();
+        fields.add(difficulty.equals(Difficulty.unspecified()) ? "" : difficulty.getValue());
+        Arrays.stream(flashcard.getQuestion().getChoices().orElse(new Choice[0]))
+                .map(Choice::toString)
+                .forEach(fields::add);
+    }
+
+    private static void skipHeaders(DelimitedReader reader) throws IOException {
+        while (reader.peek() == HEADER_PREFIX.charAt(0)) {
+            reader.readLine();
+        }
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        for (String field : fields) {
+            if (!field.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasExtension(Path filePath, String extension) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(extension);
+    }
+}
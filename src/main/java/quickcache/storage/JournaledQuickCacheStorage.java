@@ -0,0 +1,381 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import quickcache.commons.core.Durability;
+import quickcache.commons.core.LogsCenter;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.commons.util.FileUtil;
+import quickcache.commons.util.JsonUtil;
+import quickcache.model.QuickCache;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.exceptions.DuplicateFlashcardException;
+
+/**
+ * A class to access QuickCache data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ * Saving appends only the flashcards that were added, changed or deleted since the last save to the journal.
+ * The snapshot is rewritten, and the journal emptied, at checkpoints: when the journal grows too long, or when
+ * the changes cannot be expressed as journal entries, e.g. because the flashcards were reordered.
+ * Reading replays the journal over the snapshot. If the snapshot storage replaces the snapshot with an earlier
+ * version of it, e.g. its backup, the journal is discarded, as it holds changes to the replaced snapshot.
+ */
+public class JournaledQuickCacheStorage implements QuickCacheStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledQuickCacheStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+    private final Durability durability;
+    private final QuickCacheStorage snapshotStorage;
+
+    /** The flashcards as they were last saved or read, by id, or null if they are unknown. */
+    private Map<Integer, SavedFlashcard> savedFlashcards;
+    private int nextPosition;
+    private int journalLength;
+
+    public JournaledQuickCacheStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledQuickCacheStorage} that writes a checkpoint once its journal would hold more than
+     * {@code checkpointInterval} entries.
+     */
+    public JournaledQuickCacheStorage(Path filePath, int checkpointInterval) {
+        this(new JsonQuickCacheStorage(filePath), checkpointInterval, Durability.CHECKPOINT);
+    }
+
+    /**
+     * Creates a {@code JournaledQuickCacheStorage} that writes its snapshots through {@code snapshotStorage},
+     * writes a checkpoint once its journal would hold more than {@code checkpointInterval} entries,
+     * and forces its journal to the disk after every save if {@code durability} is {@code Durability.ALWAYS}.
+     * Forcing the snapshots to the disk is left to {@code snapshotStorage}.
+     */
+    public JournaledQuickCacheStorage(QuickCacheStorage snapshotStorage, int checkpointInterval,
+            Durability durability) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(durability);
+        checkArgument(checkpointInterval >= 0, "Checkpoint interval should not be negative");
+        this.filePath = snapshotStorage.getQuickCacheFilePath();
+        this.checkpointInterval = checkpointInterval;
+        this.durability = durability;
+        this.snapshotStorage = snapshotStorage;
+        snapshotStorage.setRestoreHandler(this::discardJournal);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(filePath);
+    }
+
+    /**
+     * Similar to {@link #readQuickCache()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or its journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyQuickCache> snapshot = snapshotStorage.readQuickCache(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            rememberIfSaveFile(filePath, snapshot.map(ReadOnlyQuickCache::getFlashcardList), 0);
+            return snapshot;
+        }
+
+        Map<Integer, Flashcard> flashcards = new LinkedHashMap<>();
+        snapshot.ifPresent(quickCache -> quickCache.getFlashcardList()
+                .forEach(flashcard -> flashcards.put(flashcard.getId(), flashcard.withId(flashcard.getId()))));
+        int replayedLength = replayJournal(journalFilePath, flashcards);
+        if (!snapshot.isPresent() && replayedLength == 0) {
+            return snapshot;
+        }
+
+        QuickCache quickCache = new QuickCache();
+        try {
+            quickCache.setFlashcards(new ArrayList<>(flashcards.values()));
+        } catch (DuplicateFlashcardException dfe) {
+            logger.info("Duplicate flashcards found in " + journalFilePath);
+            throw new DataConversionException(dfe);
+        }
+        Optional<ReadOnlyQuickCache> result = Optional.of(quickCache);
+        rememberIfSaveFile(filePath, Optional.of(quickCache.getFlashcardList()), replayedLength);
+        return result;
+    }
+
+    /**
+     * Similar to {@link QuickCacheStorage#readFlashcards(Path, int, Consumer)}.
+     * If there is no journal to replay, the flashcards of the snapshot are handed over as they are read.
+     */
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(batchHandler);
+
+        if (Files.exists(getJournalFilePath(filePath))) {
+            return QuickCacheStorage.super.readFlashcards(filePath, batchSize, batchHandler);
+        }
+        List<Flashcard> flashcards = new ArrayList<>();
+        boolean isFound = snapshotStorage.readFlashcards(filePath, batchSize, batch -> {
+            flashcards.addAll(batch);
+            batchHandler.accept(batch);
+        });
+        rememberIfSaveFile(filePath, isFound ? Optional.of(flashcards) : Optional.empty(), 0);
+        return isFound;
+    }
+
+    /**
+     * Deletes the journal of the snapshot at {@code filePath}, which the snapshot storage has replaced.
+     */
+    private void discardJournal(Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (Files.deleteIfExists(journalFilePath)) {
+            logger.warning("Discarded journal " + journalFilePath + " of the restored snapshot " + filePath);
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} to {@code flashcards}.
+     * An incomplete last entry, left behind by an interrupted save, is ignored.
+     *
+     * @return the number of entries applied.
+     */
+    private int replayJournal(Path journalFilePath, Map<Integer, Flashcard> flashcards)
+            throws DataConversionException, IOException {
+        String[] lines = FileUtil.readFromFile(journalFilePath).split("\n");
+        int replayedLength = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isEmpty()) {
+                continue;
+            }
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.length - 1) {
+                    logger.warning("Ignoring incomplete last entry of " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+            try {
+                entry.applyTo(flashcards);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            replayedLength++;
+        }
+        return replayedLength;
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveQuickCache(ReadOnlyQuickCache)}.
+     * Only saves to {@link #getQuickCacheFilePath()} are journaled; other files are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        requireNonNull(quickCache);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveQuickCache(quickCache, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        List<Flashcard> flashcards = quickCache.getFlashcardList();
+        Optional<List<JsonAdaptedJournalEntry>> entries = getChangesSinceLastSave(flashcards);
+        if (!entries.isPresent()
+                || journalLength + entries.get().size() > checkpointInterval
+                || entries.get().size() > flashcards.size()) {
+            writeCheckpoint(quickCache);
+        } else if (!entries.get().isEmpty()) {
+            appendToJournal(entries.get());
+        }
+    }
+
+    /**
+     * Writes {@code quickCache} as the new snapshot and empties the journal.
+     */
+    private void writeCheckpoint(ReadOnlyQuickCache quickCache) throws IOException {
+        savedFlashcards = null;
+        snapshotStorage.saveQuickCache(quickCache, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        remember(quickCache.getFlashcardList(), 0);
+        logger.fine("Wrote checkpoint of " + quickCache.getFlashcardList().size() + " flashcards to " + filePath);
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            content.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            FileUtil.appendToFile(journalFilePath, content.toString());
+            if (durability == Durability.ALWAYS) {
+                FileUtil.syncFile(journalFilePath);
+            }
+        } catch (IOException ioe) {
+            // the journal may now hold only some of the entries, so the next save writes a checkpoint
+            savedFlashcards = null;
+            throw ioe;
+        }
+        journalLength += entries.size();
+    }
+
+    @Override
+    public void flushQuickCache() {
+        // every save is written before it returns
+    }
+
+    /**
+     * Returns the journal entries that turn the last saved flashcards into {@code flashcards} and remembers
+     * {@code flashcards} as saved, or returns an empty {@code Optional} if a checkpoint has to be written instead.
+     */
+    private Optional<List<JsonAdaptedJournalEntry>> getChangesSinceLastSave(List<Flashcard> flashcards) {
+        if (savedFlashcards == null) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<Flashcard> changedFlashcards = new ArrayList<>();
+        BitSet presentIds = new BitSet();
+        int lastPosition = -1;
+        int addedCount = 0;
+        for (Flashcard flashcard : flashcards) {
+            if (!flashcard.hasId() || presentIds.get(flashcard.getId())) {
+                return Optional.empty();
+            }
+            presentIds.set(flashcard.getId());
+            SavedFlashcard saved = savedFlashcards.get(flashcard.getId());
+            if (saved == null) {
+                addedCount++;
+                entries.add(JsonAdaptedJournalEntry.ofAddition(flashcard));
+                changedFlashcards.add(flashcard);
+                continue;
+            }
+            if (addedCount > 0 || saved.position < lastPosition) {
+                // the journal can only append flashcards, so any other reordering needs a checkpoint
+                return Optional.empty();
+            }
+            lastPosition = saved.position;
+            if (!hasSameDetails(flashcard, saved.flashcard)) {
+                entries.add(JsonAdaptedJournalEntry.ofReplacement(flashcard));
+                changedFlashcards.add(flashcard);
+            } else if (!flashcard.getStatistics().equals(saved.flashcard.getStatistics())) {
+                entries.add(JsonAdaptedJournalEntry.ofStatistics(flashcard));
+                changedFlashcards.add(flashcard);
+            }
+        }
+        int keptCount = presentIds.cardinality() - addedCount;
+        if (keptCount < savedFlashcards.size()) {
+            List<Integer> deletedIds = new ArrayList<>();
+            for (Integer id : savedFlashcards.keySet()) {
+                if (!presentIds.get(id)) {
+                    deletedIds.add(id);
+                    entries.add(JsonAdaptedJournalEntry.ofDeletion(id));
+                }
+            }
+            deletedIds.forEach(savedFlashcards::remove);
+        }
+
+        for (Flashcard flashcard : changedFlashcards) {
+            SavedFlashcard saved = savedFlashcards.get(flashcard.getId());
+            int position = saved == null ? nextPosition++ : saved.position;
+            savedFlashcards.put(flashcard.getId(), new SavedFlashcard(flashcard, position));
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Remembers {@code flashcards} as the saved flashcards if {@code filePath} is the file saved to.
+     */
+    private void rememberIfSaveFile(Path filePath, Optional<List<Flashcard>> flashcards, int journalLength) {
+        if (!filePath.equals(this.filePath)) {
+            return;
+        }
+        if (flashcards.isPresent()) {
+            remember(flashcards.get(), journalLength);
+        } else {
+            savedFlashcards = null;
+        }
+    }
+
+    private void remember(List<Flashcard> flashcards, int journalLength) {
+        savedFlashcards = new HashMap<>();
+        nextPosition = 0;
+        for (Flashcard flashcard : flashcards) {
+            if (!flashcard.hasId()) {
+                savedFlashcards = null;
+                return;
+            }
+            savedFlashcards.put(flashcard.getId(), new SavedFlashcard(flashcard, nextPosition++));
+        }
+        this.journalLength = journalLength;
+    }
+
+    private static boolean hasSameDetails(Flashcard flashcard, Flashcard otherFlashcard) {
+        return flashcard.getQuestion().equals(otherFlashcard.getQuestion())
+                && flashcard.getTags().equals(otherFlashcard.getTags())
+                && flashcard.getDifficulty().equals(otherFlashcard.getDifficulty());
+    }
+
+    /**
+     * A flashcard as it was last saved, together with its position among the saved flashcards.
+     */
+    private static class SavedFlashcard {
+        private final Flashcard flashcard;
+        private final int position;
+
+        SavedFlashcard(Flashcard flashcard, int position) {
+            // keeps a copy, as the statistics of a flashcard stored in a QuickCache change in place
+            this.flashcard = flashcard.withId(flashcard.getId());
+            this.position = position;
+        }
+    }
+}
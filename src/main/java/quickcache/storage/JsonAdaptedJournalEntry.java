@@ -0,0 +1,124 @@
+package quickcache.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.Statistics;
+
+/**
+ * Jackson-friendly version of a change to a single flashcard, as recorded in the journal of a
+ * {@link JournaledQuickCacheStorage}.
+ * Every entry holds the state of the flashcard after the change, so replaying an entry more than once
+ * has the same effect as replaying it once.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String ADD = "add";
+    public static final String SET = "set";
+    public static final String DELETE = "delete";
+    public static final String STATISTICS = "statistics";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String INVALID_TYPE = "Invalid journal entry type!";
+    public static final String MISMATCHED_ID = "Journal entry's flashcard does not have the id of the entry!";
+    public static final String UNKNOWN_FLASHCARD = "Journal entry refers to a flashcard that does not exist!";
+
+    private final String type;
+    private final Integer id;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedQuickCache flashcard;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Statistics statistics;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type,
+                                   @JsonProperty("id") Integer id,
+                                   @JsonProperty("flashcard") JsonAdaptedQuickCache flashcard,
+                                   @JsonProperty("statistics") Statistics statistics) {
+        this.type = type;
+        this.id = id;
+        this.flashcard = flashcard;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns an entry recording that {@code flashcard}, which has an id, was added.
+     */
+    public static JsonAdaptedJournalEntry ofAddition(Flashcard flashcard) {
+        return new JsonAdaptedJournalEntry(ADD, flashcard.getId(), new JsonAdaptedQuickCache(flashcard), null);
+    }
+
+    /**
+     * Returns an entry recording that the flashcard with the id of {@code flashcard} was replaced by it.
+     */
+    public static JsonAdaptedJournalEntry ofReplacement(Flashcard flashcard) {
+        return new JsonAdaptedJournalEntry(SET, flashcard.getId(), new JsonAdaptedQuickCache(flashcard), null);
+    }
+
+    /**
+     * Returns an entry recording that the flashcard with the given {@code id} was deleted.
+     */
+    public static JsonAdaptedJournalEntry ofDeletion(int id) {
+        return new JsonAdaptedJournalEntry(DELETE, id, null, null);
+    }
+
+    /**
+     * Returns an entry recording that only the statistics of {@code flashcard} changed.
+     */
+    public static JsonAdaptedJournalEntry ofStatistics(Flashcard flashcard) {
+        return new JsonAdaptedJournalEntry(STATISTICS, flashcard.getId(), null, flashcard.getStatistics());
+    }
+
+    /**
+     * Applies this change to {@code flashcards}, which maps the ids of flashcards to flashcards in their order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyTo(Map<Integer, Flashcard> flashcards) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+        }
+
+        switch (type) {
+        case ADD:
+        case SET:
+            if (flashcard == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "flashcard"));
+            }
+            Flashcard modelFlashcard = flashcard.toModelType();
+            if (modelFlashcard.getId() != id) {
+                throw new IllegalValueException(MISMATCHED_ID);
+            }
+            flashcards.put(id, modelFlashcard);
+            break;
+        case DELETE:
+            flashcards.remove(id);
+            break;
+        case STATISTICS:
+            if (statistics == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "statistics"));
+            }
+            Flashcard target = flashcards.get(id);
+            if (target == null) {
+                throw new IllegalValueException(UNKNOWN_FLASHCARD);
+            }
+            flashcards.put(id, new Flashcard(target.getQuestion(), target.getTags(), target.getDifficulty(),
+                    statistics, id));
+            break;
+        default:
+            throw new IllegalValueException(INVALID_TYPE);
+        }
+    }
+
+}
@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import quickcache.commons.exceptions.IllegalValueException;
@@ -28,6 +29,7 @@ class JsonAdaptedQuickCache {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Flashcard's %s field is missing!";
     public static final String INVALID_TYPE = "Invalid flashcard type!";
+    public static final String INVALID_ID = "Flashcard's id should be a non-negative integer!";
 
     private final String type;
     private final String question;
@@ -36,6 +38,8 @@ class JsonAdaptedQuickCache {
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final String difficulty;
     private final Statistics statistics;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given flashcard details.
@@ -47,7 +51,8 @@ class JsonAdaptedQuickCache {
                                  @JsonProperty("answer") String answer,
                                  @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
                                  @JsonProperty("difficulty") String difficulty,
-                                 @JsonProperty("statistics") Statistics statistics) {
+                                 @JsonProperty("statistics") Statistics statistics,
+                                 @JsonProperty("id") Integer id) {
         this.type = type;
         this.question = question;
         this.choices = choices;
@@ -57,6 +62,15 @@ class JsonAdaptedQuickCache {
         }
         this.difficulty = difficulty;
         this.statistics = statistics;
+        this.id = id;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedQuickCache} with the given flashcard details and no id.
+     */
+    public JsonAdaptedQuickCache(String type, String question, List<String> choices, String answer,
+                                 List<JsonAdaptedTag> tagged, String difficulty, Statistics statistics) {
+        this(type, question, choices, answer, tagged, difficulty, statistics, null);
     }
 
     /**
@@ -89,6 +103,7 @@ class JsonAdaptedQuickCache {
 
         this.statistics = source.getStatistics();
 
+        this.id = source.hasId() ? source.getId() : null;
     }
 
     /**
@@ -102,6 +117,11 @@ class JsonAdaptedQuickCache {
             flashcardTags.add(tag.toModelType());
         }
 
+        if (id != null && id < 0) {
+            throw new IllegalValueException(INVALID_ID);
+        }
+        final int modelId = id == null ? Flashcard.NO_ID : id;
+
         if (type == null || ((!(type.equals(MultipleChoiceQuestion.TYPE)))
                 && (!(type.equals(OpenEndedQuestion.TYPE))))) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, String.class.getSimpleName()));
@@ -142,12 +162,10 @@ class JsonAdaptedQuickCache {
 
             final Set<Tag> modelTags = new HashSet<>(flashcardTags);
 
-            if (difficulty == null) {
-                return new Flashcard(modelQuestion, modelTags, modelStatistics);
-            } else {
-                final Difficulty modelDifficulty = new Difficulty(difficulty);
-                return new Flashcard(modelQuestion, modelTags, modelDifficulty, modelStatistics);
-            }
+            final Difficulty modelDifficulty = difficulty == null
+                    ? Difficulty.unspecified()
+                    : Difficulty.of(difficulty);
+            return new Flashcard(modelQuestion, modelTags, modelDifficulty, modelStatistics, modelId);
 
         } else if (type.equals(OpenEndedQuestion.TYPE)) {
 
@@ -180,12 +198,10 @@ class JsonAdaptedQuickCache {
 
             final Set<Tag> modelTags = new HashSet<>(flashcardTags);
 
-            if (difficulty == null) {
-                return new Flashcard(modelQuestion, modelTags, modelStatistics);
-            } else {
-                final Difficulty modelDifficulty = new Difficulty(difficulty);
-                return new Flashcard(modelQuestion, modelTags, modelDifficulty, modelStatistics);
-            }
+            final Difficulty modelDifficulty = difficulty == null
+                    ? Difficulty.unspecified()
+                    : Difficulty.of(difficulty);
+            return new Flashcard(modelQuestion, modelTags, modelDifficulty, modelStatistics, modelId);
 
         } else {
             throw new IllegalValueException(String.format(INVALID_TYPE));
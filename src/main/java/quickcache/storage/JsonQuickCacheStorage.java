@@ -3,8 +3,13 @@ package quickcache.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import quickcache.commons.core.LogsCenter;
@@ -12,10 +17,14 @@ import quickcache.commons.exceptions.DataConversionException;
 import quickcache.commons.exceptions.IllegalValueException;
 import quickcache.commons.util.FileUtil;
 import quickcache.commons.util.JsonUtil;
+import quickcache.model.QuickCache;
 import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
 
 /**
  * A class to access QuickCache data stored as a json file on the hard disk.
+ * The flashcards are written to and read from the file one at a time, without holding the whole json document
+ * in memory, and the flashcards read are converted into the model's objects in parallel.
  */
 
 public class JsonQuickCacheStorage implements QuickCacheStorage {
@@ -23,9 +32,19 @@ public class JsonQuickCacheStorage implements QuickCacheStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonQuickCacheStorage.class);
 
     private final Path filePath;
+    private final boolean isCompact;
 
     public JsonQuickCacheStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonQuickCacheStorage} that saves to {@code filePath}, leaving out the line breaks and
+     * indentation of the json file if {@code isCompact} is true.
+     */
+    public JsonQuickCacheStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getQuickCacheFilePath() {
@@ -46,18 +65,59 @@ public class JsonQuickCacheStorage implements QuickCacheStorage {
     public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableQuickCache> jsonQuickCache = JsonUtil.readJsonFile(
-                filePath, JsonSerializableQuickCache.class);
-        if (!jsonQuickCache.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        ParallelQuickCacheLoader<JsonAdaptedQuickCache> loader =
+                new ParallelQuickCacheLoader<>(JsonAdaptedQuickCache::toModelType);
+        QuickCache quickCache;
         try {
-            return Optional.of(jsonQuickCache.get().toModelType());
+            JsonUtil.readJsonArrayFile(filePath, JsonSerializableQuickCache.FLASHCARDS_FIELD,
+                    JsonAdaptedQuickCache.class, loader::add);
+            quickCache = loader.finish();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+        return Optional.of(quickCache);
+    }
+
+    /**
+     * Reads the flashcards of the json file at {@code filePath} as it is parsed, so that only one batch of
+     * flashcards is held at a time. Duplicate flashcards are not rejected, as the batches are not kept.
+     *
+     * @see QuickCacheStorage#readFlashcards(Path, int, Consumer)
+     */
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(batchHandler);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        ParallelQuickCacheLoader<JsonAdaptedQuickCache> loader =
+                new ParallelQuickCacheLoader<>(JsonAdaptedQuickCache::toModelType, batchSize, batchHandler);
+        try {
+            JsonUtil.readJsonArrayFile(filePath, JsonSerializableQuickCache.FLASHCARDS_FIELD,
+                    JsonAdaptedQuickCache.class, loader::add);
+            loader.flush();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return true;
     }
 
     @Override
@@ -75,7 +135,43 @@ public class JsonQuickCacheStorage implements QuickCacheStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableQuickCache(quickCache), filePath);
+        JsonUtil.saveJsonArrayFile(JsonSerializableQuickCache.FLASHCARDS_FIELD, toJsonAdapted(quickCache), filePath,
+                isCompact);
+    }
+
+    /**
+     * Writes {@code quickCache} to {@code out} in the json format, leaving {@code out} open.
+     *
+     * @param isCompact whether to leave out the line breaks and indentation.
+     */
+    static void writeQuickCache(ReadOnlyQuickCache quickCache, OutputStream out, boolean isCompact)
+            throws IOException {
+        requireNonNull(quickCache);
+        JsonUtil.saveJsonArray(JsonSerializableQuickCache.FLASHCARDS_FIELD, toJsonAdapted(quickCache), out,
+                isCompact);
+    }
+
+    /**
+     * Reads a QuickCache in the json format from {@code in}, leaving {@code in} open.
+     *
+     * @throws IOException if {@code in} could not be read or is not in the json format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static QuickCache readQuickCache(InputStream in) throws IOException, IllegalValueException {
+        ParallelQuickCacheLoader<JsonAdaptedQuickCache> loader =
+                new ParallelQuickCacheLoader<>(JsonAdaptedQuickCache::toModelType);
+        JsonUtil.readJsonArray(in, JsonSerializableQuickCache.FLASHCARDS_FIELD, JsonAdaptedQuickCache.class,
+                loader::add);
+        return loader.finish();
+    }
+
+    private static Iterable<JsonAdaptedQuickCache> toJsonAdapted(ReadOnlyQuickCache quickCache) {
+        return () -> quickCache.getFlashcardList().stream().map(JsonAdaptedQuickCache::new).iterator();
+    }
+
+    @Override
+    public void flushQuickCache() {
+        // every save is written before it returns
     }
 
 }
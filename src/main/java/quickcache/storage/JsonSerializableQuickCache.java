@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import quickcache.commons.exceptions.IllegalValueException;
 import quickcache.model.QuickCache;
 import quickcache.model.ReadOnlyQuickCache;
-import quickcache.model.flashcard.Flashcard;
 
 /**
  * An Immutable QuickCache that is serializable to JSON format.
@@ -19,6 +18,7 @@ import quickcache.model.flashcard.Flashcard;
 @JsonRootName(value = "quickCache")
 class JsonSerializableQuickCache {
 
+    public static final String FLASHCARDS_FIELD = "flashcards";
     public static final String MESSAGE_DUPLICATE_FLASHCARD = "Flashcards list contains duplicate flashcard(s).";
 
     private final List<JsonAdaptedQuickCache> flashcards = new ArrayList<>();
@@ -27,7 +27,7 @@ class JsonSerializableQuickCache {
      * Constructs a {@code JsonSerializableQuickCache} with the given flashcards.
      */
     @JsonCreator
-    public JsonSerializableQuickCache(@JsonProperty("flashcards") List<JsonAdaptedQuickCache> flashcards) {
+    public JsonSerializableQuickCache(@JsonProperty(FLASHCARDS_FIELD) List<JsonAdaptedQuickCache> flashcards) {
         this.flashcards.addAll(flashcards);
     }
 
@@ -47,15 +47,12 @@ class JsonSerializableQuickCache {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public QuickCache toModelType() throws IllegalValueException {
-        QuickCache quickCache = new QuickCache();
+        ParallelQuickCacheLoader<JsonAdaptedQuickCache> loader =
+                new ParallelQuickCacheLoader<>(JsonAdaptedQuickCache::toModelType);
         for (JsonAdaptedQuickCache jsonAdaptedQuickCache : flashcards) {
-            Flashcard flashcard = jsonAdaptedQuickCache.toModelType();
-            if (quickCache.hasFlashcard(flashcard)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
-            }
-            quickCache.addFlashcard(flashcard);
+            loader.add(jsonAdaptedQuickCache);
         }
-        return quickCache;
+        return loader.finish();
     }
 
 }
@@ -0,0 +1,107 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import quickcache.commons.core.DataFileFormat;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
+
+/**
+ * A class to access QuickCache data stored on the hard disk in either json or the binary format, optionally
+ * compressed. The format of a file and whether it is compressed are detected from its header when it is read,
+ * and files are saved in the given format.
+ */
+public class MultiFormatQuickCacheStorage implements QuickCacheStorage {
+
+    private final Path filePath;
+    private final DataFileFormat saveFormat;
+    private final JsonQuickCacheStorage jsonStorage;
+    private final BinaryQuickCacheStorage binaryStorage;
+    private final CompressedQuickCacheStorage compressedStorage;
+    private final boolean isCompressed;
+
+    /**
+     * Creates a {@code MultiFormatQuickCacheStorage} that saves to {@code filePath} in {@code saveFormat},
+     * leaving out the line breaks and indentation of json files if {@code isCompactJson} is true.
+     */
+    public MultiFormatQuickCacheStorage(Path filePath, DataFileFormat saveFormat, boolean isCompactJson) {
+        this(filePath, saveFormat, isCompactJson, false);
+    }
+
+    /**
+     * Creates a {@code MultiFormatQuickCacheStorage} that saves to {@code filePath} in {@code saveFormat},
+     * leaving out the line breaks and indentation of json files if {@code isCompactJson} is true and
+     * compressing the files if {@code isCompressed} is true.
+     */
+    public MultiFormatQuickCacheStorage(Path filePath, DataFileFormat saveFormat, boolean isCompactJson,
+            boolean isCompressed) {
+        requireNonNull(saveFormat);
+        this.filePath = filePath;
+        this.saveFormat = saveFormat;
+        this.isCompressed = isCompressed;
+        this.jsonStorage = new JsonQuickCacheStorage(filePath, isCompactJson);
+        this.binaryStorage = new BinaryQuickCacheStorage(filePath);
+        this.compressedStorage = new CompressedQuickCacheStorage(filePath, saveFormat, isCompactJson);
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (CompressedQuickCacheStorage.isCompressedFile(filePath)) {
+            return compressedStorage.readQuickCache(filePath);
+        }
+        return BinaryQuickCacheStorage.isBinaryFile(filePath)
+                ? binaryStorage.readQuickCache(filePath)
+                : jsonStorage.readQuickCache(filePath);
+    }
+
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (CompressedQuickCacheStorage.isCompressedFile(filePath)) {
+            return compressedStorage.readFlashcards(filePath, batchSize, batchHandler);
+        }
+        return BinaryQuickCacheStorage.isBinaryFile(filePath)
+                ? binaryStorage.readFlashcards(filePath, batchSize, batchHandler)
+                : jsonStorage.readFlashcards(filePath, batchSize, batchHandler);
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, filePath);
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        if (isCompressed) {
+            compressedStorage.saveQuickCache(quickCache, filePath);
+        } else if (saveFormat == DataFileFormat.BINARY) {
+            binaryStorage.saveQuickCache(quickCache, filePath);
+        } else {
+            jsonStorage.saveQuickCache(quickCache, filePath);
+        }
+    }
+
+    @Override
+    public void flushQuickCache() {
+        // every save is written before it returns
+    }
+}
@@ -0,0 +1,201 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.model.QuickCache;
+import quickcache.model.flashcard.Flashcard;
+
+/**
+ * Builds a QuickCache from stored flashcards that are added one at a time, converting them into the model's
+ * {@code Flashcard} objects on the common fork-join pool.
+ * <p>
+ * The stored flashcards are gathered into batches. Each batch is split into chunks that are converted and validated
+ * in parallel, and the converted flashcards are then added to the QuickCache in the order they were given, checking
+ * for duplicates. A failure is always reported for the earliest stored flashcard that fails, as if the flashcards had
+ * been converted one after another.
+ * <p>
+ * Instead of building a QuickCache, the loader can hand each converted batch to a batch handler, so that a large
+ * file can be processed without holding all of its flashcards at once.
+ *
+ * @param <T> the type of the stored flashcards.
+ */
+class ParallelQuickCacheLoader<T> {
+
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final FlashcardConverter<? super T> converter;
+    private final int batchSize;
+    private final int chunkSize;
+    private final Consumer<List<Flashcard>> batchHandler;
+    private final QuickCache quickCache = new QuickCache();
+    private final List<T> batch = new ArrayList<>();
+
+    private int firstFailureIndex;
+    private IllegalValueException firstFailure;
+
+    ParallelQuickCacheLoader(FlashcardConverter<? super T> converter) {
+        this(converter, DEFAULT_BATCH_SIZE, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code ParallelQuickCacheLoader} that converts {@code batchSize} stored flashcards at a time,
+     * in chunks of {@code chunkSize}.
+     */
+    ParallelQuickCacheLoader(FlashcardConverter<? super T> converter, int batchSize, int chunkSize) {
+        this(converter, batchSize, chunkSize, null);
+    }
+
+    /**
+     * Creates a {@code ParallelQuickCacheLoader} that converts {@code batchSize} stored flashcards at a time and
+     * hands each converted batch to {@code batchHandler}, without checking for duplicates or building a QuickCache.
+     */
+    ParallelQuickCacheLoader(FlashcardConverter<? super T> converter, int batchSize,
+            Consumer<List<Flashcard>> batchHandler) {
+        this(converter, batchSize, DEFAULT_CHUNK_SIZE, requireNonNull(batchHandler));
+    }
+
+    private ParallelQuickCacheLoader(FlashcardConverter<? super T> converter, int batchSize, int chunkSize,
+            Consumer<List<Flashcard>> batchHandler) {
+        requireNonNull(converter);
+        checkArgument(batchSize > 0, "Batch size should be positive");
+        checkArgument(chunkSize > 0, "Chunk size should be positive");
+        this.converter = converter;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.batchHandler = batchHandler;
+    }
+
+    /**
+     * Adds the stored flashcard {@code source}, converting the current batch if it is full.
+     *
+     * @throws IllegalValueException if a stored flashcard in the converted batch violates a data constraint,
+     *     or duplicates an earlier flashcard.
+     */
+    void add(T source) throws IllegalValueException {
+        requireNonNull(source);
+        batch.add(source);
+        if (batch.size() >= batchSize) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Converts the stored flashcards that have not been converted yet, and returns the QuickCache of all
+     * the flashcards added.
+     *
+     * @throws IllegalValueException if a stored flashcard violates a data constraint, or duplicates an earlier
+     *     flashcard.
+     */
+    QuickCache finish() throws IllegalValueException {
+        flush();
+        return quickCache;
+    }
+
+    /**
+     * Converts the stored flashcards that have not been converted yet, handing them to the batch handler if there
+     * is one.
+     *
+     * @throws IllegalValueException if a stored flashcard violates a data constraint, or duplicates an earlier
+     *     flashcard.
+     */
+    void flush() throws IllegalValueException {
+        if (!batch.isEmpty()) {
+            convertBatch();
+        }
+    }
+
+    private void convertBatch() throws IllegalValueException {
+        Flashcard[] converted = new Flashcard[batch.size()];
+        firstFailureIndex = batch.size();
+        firstFailure = null;
+        ForkJoinPool.commonPool().invoke(new ConvertTask(converted, 0, batch.size()));
+
+        if (batchHandler != null) {
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+            batch.clear();
+            batchHandler.accept(Arrays.asList(converted));
+            return;
+        }
+        for (int i = 0; i < converted.length; i++) {
+            if (i == firstFailureIndex) {
+                throw firstFailure;
+            }
+            if (quickCache.hasFlashcard(converted[i])) {
+                throw new IllegalValueException(JsonSerializableQuickCache.MESSAGE_DUPLICATE_FLASHCARD);
+            }
+            quickCache.addFlashcard(converted[i]);
+        }
+        batch.clear();
+    }
+
+    private synchronized void recordFailure(int index, IllegalValueException failure) {
+        if (index < firstFailureIndex) {
+            firstFailureIndex = index;
+            firstFailure = failure;
+        }
+    }
+
+    private synchronized boolean hasFailedBefore(int index) {
+        return firstFailureIndex < index;
+    }
+
+    /**
+     * Converts the stored flashcards of the batch from {@code start} (inclusive) to {@code end} (exclusive),
+     * splitting the range in half until it is no larger than a chunk.
+     */
+    private class ConvertTask extends RecursiveAction {
+        private final Flashcard[] converted;
+        private final int start;
+        private final int end;
+
+        ConvertTask(Flashcard[] converted, int start, int end) {
+            this.converted = converted;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > chunkSize) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ConvertTask(converted, start, middle), new ConvertTask(converted, middle, end));
+                return;
+            }
+
+            // a chunk after an earlier failure is not needed, as the failure is reported before it is reached
+            if (hasFailedBefore(start)) {
+                return;
+            }
+            for (int i = start; i < end; i++) {
+                try {
+                    converted[i] = converter.toFlashcard(batch.get(i));
+                } catch (IllegalValueException ive) {
+                    recordFailure(i, ive);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a stored flashcard into the model's {@code Flashcard} object.
+     *
+     * @param <T> the type of the stored flashcard.
+     */
+    @FunctionalInterface
+    interface FlashcardConverter<T> {
+        Flashcard toFlashcard(T source) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,108 @@
+package quickcache.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import quickcache.model.flashcard.Flashcard;
+
+/**
+ * The changes that turn the flashcards of a QuickCache file as they were into the flashcards it holds now.
+ * The earlier flashcards are kept as copies keyed by their ids, and compared field by field with the flashcards held
+ * now, so that no change is missed because a changed flashcard happens to have the same hash as before.
+ */
+public class QuickCacheDiff {
+
+    private final List<Flashcard> updatedFlashcards;
+    private final Set<Integer> removedIds;
+
+    /**
+     * Creates a {@code QuickCacheDiff} that adds or replaces {@code updatedFlashcards} and removes the flashcards
+     * with {@code removedIds}.
+     */
+    public QuickCacheDiff(List<Flashcard> updatedFlashcards, Set<Integer> removedIds) {
+        requireNonNull(updatedFlashcards);
+        requireNonNull(removedIds);
+        this.updatedFlashcards = Collections.unmodifiableList(updatedFlashcards);
+        this.removedIds = Collections.unmodifiableSet(removedIds);
+    }
+
+    /**
+     * Returns copies of {@code flashcards} keyed by their ids, which keep the statistics the flashcards have now.
+     * Flashcards without an id are left out.
+     */
+    public static Map<Integer, Flashcard> snapshot(List<Flashcard> flashcards) {
+        requireNonNull(flashcards);
+        Map<Integer, Flashcard> snapshot = new HashMap<>(flashcards.size() * 2);
+        for (Flashcard flashcard : flashcards) {
+            if (flashcard.hasId()) {
+                // the statistics of a flashcard stored in a QuickCache change in place, so a copy is kept
+                snapshot.put(flashcard.getId(), flashcard.withId(flashcard.getId()));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the changes that turn the {@code earlierFlashcards}, as returned by {@link #snapshot(List)},
+     * into {@code flashcards}.
+     * A flashcard without an id cannot be matched with an earlier one, so it is taken as added.
+     */
+    public static QuickCacheDiff between(Map<Integer, Flashcard> earlierFlashcards, List<Flashcard> flashcards) {
+        requireNonNull(earlierFlashcards);
+        requireNonNull(flashcards);
+        List<Flashcard> updatedFlashcards = new ArrayList<>();
+        Set<Integer> presentIds = new HashSet<>(flashcards.size() * 2);
+        for (Flashcard flashcard : flashcards) {
+            if (!flashcard.hasId()) {
+                updatedFlashcards.add(flashcard);
+                continue;
+            }
+            presentIds.add(flashcard.getId());
+            Flashcard earlierFlashcard = earlierFlashcards.get(flashcard.getId());
+            if (earlierFlashcard == null || !earlierFlashcard.equals(flashcard)) {
+                updatedFlashcards.add(flashcard);
+            }
+        }
+
+        Set<Integer> removedIds = new HashSet<>();
+        for (Integer id : earlierFlashcards.keySet()) {
+            if (!presentIds.contains(id)) {
+                removedIds.add(id);
+            }
+        }
+        return new QuickCacheDiff(updatedFlashcards, removedIds);
+    }
+
+    /**
+     * Returns the flashcards that were added or changed, in the order they are held in the file.
+     */
+    public List<Flashcard> getUpdatedFlashcards() {
+        return updatedFlashcards;
+    }
+
+    /**
+     * Returns the ids of the flashcards that were removed.
+     */
+    public Set<Integer> getRemovedIds() {
+        return removedIds;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return updatedFlashcards.isEmpty() && removedIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return updatedFlashcards.size() + " flashcards added or changed, " + removedIds.size() + " removed";
+    }
+}
@@ -1,12 +1,18 @@
 package quickcache.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import quickcache.commons.exceptions.DataConversionException;
 import quickcache.model.QuickCache;
 import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
 
 /**
  * Represents a storage for {@link QuickCache}.
@@ -32,6 +38,51 @@ public interface QuickCacheStorage {
      */
     Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the flashcards of the QuickCache data at {@code filePath} in batches of at most {@code batchSize}
+     * flashcards, handing each batch to {@code batchHandler} in order.
+     * The default implementation reads all of the data before handing it over; storages that can read their data
+     * a part at a time should hand over each batch as soon as it is read.
+     *
+     * @return false if the storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format. Batches read before
+     *     the problem was found have already been handed over.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyQuickCache> quickCache = readQuickCache(filePath);
+        if (quickCache.isEmpty()) {
+            return false;
+        }
+        List<Flashcard> flashcards = quickCache.get().getFlashcardList();
+        for (int start = 0; start < flashcards.size(); start += batchSize) {
+            batchHandler.accept(new ArrayList<>(flashcards.subList(start, Math.min(start + batchSize,
+                    flashcards.size()))));
+        }
+        return true;
+    }
+
+    /**
+     * Similar to {@link #readFlashcards(Path, int, Consumer)}, but skips the entries that are not valid flashcards
+     * where the storage can, handing a description of each to {@code invalidEntryHandler}.
+     * The default implementation cannot skip entries, and fails as {@link #readFlashcards(Path, int, Consumer)} does.
+     */
+    default boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler,
+            Consumer<String> invalidEntryHandler) throws DataConversionException, IOException {
+        return readFlashcards(filePath, batchSize, batchHandler);
+    }
+
+    /**
+     * Sets the handler called with the path of a data file after the storage has replaced that file with an earlier
+     * version of it while reading it, e.g. with its backup, replacing any handler set before.
+     * Storages layered over this one use it to discard what they keep about the replaced file.
+     * The default implementation never replaces a file it reads, so never calls {@code restoreHandler}.
+     */
+    default void setRestoreHandler(RestoreHandler restoreHandler) {
+        requireNonNull(restoreHandler);
+    }
+
     /**
      * Saves the given {@link ReadOnlyQuickCache} to the storage.
      *
@@ -45,4 +96,19 @@ public interface QuickCacheStorage {
      */
     void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException;
 
+    /**
+     * Waits until all QuickCache data given to {@link #saveQuickCache(ReadOnlyQuickCache)} has been written.
+     *
+     * @throws IOException if there was any problem writing the data.
+     */
+    void flushQuickCache() throws IOException;
+
+    /**
+     * Handles a data file that was replaced with an earlier version of it while being read.
+     */
+    @FunctionalInterface
+    interface RestoreHandler {
+        void fileRestored(Path filePath) throws IOException;
+    }
+
 }
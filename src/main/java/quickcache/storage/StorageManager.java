@@ -2,7 +2,9 @@ package quickcache.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import quickcache.commons.core.LogsCenter;
@@ -10,6 +12,7 @@ import quickcache.commons.exceptions.DataConversionException;
 import quickcache.model.ReadOnlyQuickCache;
 import quickcache.model.ReadOnlyUserPrefs;
 import quickcache.model.UserPrefs;
+import quickcache.model.flashcard.Flashcard;
 
 /**
  * Manages storage of QuickCache data in local storage.
@@ -65,6 +68,13 @@ public class StorageManager implements Storage {
         return quickCacheStorage.readQuickCache(filePath);
     }
 
+    @Override
+    public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read flashcards from file: " + filePath);
+        return quickCacheStorage.readFlashcards(filePath, batchSize, batchHandler);
+    }
+
     @Override
     public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
         saveQuickCache(quickCache, quickCacheStorage.getQuickCacheFilePath());
@@ -76,4 +86,9 @@ public class StorageManager implements Storage {
         quickCacheStorage.saveQuickCache(quickCache, filePath);
     }
 
+    @Override
+    public void flushQuickCache() throws IOException {
+        quickCacheStorage.flushQuickCache();
+    }
+
 }
@@ -0,0 +1,264 @@
+package quickcache.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.Objects.requireNonNull;
+import static quickcache.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import quickcache.commons.core.LogsCenter;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
+
+/**
+ * A {@code QuickCacheStorage} that notices when its file is changed by another program.
+ * It remembers copies of the flashcards last read from or saved to its file, and the modification time and size
+ * the file had then. Once watching has been started, a background thread waits for the file to be changed, reads
+ * it again and hands the changes from the remembered flashcards to a handler, so that only the flashcards that were
+ * changed have to be updated. The files written by this storage itself are told apart by their modification time
+ * and size, so they are not read again.
+ */
+public class WatchedQuickCacheStorage implements QuickCacheStorage, Closeable {
+
+    public static final long DEFAULT_SETTLE_DELAY = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedQuickCacheStorage.class);
+
+    private final QuickCacheStorage storage;
+    private final long settleDelay;
+
+    private Map<Integer, Flashcard> savedFlashcards = new HashMap<>();
+    private long savedModifiedTime = -1;
+    private long savedSize = -1;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code WatchedQuickCacheStorage} that reads and saves through {@code storage}, and once watching,
+     * waits until its file has not been changed for {@code settleDelay} milliseconds before reading it again.
+     */
+    public WatchedQuickCacheStorage(QuickCacheStorage storage, long settleDelay) {
+        requireNonNull(storage);
+        checkArgument(settleDelay >= 0, "Settle delay should not be negative");
+        this.storage = storage;
+        this.settleDelay = settleDelay;
+    }
+
+    @Override
+    public Path getQuickCacheFilePath() {
+        return storage.getQuickCacheFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyQuickCache> readQuickCache() throws DataConversionException, IOException {
+        return readQuickCache(getQuickCacheFilePath());
+    }
+
+    /**
+     * Similar to {@link #readQuickCache()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyQuickCache> readQuickCache(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyQuickCache> quickCache = storage.readQuickCache(filePath);
+        if (filePath.equals(getQuickCacheFilePath()) && quickCache.isPresent()) {
+            remember(QuickCacheDiff.snapshot(quickCache.get().getFlashcardList()));
+        }
+        return quickCache;
+    }
+
+    /**
+     * Similar to {@link QuickCacheStorage#readFlashcards(Path, int, Consumer)}.
+     */
+    @Override
+    public synchronized boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(batchHandler);
+
+        if (!filePath.equals(getQuickCacheFilePath())) {
+            return storage.readFlashcards(filePath, batchSize, batchHandler);
+        }
+        Map<Integer, Flashcard> flashcards = new HashMap<>();
+        boolean isFound = storage.readFlashcards(filePath, batchSize, batch -> {
+            flashcards.putAll(QuickCacheDiff.snapshot(batch));
+            batchHandler.accept(batch);
+        });
+        if (isFound) {
+            remember(flashcards);
+        }
+        return isFound;
+    }
+
+    @Override
+    public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+        saveQuickCache(quickCache, getQuickCacheFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveQuickCache(ReadOnlyQuickCache)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+        requireNonNull(quickCache);
+        requireNonNull(filePath);
+
+        storage.saveQuickCache(quickCache, filePath);
+        if (filePath.equals(getQuickCacheFilePath())) {
+            remember(QuickCacheDiff.snapshot(quickCache.getFlashcardList()));
+        }
+    }
+
+    @Override
+    public void flushQuickCache() throws IOException {
+        storage.flushQuickCache();
+    }
+
+    /**
+     * Reads the file again if it has been changed since it was last read or saved, and returns the changes from the
+     * flashcards read or saved then.
+     * Nothing is read if the file is missing, as the flashcards are kept until the file is written again.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized QuickCacheDiff readChanges() throws DataConversionException, IOException {
+        Path filePath = getQuickCacheFilePath();
+        if (!Files.exists(filePath) || isUnchanged(filePath)) {
+            return new QuickCacheDiff(List.of(), Set.of());
+        }
+
+        Optional<ReadOnlyQuickCache> quickCache = storage.readQuickCache(filePath);
+        if (!quickCache.isPresent()) {
+            return new QuickCacheDiff(List.of(), Set.of());
+        }
+        List<Flashcard> flashcards = quickCache.get().getFlashcardList();
+        QuickCacheDiff diff = QuickCacheDiff.between(savedFlashcards, flashcards);
+        remember(QuickCacheDiff.snapshot(flashcards));
+        return diff;
+    }
+
+    /**
+     * Starts watching the file for changes made by other programs, handing each set of changes read to
+     * {@code changeHandler} on a background thread.
+     *
+     * @throws IOException if the directory of the file cannot be watched.
+     */
+    public synchronized void startWatching(Consumer<QuickCacheDiff> changeHandler) throws IOException {
+        requireNonNull(changeHandler);
+        checkArgument(watchService == null, "Already watching " + getQuickCacheFilePath());
+
+        Path directory = getQuickCacheFilePath().toAbsolutePath().getParent();
+        WatchService newWatchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(newWatchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException ioe) {
+            newWatchService.close();
+            throw ioe;
+        }
+        watchService = newWatchService;
+
+        Thread watcher = new Thread(() -> watch(newWatchService, changeHandler), "QuickCache watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching " + getQuickCacheFilePath() + " for changes");
+    }
+
+    /**
+     * Stops watching the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    private void watch(WatchService watchService, Consumer<QuickCacheDiff> changeHandler) {
+        try {
+            while (true) {
+                if (!isFileEvent(watchService.take())) {
+                    continue;
+                }
+                // another program may write the file in several steps, so it is only read once it has settled
+                WatchKey key;
+                while ((key = watchService.poll(settleDelay, TimeUnit.MILLISECONDS)) != null) {
+                    isFileEvent(key);
+                }
+                handleChanges(changeHandler);
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching " + getQuickCacheFilePath());
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} are about the file, and lets {@code key} wait for more events.
+     */
+    private boolean isFileEvent(WatchKey key) {
+        Path fileName = getQuickCacheFilePath().getFileName();
+        boolean isFileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isFileEvent |= fileName.equals(event.context());
+        }
+        key.reset();
+        return isFileEvent;
+    }
+
+    private void handleChanges(Consumer<QuickCacheDiff> changeHandler) {
+        QuickCacheDiff diff;
+        try {
+            diff = readChanges();
+        } catch (DataConversionException dce) {
+            logger.warning("Changed data file " + getQuickCacheFilePath() + " is not in the correct format, "
+                    + "ignoring the change: " + dce.getMessage());
+            return;
+        } catch (IOException ioe) {
+            logger.warning("Problem while reading the changed data file " + getQuickCacheFilePath() + ": " + ioe);
+            return;
+        }
+        if (!diff.isEmpty()) {
+            logger.info("Data file " + getQuickCacheFilePath() + " was changed: " + diff);
+            changeHandler.accept(diff);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} has the modification time and size it had when it was last read
+     * or saved.
+     */
+    private boolean isUnchanged(Path filePath) throws IOException {
+        return Files.getLastModifiedTime(filePath).toMillis() == savedModifiedTime
+                && Files.size(filePath) == savedSize;
+    }
+
+    private void remember(Map<Integer, Flashcard> flashcards) throws IOException {
+        savedFlashcards = flashcards;
+        Path filePath = getQuickCacheFilePath();
+        boolean isFileExists = Files.exists(filePath);
+        savedModifiedTime = isFileExists ? Files.getLastModifiedTime(filePath).toMillis() : -1;
+        savedSize = isFileExists ? Files.size(filePath) : -1;
+    }
+}
@@ -39,6 +39,16 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
     }
 
+    /**
+     * Stops commands from being entered if {@code isDisabled}, or lets them be entered again otherwise.
+     */
+    public void setDisabled(boolean isDisabled) {
+        commandTextField.setDisable(isDisabled);
+        if (!isDisabled) {
+            commandTextField.requestFocus();
+        }
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
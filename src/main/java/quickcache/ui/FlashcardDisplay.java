@@ -47,13 +47,14 @@ public class FlashcardDisplay extends UiPart<Region> {
         flashcard.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        if (!(flashcard.getDifficulty().getValue().equals(Difficulties.UNSPECIFIED.name()))) {
+        Difficulties level = flashcard.getDifficulty().getLevel();
+        if (level != Difficulties.UNSPECIFIED) {
             Label difficultyLabel = new Label("Difficulty: " + flashcard.getDifficulty().value);
-            if (flashcard.getDifficulty().getValue().equals(Difficulties.LOW.name())) {
+            if (level == Difficulties.LOW) {
                 difficultyLabel.setStyle("-fx-background-color: #4BA314;");
-            } else if (flashcard.getDifficulty().getValue().equals(Difficulties.MEDIUM.name())) {
+            } else if (level == Difficulties.MEDIUM) {
                 difficultyLabel.setStyle("-fx-background-color: #E5B915;");
-            } else if (flashcard.getDifficulty().getValue().equals(Difficulties.HIGH.name())) {
+            } else if (level == Difficulties.HIGH) {
                 difficultyLabel.setStyle("-fx-background-color: #BE4C34;");
             } else {
                 difficultyLabel.setStyle("-fx-background-color: #262626;");
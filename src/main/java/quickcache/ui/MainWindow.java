@@ -47,6 +47,7 @@ public class MainWindow extends UiPart<Stage> {
     private QuestionDisplay questionDisplay;
 
     private PieChartDisplay pieChartDisplay;
+    private CommandBox commandBox;
 
     private boolean isOnChangedWindow;
 
@@ -139,10 +140,18 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getQuickCacheFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows {@code message} in the result display, and disables the command box while {@code isLoading}.
+     */
+    void setLoading(boolean isLoading, String message) {
+        commandBox.setDisabled(isLoading);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
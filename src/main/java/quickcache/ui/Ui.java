@@ -12,4 +12,14 @@ public interface Ui {
      */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code message} and stops commands from being entered while the QuickCache is being loaded.
+     */
+    void showLoading(String message);
+
+    /**
+     * Shows {@code message} and lets commands be entered once the QuickCache has been loaded.
+     */
+    void showLoaded(String message);
+
 }
@@ -71,6 +71,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoading(String message) {
+        mainWindow.setLoading(true, message);
+    }
+
+    @Override
+    public void showLoaded(String message) {
+        mainWindow.setLoading(false, message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
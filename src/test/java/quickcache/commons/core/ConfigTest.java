@@ -11,7 +11,11 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-            + "Preference file Location : preferences.json";
+            + "Preference file Location : preferences.json\n"
+            + "Durability : CHECKPOINT\n"
+            + "Autosave delay : 200ms\n"
+            + "Compact data file : false\n"
+            + "Compress data file : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,110 @@
+package quickcache.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockDeflaterOutputStreamTest {
+
+    private static final int BLOCK_SIZE = 1024;
+
+    @Test
+    public void constructor_invalidBlockSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BlockDeflaterOutputStream(new ByteArrayOutputStream(), 0, Deflater.DEFAULT_COMPRESSION));
+    }
+
+    @Test
+    public void write_manyBlocks_readBackInOrder() throws Exception {
+        byte[] data = createData(100 * BLOCK_SIZE + 17);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        BlockDeflaterOutputStream out = new BlockDeflaterOutputStream(compressed, BLOCK_SIZE,
+                Deflater.DEFAULT_COMPRESSION);
+        // mixes single bytes and arrays crossing block boundaries
+        out.write(data[0]);
+        out.write(data, 1, data.length - 1);
+        out.close();
+
+        assertEquals((long) data.length, out.getUncompressedSize());
+        assertEquals((long) compressed.size(), out.getCompressedSize());
+        assertTrue(compressed.size() < data.length);
+        assertTrue(Arrays.equals(data, inflate(compressed.toByteArray())));
+    }
+
+    @Test
+    public void write_nothing_readBackEmpty() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new BlockDeflaterOutputStream(compressed).close();
+
+        assertEquals(0, inflate(compressed.toByteArray()).length);
+    }
+
+    @Test
+    public void write_afterClose_throwsIOException() throws Exception {
+        BlockDeflaterOutputStream out = new BlockDeflaterOutputStream(new ByteArrayOutputStream());
+        out.close();
+
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+
+    @Test
+    public void read_truncatedStream_throwsIOException() throws Exception {
+        byte[] compressed = deflate(createData(10 * BLOCK_SIZE));
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length - Integer.BYTES);
+
+        assertThrows(IOException.class, () -> inflate(truncated));
+    }
+
+    @Test
+    public void read_damagedBlock_throwsIOException() throws Exception {
+        byte[] compressed = deflate(createData(10 * BLOCK_SIZE));
+        // the first bytes of the zlib data of the first block, after the magic and the block lengths
+        compressed[BlockDeflaterOutputStream.MAGIC.length + 2 * Integer.BYTES + 2] ^= 0x55;
+        compressed[BlockDeflaterOutputStream.MAGIC.length + 2 * Integer.BYTES + 3] ^= 0x55;
+
+        assertThrows(IOException.class, () -> inflate(compressed));
+    }
+
+    @Test
+    public void read_notBlockCompressed_throwsIOException() {
+        assertThrows(IOException.class, () -> new BlockInflaterInputStream(
+                new ByteArrayInputStream("{\"flashcards\":[]}".getBytes())));
+    }
+
+    /**
+     * Returns {@code length} bytes that compress well, but not into nothing.
+     */
+    private static byte[] createData(int length) {
+        Random random = new Random(length);
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return data;
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (BlockDeflaterOutputStream out = new BlockDeflaterOutputStream(compressed, BLOCK_SIZE,
+                Deflater.DEFAULT_COMPRESSION)) {
+            out.write(data);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] compressed) throws IOException {
+        try (InputStream in = new BlockInflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package quickcache.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DelimitedReaderTest {
+
+    @Test
+    public void constructor_quoteDelimiter_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DelimitedReader(new StringReader(""), '"'));
+    }
+
+    @Test
+    public void readRow_unquotedFields_splitsOnDelimiter() throws Exception {
+        DelimitedReader reader = new DelimitedReader(new StringReader("a,b,,c\r\nd\n\ne,f"), ',');
+        List<String> fields = new ArrayList<>();
+
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of("a", "b", "", "c"), fields);
+        assertEquals(1L, reader.getRowLineNumber());
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of("d"), fields);
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of(""), fields);
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of("e", "f"), fields);
+        assertEquals(4L, reader.getRowLineNumber());
+        assertFalse(reader.readRow(fields));
+        assertTrue(fields.isEmpty());
+    }
+
+    @Test
+    public void readRow_quotedFields_keepsDelimitersQuotesAndLineBreaks() throws Exception {
+        DelimitedReader reader = new DelimitedReader(new StringReader(
+                "\uFEFF\"a\tb\"\t\"say \"\"hi\"\"\"\t\"two\nlines\"\nnext\t\"\"\n"), '\t');
+        List<String> fields = new ArrayList<>();
+
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of("a\tb", "say \"hi\"", "two\nlines"), fields);
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of("next", ""), fields);
+        // the line break inside the quoted field is counted
+        assertEquals(3L, reader.getRowLineNumber());
+        assertFalse(reader.readRow(fields));
+    }
+
+    @Test
+    public void readRow_unclosedQuote_throwsIoException() throws Exception {
+        DelimitedReader reader = new DelimitedReader(new StringReader("a,\"b\nc"), ',');
+
+        assertThrows(IOException.class, () -> reader.readRow(new ArrayList<>()));
+    }
+
+    @Test
+    public void readRow_rowLongerThanBuffer_readsWholeRow() throws Exception {
+        String longField = "x".repeat(200 * 1024);
+        DelimitedReader reader = new DelimitedReader(new StringReader(longField + ",\"" + longField + "\"\n"), ',');
+        List<String> fields = new ArrayList<>();
+
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of(longField, longField), fields);
+    }
+
+    @Test
+    public void readLine_headerLine_readsLineWithoutSplitting() throws Exception {
+        DelimitedReader reader = new DelimitedReader(new StringReader("#separator:Comma\na,b\n"), ',');
+        List<String> fields = new ArrayList<>();
+
+        assertEquals((int) '#', reader.peek());
+        assertEquals("#separator:Comma", reader.readLine());
+        assertTrue(reader.readRow(fields));
+        assertEquals(List.of("a", "b"), fields);
+        assertEquals(2L, reader.getRowLineNumber());
+        assertEquals(-1, reader.peek());
+    }
+}
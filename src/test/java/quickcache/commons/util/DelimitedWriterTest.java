@@ -0,0 +1,45 @@
+package quickcache.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static quickcache.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DelimitedWriterTest {
+
+    @Test
+    public void writeRow_plainFields_writtenWithoutQuotes() throws Exception {
+        StringWriter out = new StringWriter();
+        DelimitedWriter writer = new DelimitedWriter(out, ',');
+
+        writer.writeRow(List.of("a", "", "b c"));
+
+        assertEquals("a,,b c\n", out.toString());
+    }
+
+    @Test
+    public void writeRow_specialFields_quotedAndReadBack() throws Exception {
+        List<String> row = List.of("a,b", "say \"hi\"", "two\nlines", "#not a header", "a\tb");
+        StringWriter out = new StringWriter();
+        DelimitedWriter writer = new DelimitedWriter(out, ',');
+
+        writer.writeRow(row);
+
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\"#not a header\",a\tb\n", out.toString());
+        List<String> fields = new ArrayList<>();
+        new DelimitedReader(new StringReader(out.toString()), ',').readRow(fields);
+        assertEquals(row, fields);
+    }
+
+    @Test
+    public void writeLine_lineBreak_throwsIllegalArgumentException() {
+        DelimitedWriter writer = new DelimitedWriter(new StringWriter(), '\t');
+
+        assertThrows(IllegalArgumentException.class, () -> writer.writeLine("a\nb"));
+    }
+}
@@ -1,6 +1,8 @@
 package quickcache.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static quickcache.commons.core.Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX;
 import static quickcache.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static quickcache.logic.commands.CommandTestUtil.ANSWER_DESC_ONE;
@@ -9,6 +11,7 @@ import static quickcache.testutil.Assert.assertThrows;
 import static quickcache.testutil.TypicalFlashcards.RANDOM8;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -66,6 +69,20 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("quickCache.json")));
+        assertEquals(1, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_modifyingCommand_saves() throws Exception {
+        logic.execute(AddOpenEndedQuestionCommand.COMMAND_WORD + QUESTION_DESC_ONE + ANSWER_DESC_ONE);
+        assertTrue(Files.exists(temporaryFolder.resolve("quickCache.json")));
+        assertEquals(0, logic.getSkippedSaveCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonQuickCacheIoExceptionThrowingStub
@@ -9,6 +9,10 @@ import static quickcache.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +25,8 @@ import quickcache.model.QuickCache;
 import quickcache.model.ReadOnlyQuickCache;
 import quickcache.model.ReadOnlyUserPrefs;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.Statistics;
+import quickcache.model.flashcard.Tag;
 import quickcache.testutil.FlashcardBuilder;
 
 public class AddOpenEndedQuestionCommandTest {
@@ -125,11 +131,26 @@ public class AddOpenEndedQuestionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadQuickCache(ReadOnlyQuickCache quickCache) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadFlashcards(Collection<Flashcard> flashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasFlashcard(Flashcard flashcard) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Flashcard> filterNewFlashcards(Collection<Flashcard> flashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteFlashcard(Flashcard target) {
             throw new AssertionError("This method should not be called.");
@@ -140,6 +161,66 @@ public class AddOpenEndedQuestionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addFlashcards(Collection<Flashcard> flashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteFlashcards(Predicate<Flashcard> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replaceFlashcards(Map<Flashcard, Flashcard> replacements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void mergeFlashcards(Collection<Flashcard> updatedFlashcards, Set<Integer> removedIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordTestResult(Flashcard target, boolean isCorrect) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Statistics getAggregatedStatistics(Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoQuickCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoQuickCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoQuickCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoQuickCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitQuickCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getQuickCacheVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Flashcard> getFilteredFlashcardList() {
             return null;
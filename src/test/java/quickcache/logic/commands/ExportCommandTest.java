@@ -19,6 +19,7 @@ import quickcache.model.ModelManager;
 import quickcache.model.ReadOnlyQuickCache;
 import quickcache.model.UserPrefs;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.storage.DelimitedQuickCacheStorage;
 import quickcache.storage.JsonQuickCacheStorage;
 import quickcache.testutil.TestUtil;
 import quickcache.testutil.TypicalFlashcards;
@@ -66,6 +67,24 @@ class ExportCommandTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void execute_csvFile_writesDelimitedFile() throws Exception {
+        Path testFilePath = TestUtil.getFilePathInSandboxFolder("test_export.csv");
+        ExportCommand exportCommand = new ExportCommand(testFilePath);
+        Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        String expectedMessage = String.format(ExportCommand.MESSAGE_EXPORT_FLASHCARDS_SUCCESS, testFilePath);
+        assertCommandSuccess(exportCommand, model, expectedMessage, expectedModel);
+
+        // statistics are not written to delimited files, so only the identities of the flashcards are compared
+        List<Flashcard> readBack = new DelimitedQuickCacheStorage(testFilePath).readQuickCache().get()
+            .getFlashcardList();
+        List<Flashcard> original = expectedModel.getFilteredFlashcardList();
+        assertEquals(original.size(), readBack.size());
+        for (int i = 0; i < original.size(); i++) {
+            assertTrue(original.get(i).isSameFlashcard(readBack.get(i)));
+        }
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup with JsonQuickCacheIoExceptionThrowingStub
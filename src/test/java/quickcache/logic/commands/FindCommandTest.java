@@ -95,7 +95,7 @@ public class FindCommandTest {
     private Set<Tag> prepareTagSet(String... tags) {
         HashSet<Tag> tagSet = new HashSet<>();
         for (String tag: tags) {
-            tagSet.add(new Tag(tag));
+            tagSet.add(Tag.of(tag));
         }
         return tagSet;
     }
@@ -9,8 +9,12 @@ import static quickcache.testutil.TypicalFlashcards.RANDOM2;
 import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -22,6 +26,7 @@ import quickcache.model.QuickCache;
 import quickcache.model.ReadOnlyQuickCache;
 import quickcache.model.UserPrefs;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.storage.DelimitedQuickCacheStorage;
 import quickcache.storage.JsonQuickCacheStorage;
 import quickcache.storage.QuickCacheStorage;
 import quickcache.testutil.FlashcardBuilder;
@@ -49,7 +54,8 @@ class ImportCommandTest {
 
         // Import the same list
         ImportCommand importCommand = new ImportCommand(testFilePath);
-        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath, 0,
+            getTypicalQuickCache().getFlashcardList().size());
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
     }
 
@@ -74,7 +80,50 @@ class ImportCommandTest {
 
         // Import the single flashcard
         ImportCommand importCommand = new ImportCommand(testFilePath);
-        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath, 1, 0);
+        assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_importNewAndExistingFlashcards_addsOnlyNewFlashcards() throws Exception {
+        // Set up the export file with an existing flashcard between two new ones
+        Path testFilePath = TestUtil.getFilePathInSandboxFolder(TEST_FILE_NAME);
+        QuickCache exportQuickCache = new QuickCache();
+        Flashcard firstFlashcard = new FlashcardBuilder(RANDOM1).withQuestion("First new question").build();
+        Flashcard secondFlashcard = new FlashcardBuilder(RANDOM1).withQuestion("Second new question").build();
+        exportQuickCache.addFlashcard(firstFlashcard);
+        exportQuickCache.addFlashcard(RANDOM2);
+        exportQuickCache.addFlashcard(secondFlashcard);
+        new ExportCommand(testFilePath).execute(new ModelManager(exportQuickCache, new UserPrefs()));
+
+        // Set up expected model
+        Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        expectedModel.addFlashcards(List.of(firstFlashcard, secondFlashcard));
+
+        ImportCommand importCommand = new ImportCommand(testFilePath);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath, 2, 1);
+        assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_importCsvWithInvalidRow_skipsInvalidRow() throws Exception {
+        Path testFilePath = TestUtil.getFilePathInSandboxFolder("test_import.csv");
+        Files.writeString(testFilePath, "First new question,First answer,tagOne\n"
+            + "Missing answer\n"
+            + "Second new question,Second answer,,HIGH\n", StandardCharsets.UTF_8);
+
+        Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        expectedModel.addFlashcards(List.of(
+            new FlashcardBuilder().withQuestion("First new question").withAnswer("First answer")
+                .withTags("tagOne").build(),
+            new FlashcardBuilder().withQuestion("Second new question").withAnswer("Second answer").withTags()
+                .withDifficulty("HIGH").build()));
+
+        ImportCommand importCommand = new ImportCommand(testFilePath);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath, 2, 0)
+            + String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_INVALID_ENTRIES, 1) + "\n"
+            + String.format(DelimitedQuickCacheStorage.MESSAGE_INVALID_ROW, 2,
+                DelimitedQuickCacheStorage.MESSAGE_MISSING_ANSWER);
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
     }
 
@@ -94,9 +143,9 @@ class ImportCommandTest {
         // Set up expected model
         Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
 
-        // Import the single flashcard
+        // Import the empty list
         ImportCommand importCommand = new ImportCommand(testFilePath);
-        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FLASHCARD_SUCCESS, testFilePath, 0, 0);
         assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
     }
 
@@ -144,6 +193,22 @@ class ImportCommandTest {
         assertCommandFailure(importCommand, expectedModel, expectedMessage);
     }
 
+    @Test
+    public void execute_storageThrowsDataConversionExceptionAfterBatch_keepsImportedFlashcards() {
+        Path invalidTestFilePath = temporaryFolder.resolve("partlyCorruptedQuickCache.json");
+        Flashcard flashcard = new FlashcardBuilder(RANDOM1).withQuestion("Imported before corruption").build();
+        QuickCacheStorage quickCacheStorage =
+            new JsonQuickCachePartlyCorruptedStub(invalidTestFilePath, List.of(flashcard, RANDOM2));
+
+        // the flashcards read before the corruption are kept, so that they are saved and can be undone
+        Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        expectedModel.addFlashcard(flashcard);
+        ImportCommand importCommand = new ImportCommand(invalidTestFilePath, quickCacheStorage);
+        String expectedMessage = String.format(
+            ImportCommand.MESSAGE_IMPORT_FLASHCARD_PARTLY_CORRUPTED_FILE_FAILURE, invalidTestFilePath, 1);
+        assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void equals() {
         String fileNameSecond = "non_test_import.json";
@@ -223,6 +288,11 @@ class ImportCommandTest {
             return null;
         }
 
+        @Override
+        public void flushQuickCache() {
+
+        }
+
     }
 
     /**
@@ -243,5 +313,31 @@ class ImportCommandTest {
         public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) throws DataConversionException {
             throw DUMMY_DATA_CONVERSION_EXCEPTION;
         }
+
+        @Override
+        public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+                throws DataConversionException {
+            throw DUMMY_DATA_CONVERSION_EXCEPTION;
+        }
+    }
+
+    /**
+     * A stub class that hands over a batch of flashcards and then throws a {@code DataConversionException}.
+     */
+    private static class JsonQuickCachePartlyCorruptedStub extends JsonQuickCacheStorage {
+
+        private final List<Flashcard> batch;
+
+        private JsonQuickCachePartlyCorruptedStub(Path filePath, List<Flashcard> batch) {
+            super(filePath);
+            this.batch = batch;
+        }
+
+        @Override
+        public boolean readFlashcards(Path filePath, int batchSize, Consumer<List<Flashcard>> batchHandler)
+                throws DataConversionException {
+            batchHandler.accept(batch);
+            throw DUMMY_DATA_CONVERSION_EXCEPTION;
+        }
     }
 }
@@ -0,0 +1,49 @@
+package quickcache.logic.commands;
+
+import static quickcache.logic.commands.CommandTestUtil.assertCommandFailure;
+import static quickcache.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.model.Model;
+import quickcache.model.ModelManager;
+import quickcache.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        Model model = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        model.deleteFlashcard(RANDOM1);
+        model.commitQuickCache();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_redoesUndoneCommand() {
+        Model model = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        model.deleteFlashcard(RANDOM1);
+        model.commitQuickCache();
+        model.undoQuickCache();
+
+        Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        expectedModel.deleteFlashcard(RANDOM1);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_throwsCommandException() {
+        Model model = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        model.deleteFlashcard(RANDOM1);
+        model.commitQuickCache();
+        model.undoQuickCache();
+        model.recordTestResult(RANDOM1, true);
+        model.commitQuickCache();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -34,10 +34,8 @@ class TestCommandTest {
         Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
 
         Flashcard flashcard = model.getFilteredFlashcardList().get(INDEX_FIRST_FLASHCARD.getZeroBased());
-        Flashcard expectedFlashcard = flashcard.getFlashcardAfterTestSuccess();
-
-        // updates tested flashcard with new flashcard state
-        expectedModel.setFlashcard(flashcard, expectedFlashcard);
+        // records the test result of the tested flashcard
+        expectedModel.recordTestResult(flashcard, true);
 
         Question question = flashcard.getQuestion();
         Answer answer = flashcard.getAnswer();
@@ -57,10 +55,8 @@ class TestCommandTest {
         Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
 
         Flashcard flashcard = model.getFilteredFlashcardList().get(INDEX_FIRST_FLASHCARD.getZeroBased());
-        Flashcard expectedFlashcard = flashcard.getFlashcardAfterTestFailure();
-
-        // updates tested flashcard with new flashcard state
-        expectedModel.setFlashcard(flashcard, expectedFlashcard);
+        // records the test result of the tested flashcard
+        expectedModel.recordTestResult(flashcard, false);
 
         Question question = flashcard.getQuestion();
         Answer answer = flashcard.getAnswer();
@@ -80,10 +76,8 @@ class TestCommandTest {
         Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
 
         Flashcard flashcard = model.getFilteredFlashcardList().get(INDEX_FIRST_MCQ_FLASHCARD.getZeroBased());
-        Flashcard expectedFlashcard = flashcard.getFlashcardAfterTestSuccess();
-
-        // updates tested flashcard with new flashcard state
-        expectedModel.setFlashcard(flashcard, expectedFlashcard);
+        // records the test result of the tested flashcard
+        expectedModel.recordTestResult(flashcard, true);
 
         MultipleChoiceQuestion mcq = (MultipleChoiceQuestion) flashcard.getQuestion();
         Answer answer = flashcard.getAnswer();
@@ -104,10 +98,8 @@ class TestCommandTest {
         Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
 
         Flashcard flashcard = model.getFilteredFlashcardList().get(INDEX_FIRST_MCQ_FLASHCARD.getZeroBased());
-        Flashcard expectedFlashcard = flashcard.getFlashcardAfterTestFailure();
-
-        // updates tested flashcard with new flashcard state
-        expectedModel.setFlashcard(flashcard, expectedFlashcard);
+        // records the test result of the tested flashcard
+        expectedModel.recordTestResult(flashcard, false);
 
         MultipleChoiceQuestion mcq = (MultipleChoiceQuestion) flashcard.getQuestion();
         Answer answer = flashcard.getAnswer();
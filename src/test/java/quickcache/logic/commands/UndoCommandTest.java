@@ -0,0 +1,46 @@
+package quickcache.logic.commands;
+
+import static quickcache.logic.commands.CommandTestUtil.assertCommandFailure;
+import static quickcache.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.model.Model;
+import quickcache.model.ModelManager;
+import quickcache.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        Model model = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterChanges_undoesLatestCommand() {
+        Model model = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        model.deleteFlashcard(RANDOM1);
+        model.commitQuickCache();
+        model.recordTestResult(model.getFilteredFlashcardList().get(0), true);
+        model.commitQuickCache();
+        model.undoQuickCache();
+
+        Model expectedModel = new ModelManager(getTypicalQuickCache(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_zeroHistoryDepth_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setHistoryDepth(0);
+        Model model = new ModelManager(getTypicalQuickCache(), userPrefs);
+        model.deleteFlashcard(RANDOM1);
+        model.commitQuickCache();
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -12,8 +12,10 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
 import quickcache.logic.commands.FindCommand;
+import quickcache.model.flashcard.Difficulty;
 import quickcache.model.flashcard.Flashcard;
 import quickcache.model.flashcard.FlashcardContainsTagPredicate;
+import quickcache.model.flashcard.FlashcardHasDifficultyPredicate;
 import quickcache.model.flashcard.FlashcardPredicate;
 import quickcache.model.flashcard.QuestionContainsKeywordsPredicate;
 import quickcache.model.flashcard.Tag;
@@ -53,7 +55,7 @@ public class FindCommandParserTest {
     public void parse_argsContainOnlyTags_returnsFindCommand() {
         // no leading and trailing whitespaces
         Predicate<Flashcard> tagPredicate = new FlashcardContainsTagPredicate(new HashSet<>(
-                Arrays.asList(new Tag("TagOne"), new Tag("TagTwo"))));
+                Arrays.asList(Tag.of("TagOne"), Tag.of("TagTwo"))));
         FlashcardPredicate predicate = new FlashcardPredicate(List.of(tagPredicate));
         FindCommand expectedFindCommand = new FindCommand(predicate);
 
@@ -64,7 +66,7 @@ public class FindCommandParserTest {
     public void parse_argsContainBothQuestionKeywordsAndTags_returnsFindCommand() {
         // no leading and trailing whitespaces
         Predicate<Flashcard> tagPredicate = new FlashcardContainsTagPredicate(new HashSet<>(
-                Arrays.asList(new Tag("TagOne"), new Tag("TagTwo"))));
+                Arrays.asList(Tag.of("TagOne"), Tag.of("TagTwo"))));
         Predicate<Flashcard> keywordPredicate =
                 new QuestionContainsKeywordsPredicate(List.of("KeywordOne", "KeywordTwo"));
         FlashcardPredicate predicate = new FlashcardPredicate(List.of(tagPredicate, keywordPredicate));
@@ -73,4 +75,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " q/KeywordOne q/KeywordTwo t/TagOne t/TagTwo", expectedFindCommand);
     }
 
+    @Test
+    public void parse_argsContainTagsAndDifficulty_returnsFindCommand() {
+        Predicate<Flashcard> tagPredicate = new FlashcardContainsTagPredicate(new HashSet<>(
+                Arrays.asList(Tag.of("TagOne"))));
+        Predicate<Flashcard> difficultyPredicate = new FlashcardHasDifficultyPredicate(Difficulty.of("LOW"));
+        FlashcardPredicate predicate = new FlashcardPredicate(List.of(tagPredicate, difficultyPredicate));
+        FindCommand expectedFindCommand = new FindCommand(predicate);
+
+        assertParseSuccess(parser, " t/TagOne d/low", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidDifficulty_throwsParseException() {
+        assertParseFailure(parser, " d/hardest", Difficulty.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -142,14 +142,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseTag_validValueWithoutWhitespace_returnsTag() throws Exception {
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(VALID_TAG_1));
     }
 
     @Test
     public void parseTag_validValueWithWhitespace_returnsTrimmedTag() throws Exception {
         String tagWithWhitespace = WHITESPACE + VALID_TAG_1 + WHITESPACE;
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
@@ -241,13 +241,13 @@ public class ParserUtilTest {
 
     @Test
     public void parseDifficulty_validValueWithoutWhitespace_returnsDifficultyLow() throws Exception {
-        Difficulty expectedDifficulty = new Difficulty(VALID_DIFFICULTY_LOW);
+        Difficulty expectedDifficulty = Difficulty.of(VALID_DIFFICULTY_LOW);
         assertEquals(expectedDifficulty, ParserUtil.parseDifficulty(VALID_DIFFICULTY_LOW));
     }
 
     @Test
     public void parseDifficulty_emptyString_returnsDifficultyUnspecified() throws Exception {
-        Difficulty expectedDifficulty = new Difficulty(VALID_DIFFICULTY_UNSPECIFIED);
+        Difficulty expectedDifficulty = Difficulty.of(VALID_DIFFICULTY_UNSPECIFIED);
         assertEquals(expectedDifficulty, ParserUtil.parseDifficulty(VALID_DIFFICULTY_EMPTY));
     }
 
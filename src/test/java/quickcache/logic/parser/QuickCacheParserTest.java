@@ -31,8 +31,10 @@ import quickcache.logic.commands.HelpCommand;
 import quickcache.logic.commands.ImportCommand;
 import quickcache.logic.commands.ListCommand;
 import quickcache.logic.commands.OpenCommand;
+import quickcache.logic.commands.RedoCommand;
 import quickcache.logic.commands.StatsCommand;
 import quickcache.logic.commands.TestCommand;
+import quickcache.logic.commands.UndoCommand;
 import quickcache.logic.parser.exceptions.ParseException;
 import quickcache.model.flashcard.Flashcard;
 import quickcache.model.flashcard.FlashcardContainsTagPredicate;
@@ -122,7 +124,7 @@ public class QuickCacheParserTest {
         FindCommand command = (FindCommand) parser.parseCommand(FindCommand.COMMAND_WORD
                 + " t/" + keywords.stream().collect(Collectors.joining(" t/")));
         Set<Tag> tagsToMatch =
-                new HashSet<>(keywords.stream().map(Tag::new).collect(Collectors.toCollection(ArrayList::new)));
+                new HashSet<>(keywords.stream().map(Tag::of).collect(Collectors.toCollection(ArrayList::new)));
         FlashcardPredicate predicate =
                 new FlashcardPredicate(List.of(new FlashcardContainsTagPredicate(tagsToMatch)));
         assertEquals(new FindCommand(predicate), command);
@@ -134,6 +136,18 @@ public class QuickCacheParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
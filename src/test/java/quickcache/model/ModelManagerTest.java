@@ -6,18 +6,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static quickcache.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 import static quickcache.testutil.Assert.assertThrows;
 import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.RANDOM2;
 import static quickcache.testutil.TypicalFlashcards.RANDOM3;
+import static quickcache.testutil.TypicalFlashcards.RANDOM4;
 import static quickcache.testutil.TypicalFlashcards.RANDOM_1_TAG;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import quickcache.commons.core.GuiSettings;
+import quickcache.model.flashcard.Flashcard;
 import quickcache.model.flashcard.FlashcardContainsTagPredicate;
+import quickcache.model.flashcard.FlashcardPredicate;
+import quickcache.testutil.FlashcardBuilder;
 import quickcache.testutil.QuickCacheBuilder;
 
 public class ModelManagerTest {
@@ -90,6 +96,107 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasFlashcard(RANDOM1));
     }
 
+    @Test
+    public void deleteFlashcards_tagPredicate_deletesFlashcardsWithTag() {
+        modelManager.addFlashcards(Arrays.asList(RANDOM1, RANDOM3));
+        modelManager.deleteFlashcards(
+                FlashcardPredicate.prepareOnlyTagsFlashcardPredicate(new HashSet<>(Arrays.asList(RANDOM_1_TAG))));
+        assertFalse(modelManager.hasFlashcard(RANDOM1));
+        assertTrue(modelManager.hasFlashcard(RANDOM3));
+    }
+
+    @Test
+    public void setFlashcard_tagsChangedUnderTagFilter_filteredListFollowsTags() {
+        modelManager.addFlashcards(Arrays.asList(RANDOM1, RANDOM3));
+        modelManager.updateFilteredFlashcardList(
+                FlashcardPredicate.prepareOnlyTagsFlashcardPredicate(new HashSet<>(Arrays.asList(RANDOM_1_TAG))));
+        assertEquals(Arrays.asList(RANDOM1), modelManager.getFilteredFlashcardList());
+
+        Flashcard taggedRandom3 = new FlashcardBuilder(RANDOM3).withTag("LSM1301").build();
+        modelManager.setFlashcard(RANDOM3, taggedRandom3);
+        assertEquals(Arrays.asList(RANDOM1, taggedRandom3), modelManager.getFilteredFlashcardList());
+
+        Flashcard untaggedRandom1 = new FlashcardBuilder(RANDOM1).withTag("CS2100").build();
+        modelManager.setFlashcard(RANDOM1, untaggedRandom1);
+        assertEquals(Arrays.asList(taggedRandom3), modelManager.getFilteredFlashcardList());
+    }
+
+    @Test
+    public void loadFlashcards_filteredList_keepsFilterAndCannotUndo() {
+        modelManager.updateFilteredFlashcardList(flashcard -> false);
+
+        modelManager.loadFlashcards(Arrays.asList(RANDOM1, RANDOM3));
+
+        assertTrue(modelManager.hasFlashcard(RANDOM1));
+        assertTrue(modelManager.getFilteredFlashcardList().isEmpty());
+        assertFalse(modelManager.canUndoQuickCache());
+    }
+
+    @Test
+    public void mergeFlashcards_changedAddedAndRemovedFlashcards_mergedWithoutResettingFilter() {
+        modelManager.addFlashcards(Arrays.asList(RANDOM1, RANDOM3));
+        Flashcard stored = modelManager.getQuickCache().getFlashcardList().get(0);
+        Flashcard removed = modelManager.getQuickCache().getFlashcardList().get(1);
+        modelManager.updateFilteredFlashcardList(flashcard -> false);
+
+        modelManager.mergeFlashcards(Arrays.asList(RANDOM2.withId(stored.getId()), RANDOM4),
+                Set.of(removed.getId()));
+
+        assertEquals(Arrays.asList(RANDOM2, RANDOM4), modelManager.getQuickCache().getFlashcardList());
+        assertTrue(modelManager.getFilteredFlashcardList().isEmpty());
+    }
+
+    @Test
+    public void mergeFlashcards_sameAsOtherFlashcard_notMerged() {
+        modelManager.addFlashcards(Arrays.asList(RANDOM1, RANDOM3));
+        Flashcard stored = modelManager.getQuickCache().getFlashcardList().get(0);
+
+        modelManager.mergeFlashcards(Arrays.asList(RANDOM3.withId(stored.getId()), RANDOM3), Set.of());
+
+        assertEquals(Arrays.asList(RANDOM1, RANDOM3), modelManager.getQuickCache().getFlashcardList());
+    }
+
+    @Test
+    public void mergeFlashcards_swappedFlashcards_swappedAsSingleChange() {
+        modelManager.addFlashcards(Arrays.asList(RANDOM1, RANDOM3));
+        modelManager.commitQuickCache();
+        Flashcard first = modelManager.getQuickCache().getFlashcardList().get(0);
+        Flashcard second = modelManager.getQuickCache().getFlashcardList().get(1);
+
+        modelManager.mergeFlashcards(Arrays.asList(RANDOM3.withId(first.getId()), RANDOM1.withId(second.getId())),
+                Set.of());
+
+        assertEquals(Arrays.asList(RANDOM3, RANDOM1), modelManager.getQuickCache().getFlashcardList());
+        modelManager.commitQuickCache();
+        modelManager.undoQuickCache();
+        assertEquals(Arrays.asList(RANDOM1, RANDOM3), modelManager.getQuickCache().getFlashcardList());
+    }
+
+    @Test
+    public void mergeFlashcards_renamedIntoRemovedFlashcard_merged() {
+        modelManager.addFlashcards(Arrays.asList(RANDOM1, RANDOM3));
+        Flashcard renamed = modelManager.getQuickCache().getFlashcardList().get(0);
+        Flashcard removed = modelManager.getQuickCache().getFlashcardList().get(1);
+
+        modelManager.mergeFlashcards(Arrays.asList(RANDOM3.withId(renamed.getId())), Set.of(removed.getId()));
+
+        assertEquals(Arrays.asList(RANDOM3), modelManager.getQuickCache().getFlashcardList());
+        assertEquals(renamed.getId(), modelManager.getQuickCache().getFlashcardList().get(0).getId());
+    }
+
+    @Test
+    public void mergeFlashcards_replacementSameAsKeptFlashcard_otherReplacementsStillChecked() {
+        modelManager.addFlashcards(Arrays.asList(RANDOM1, RANDOM2, RANDOM3));
+        Flashcard first = modelManager.getQuickCache().getFlashcardList().get(0);
+        Flashcard second = modelManager.getQuickCache().getFlashcardList().get(1);
+
+        // the first flashcard keeps its stored version, which the second flashcard may then not become
+        modelManager.mergeFlashcards(Arrays.asList(RANDOM3.withId(first.getId()), RANDOM1.withId(second.getId())),
+                Set.of());
+
+        assertEquals(Arrays.asList(RANDOM1, RANDOM2, RANDOM3), modelManager.getQuickCache().getFlashcardList());
+    }
+
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -2,22 +2,30 @@ package quickcache.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static quickcache.logic.commands.CommandTestUtil.VALID_TAG_LSM1301;
 import static quickcache.testutil.Assert.assertThrows;
 import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.RANDOM2;
+import static quickcache.testutil.TypicalFlashcards.RANDOM3;
+import static quickcache.testutil.TypicalFlashcards.RANDOM4;
 import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.Statistics;
+import quickcache.model.flashcard.Tag;
 import quickcache.model.flashcard.exceptions.DuplicateFlashcardException;
 import quickcache.testutil.FlashcardBuilder;
 
@@ -52,6 +60,30 @@ public class QuickCacheTest {
         assertThrows(DuplicateFlashcardException.class, () -> quickCache.resetData(newData));
     }
 
+    @Test
+    public void getVersion_afterEachKindOfChange_changes() {
+        QuickCache quickCache = getTypicalQuickCache();
+        long version = quickCache.getVersion();
+
+        quickCache.removeFlashcards(flashcard -> false);
+        assertEquals(version, quickCache.getVersion());
+
+        quickCache.recordTestResult(quickCache.getFlashcardList().get(0), true);
+        assertNotEquals(version, quickCache.getVersion());
+        version = quickCache.getVersion();
+
+        quickCache.removeFlashcard(quickCache.getFlashcardList().get(0));
+        assertNotEquals(version, quickCache.getVersion());
+        version = quickCache.getVersion();
+
+        quickCache.setFlashcards(Collections.emptyList());
+        assertNotEquals(version, quickCache.getVersion());
+        version = quickCache.getVersion();
+
+        quickCache.setFlashcards(Collections.emptyList());
+        assertNotEquals(version, quickCache.getVersion());
+    }
+
     @Test
     public void hasFlashcard_nullFlashcard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> quickCache.hasFlashcard(null));
@@ -75,6 +107,121 @@ public class QuickCacheTest {
         assertTrue(quickCache.hasFlashcard(editedRandom1));
     }
 
+    @Test
+    public void addFlashcard_flashcardsWithoutIds_assignsDistinctIds() {
+        quickCache.addFlashcard(RANDOM1);
+        quickCache.addFlashcard(RANDOM2);
+        Flashcard first = quickCache.getFlashcardList().get(0);
+        Flashcard second = quickCache.getFlashcardList().get(1);
+        assertTrue(first.hasId());
+        assertTrue(second.hasId());
+        assertNotEquals(first.getId(), second.getId());
+    }
+
+    @Test
+    public void addFlashcard_flashcardWithTakenId_assignsNewId() {
+        quickCache.addFlashcard(RANDOM1.withId(3));
+        quickCache.addFlashcard(RANDOM2.withId(3));
+        assertEquals(3, quickCache.getFlashcardList().get(0).getId());
+        assertEquals(4, quickCache.getFlashcardList().get(1).getId());
+    }
+
+    @Test
+    public void setFlashcard_editedFlashcard_keepsId() {
+        quickCache.addFlashcard(RANDOM1.withId(7));
+        Flashcard stored = quickCache.getFlashcardList().get(0);
+        quickCache.setFlashcard(stored, new FlashcardBuilder(stored).withStatistics(new Statistics(1, 1)).build());
+        quickCache.setFlashcard(quickCache.getFlashcardList().get(0), RANDOM2);
+        assertEquals(RANDOM2, quickCache.getFlashcardList().get(0));
+        assertEquals(7, quickCache.getFlashcardList().get(0).getId());
+    }
+
+    @Test
+    public void addFlashcards_flashcardsWithSameId_assignsDistinctIds() {
+        quickCache.addFlashcard(RANDOM1.withId(3));
+        quickCache.addFlashcards(Arrays.asList(RANDOM2.withId(5), RANDOM3.withId(5), RANDOM4));
+        List<Flashcard> flashcards = quickCache.getFlashcardList();
+        assertEquals(3, flashcards.get(0).getId());
+        assertEquals(5, flashcards.get(1).getId());
+        assertEquals(6, flashcards.get(2).getId());
+        assertEquals(7, flashcards.get(3).getId());
+    }
+
+    @Test
+    public void removeFlashcards_predicate_removesMatchingFlashcardsFromIndexes() {
+        quickCache.addFlashcards(Arrays.asList(RANDOM1, RANDOM2));
+        List<Flashcard> removed = quickCache.removeFlashcards(RANDOM1::equals);
+        assertEquals(Collections.singletonList(RANDOM1), removed);
+        assertFalse(quickCache.hasFlashcard(RANDOM1));
+        assertTrue(quickCache.hasFlashcard(RANDOM2));
+        assertTrue(quickCache.getKeywordIndex().getIdsContainingAll(Collections.singletonList("heparins")).isEmpty());
+    }
+
+    @Test
+    public void replaceFlashcards_replacements_keepsIds() {
+        quickCache.addFlashcards(Arrays.asList(RANDOM1.withId(7), RANDOM2.withId(8)));
+        quickCache.replaceFlashcards(Collections.singletonMap(RANDOM1, RANDOM3));
+        assertEquals(RANDOM3, quickCache.getFlashcardList().get(0));
+        assertEquals(7, quickCache.getFlashcardList().get(0).getId());
+        assertEquals(8, quickCache.getFlashcardList().get(1).getId());
+    }
+
+    @Test
+    public void mergeFlashcards_duplicateAddition_leavesQuickCacheUnchanged() {
+        quickCache.addFlashcards(Arrays.asList(RANDOM1.withId(7), RANDOM2.withId(8), RANDOM3.withId(9)));
+
+        assertThrows(DuplicateFlashcardException.class, () -> quickCache.mergeFlashcards(RANDOM2::equals,
+                Collections.singletonMap(RANDOM1, RANDOM4), Collections.singletonList(RANDOM3)));
+
+        assertEquals(Arrays.asList(RANDOM1, RANDOM2, RANDOM3), quickCache.getFlashcardList());
+        assertEquals(Arrays.asList(7, 8, 9), Arrays.asList(quickCache.getFlashcardList().get(0).getId(),
+                quickCache.getFlashcardList().get(1).getId(), quickCache.getFlashcardList().get(2).getId()));
+        assertFalse(quickCache.getKeywordIndex().getIdsContainingAll(Collections.singletonList("heparins"))
+                .isEmpty());
+    }
+
+    @Test
+    public void recordTestResult_storedFlashcard_updatesStatisticsInPlace() {
+        quickCache.addFlashcards(Arrays.asList(RANDOM1, RANDOM2));
+        Flashcard stored = quickCache.getFlashcardList().get(0);
+
+        quickCache.recordTestResult(stored, true);
+        quickCache.recordTestResult(RANDOM2, false);
+
+        assertSame(stored, quickCache.getFlashcardList().get(0));
+        assertEquals(new Statistics(1, 1), quickCache.getFlashcardList().get(0).getStatistics());
+        assertEquals(new Statistics(1, 0), quickCache.getFlashcardList().get(1).getStatistics());
+        assertEquals(new Statistics(2, 1), quickCache.getAggregatedStatistics(Collections.emptySet()));
+    }
+
+    @Test
+    public void getAggregatedStatistics_tags_sumsStatisticsOfFlashcardsWithAllTags() {
+        quickCache.addFlashcards(Arrays.asList(
+                new FlashcardBuilder(RANDOM1).withTags("Programming", "English")
+                        .withStatistics(new Statistics(4, 3)).build(),
+                new FlashcardBuilder(RANDOM2).withTags("English").withStatistics(new Statistics(2, 1)).build(),
+                new FlashcardBuilder(RANDOM3).withTags("Programming").withStatistics(new Statistics(5, 0)).build()));
+
+        assertEquals(new Statistics(11, 4), quickCache.getAggregatedStatistics(Collections.emptySet()));
+        assertEquals(new Statistics(6, 4), quickCache.getAggregatedStatistics(Set.of(Tag.of("English"))));
+        assertEquals(new Statistics(4, 3),
+                quickCache.getAggregatedStatistics(Set.of(Tag.of("Programming"), Tag.of("English"))));
+        assertEquals(new Statistics(),
+                quickCache.getAggregatedStatistics(Set.of(Tag.of("Programming"), Tag.of("Carol"))));
+    }
+
+    @Test
+    public void removeFlashcard_removedFlashcardReAdded_keepsStatistics() {
+        quickCache.addFlashcard(RANDOM1);
+        Flashcard stored = quickCache.getFlashcardList().get(0);
+        quickCache.recordTestResult(stored, true);
+        quickCache.removeFlashcard(stored);
+        quickCache.addFlashcard(RANDOM2.withId(stored.getId()));
+
+        assertEquals(new Statistics(1, 1), stored.getStatistics());
+        assertNotEquals(stored.getId(), quickCache.getFlashcardList().get(0).getId());
+    }
+
     @Test
     public void getFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> quickCache.getFlashcardList()
@@ -18,4 +18,10 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setQuickCacheFilePath(null));
     }
 
+    @Test
+    public void setDataFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(NullPointerException.class, () -> userPrefs.setDataFileFormat(null));
+    }
+
 }
@@ -0,0 +1,175 @@
+package quickcache.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.RANDOM2;
+import static quickcache.testutil.TypicalFlashcards.RANDOM3;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.Statistics;
+import quickcache.testutil.FlashcardBuilder;
+
+public class VersionedQuickCacheTest {
+
+    private static final Flashcard NEW_FLASHCARD = new FlashcardBuilder().withQuestion("What is undone?").build();
+
+    private final VersionedQuickCache versionedQuickCache = new VersionedQuickCache(getTypicalQuickCache(), 100);
+
+    @Test
+    public void constructor_initialState_cannotUndoOrRedo() {
+        assertEquals(getTypicalQuickCache(), versionedQuickCache);
+        assertFalse(versionedQuickCache.canUndo());
+        assertFalse(versionedQuickCache.canRedo());
+    }
+
+    @Test
+    public void loadFlashcards_duplicates_skipsThemAndCannotUndo() {
+        VersionedQuickCache loadingQuickCache = new VersionedQuickCache(new QuickCache(), 100);
+
+        assertEquals(1, loadingQuickCache.loadFlashcards(Arrays.asList(RANDOM1, RANDOM1)));
+        assertEquals(1, loadingQuickCache.loadFlashcards(Arrays.asList(RANDOM1, NEW_FLASHCARD)));
+
+        assertEquals(Arrays.asList(RANDOM1, NEW_FLASHCARD), loadingQuickCache.getFlashcardList());
+        assertFalse(loadingQuickCache.canUndo());
+    }
+
+    @Test
+    public void loadQuickCache_afterChanges_forgetsHistory() {
+        versionedQuickCache.removeFlashcard(RANDOM1);
+        versionedQuickCache.commit();
+        versionedQuickCache.addFlashcard(NEW_FLASHCARD);
+
+        versionedQuickCache.loadQuickCache(new QuickCache());
+
+        assertEquals(new QuickCache(), versionedQuickCache);
+        assertFalse(versionedQuickCache.canUndo());
+        assertFalse(versionedQuickCache.canRedo());
+    }
+
+    @Test
+    public void undo_afterEachKindOfChange_restoresPreviousStates() {
+        QuickCache expected = new QuickCache(getTypicalQuickCache());
+        List<Integer> ids = getIds(versionedQuickCache);
+
+        versionedQuickCache.addFlashcard(NEW_FLASHCARD);
+        versionedQuickCache.commit();
+        versionedQuickCache.removeFlashcards(RANDOM1::equals);
+        versionedQuickCache.setFlashcard(RANDOM2,
+                new FlashcardBuilder(RANDOM2).withStatistics(new Statistics(1, 1)).build());
+        versionedQuickCache.commit();
+        versionedQuickCache.recordTestResult(NEW_FLASHCARD, true);
+        versionedQuickCache.commit();
+        versionedQuickCache.setFlashcards(Collections.emptyList());
+        versionedQuickCache.commit();
+
+        for (int i = 0; i < 4; i++) {
+            versionedQuickCache.undo();
+        }
+
+        assertEquals(expected, versionedQuickCache);
+        assertEquals(ids, getIds(versionedQuickCache));
+        assertFalse(versionedQuickCache.canUndo());
+    }
+
+    @Test
+    public void undo_testResult_restoresAggregatedStatistics() {
+        Statistics statistics = versionedQuickCache.getAggregatedStatistics(Collections.emptySet());
+        Flashcard stored = versionedQuickCache.getFlashcardList().get(0);
+        versionedQuickCache.recordTestResult(stored, true);
+        versionedQuickCache.recordTestResult(stored, false);
+        versionedQuickCache.commit();
+
+        versionedQuickCache.undo();
+
+        assertEquals(RANDOM1, versionedQuickCache.getFlashcardList().get(0));
+        assertEquals(statistics, versionedQuickCache.getAggregatedStatistics(Collections.emptySet()));
+    }
+
+    @Test
+    public void redo_afterUndo_restoresUndoneState() {
+        versionedQuickCache.removeFlashcards(flashcard -> flashcard.equals(RANDOM1) || flashcard.equals(RANDOM3));
+        versionedQuickCache.addFlashcards(Arrays.asList(NEW_FLASHCARD));
+        versionedQuickCache.commit();
+        QuickCache expected = new QuickCache(versionedQuickCache);
+        List<Integer> ids = getIds(versionedQuickCache);
+
+        versionedQuickCache.undo();
+        assertTrue(versionedQuickCache.canRedo());
+        versionedQuickCache.redo();
+
+        assertEquals(expected, versionedQuickCache);
+        assertEquals(ids, getIds(versionedQuickCache));
+        assertFalse(versionedQuickCache.canRedo());
+        assertTrue(versionedQuickCache.getKeywordIndex()
+                .getIdsContainingAll(Collections.singletonList("heparins")).isEmpty());
+    }
+
+    @Test
+    public void undo_merge_undoesRemovalReplacementAndAdditionTogether() {
+        QuickCache expected = new QuickCache(getTypicalQuickCache());
+        List<Integer> ids = getIds(versionedQuickCache);
+        Flashcard addedFlashcard = new FlashcardBuilder().withQuestion("What is merged?").build();
+
+        versionedQuickCache.mergeFlashcards(RANDOM1::equals, Collections.singletonMap(RANDOM2, NEW_FLASHCARD),
+                Collections.singletonList(addedFlashcard));
+        versionedQuickCache.commit();
+        QuickCache merged = new QuickCache(versionedQuickCache);
+        List<Integer> mergedIds = getIds(versionedQuickCache);
+
+        versionedQuickCache.undo();
+        assertEquals(expected, versionedQuickCache);
+        assertEquals(ids, getIds(versionedQuickCache));
+        assertFalse(versionedQuickCache.canUndo());
+
+        versionedQuickCache.redo();
+        assertEquals(merged, versionedQuickCache);
+        assertEquals(mergedIds, getIds(versionedQuickCache));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThem() {
+        versionedQuickCache.removeFlashcard(RANDOM1);
+        assertTrue(versionedQuickCache.canUndo());
+        versionedQuickCache.undo();
+        assertEquals(getTypicalQuickCache(), versionedQuickCache);
+    }
+
+    @Test
+    public void commit_newChangesAfterUndo_discardsRedoStates() {
+        versionedQuickCache.removeFlashcard(RANDOM1);
+        versionedQuickCache.commit();
+        versionedQuickCache.undo();
+        versionedQuickCache.removeFlashcard(RANDOM2);
+        versionedQuickCache.commit();
+        assertFalse(versionedQuickCache.canRedo());
+    }
+
+    @Test
+    public void commit_beyondHistoryDepth_forgetsOldestState() {
+        VersionedQuickCache shallowQuickCache = new VersionedQuickCache(getTypicalQuickCache(), 1);
+        shallowQuickCache.removeFlashcard(RANDOM1);
+        shallowQuickCache.commit();
+        shallowQuickCache.removeFlashcard(RANDOM2);
+        shallowQuickCache.commit();
+
+        shallowQuickCache.undo();
+
+        assertFalse(shallowQuickCache.canUndo());
+        assertFalse(shallowQuickCache.hasFlashcard(RANDOM1));
+        assertTrue(shallowQuickCache.hasFlashcard(RANDOM2));
+    }
+
+    private static List<Integer> getIds(QuickCache quickCache) {
+        return quickCache.getFlashcardList().stream().map(Flashcard::getId).collect(Collectors.toList());
+    }
+}
@@ -1,7 +1,10 @@
 package quickcache.model.flashcard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static quickcache.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -15,50 +18,61 @@ public class DifficultyTest {
 
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Difficulty(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Difficulty.of((String) null));
     }
 
     @Test
-    public void constructor_invalidDifficultyName1_throwsIllegalArgumentException() {
+    public void of_invalidDifficultyName1_throwsIllegalArgumentException() {
         String invalidDifficultyName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Difficulty(invalidDifficultyName));
+        assertThrows(IllegalArgumentException.class, () -> Difficulty.of(invalidDifficultyName));
     }
 
     @Test
-    public void constructor_invalidDifficultyName2_throwsIllegalArgumentException() {
+    public void of_invalidDifficultyName2_throwsIllegalArgumentException() {
         String invalidDifficultyName = "invalidDifficultyName";
-        assertThrows(IllegalArgumentException.class, () -> new Difficulty(invalidDifficultyName));
+        assertThrows(IllegalArgumentException.class, () -> Difficulty.of(invalidDifficultyName));
+    }
+
+    @Test
+    public void of_differentCase_returnsCanonicalInstance() {
+        assertSame(Difficulty.of(Difficulties.MEDIUM), Difficulty.of("medium"));
+        assertSame(Difficulty.of(Difficulties.MEDIUM), Difficulty.of("Medium"));
+        assertSame(Difficulty.unspecified(), Difficulty.of(UNSPECIFIED_DIFFICULTY));
+        assertEquals(Difficulties.HIGH, Difficulty.of("hIgH").getLevel());
     }
 
     @Test
     public void isValidDifficultyName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Difficulty.isValidDifficultyName(null));
+
+        assertTrue(Difficulty.isValidDifficultyName("low"));
+        assertFalse(Difficulty.isValidDifficultyName("lowest"));
     }
 
     @Test
     public void testToString() {
-        Difficulty difficulty = new Difficulty(LOW_DIFFICULTY);
+        Difficulty difficulty = Difficulty.of(LOW_DIFFICULTY);
         assertEquals(difficulty.toString(), "[" + LOW_DIFFICULTY + "]");
     }
 
     @Test
     public void testEquality() {
-        Difficulty difficulty1 = new Difficulty(LOW_DIFFICULTY);
-        Difficulty difficulty2 = new Difficulty(LOW_DIFFICULTY);
+        Difficulty difficulty1 = Difficulty.of(LOW_DIFFICULTY);
+        Difficulty difficulty2 = Difficulty.of(LOW_DIFFICULTY);
         assertEquals(difficulty1, difficulty2);
 
-        Difficulty difficulty3 = new Difficulty(MEDIUM_DIFFICULTY);
-        Difficulty difficulty4 = new Difficulty(MEDIUM_DIFFICULTY);
+        Difficulty difficulty3 = Difficulty.of(MEDIUM_DIFFICULTY);
+        Difficulty difficulty4 = Difficulty.of(MEDIUM_DIFFICULTY);
         assertEquals(difficulty3, difficulty4);
 
-        Difficulty difficulty5 = new Difficulty(HIGH_DIFFICULTY);
-        Difficulty difficulty6 = new Difficulty(HIGH_DIFFICULTY);
+        Difficulty difficulty5 = Difficulty.of(HIGH_DIFFICULTY);
+        Difficulty difficulty6 = Difficulty.of(HIGH_DIFFICULTY);
         assertEquals(difficulty5, difficulty6);
 
-        Difficulty difficulty7 = new Difficulty(UNSPECIFIED_DIFFICULTY);
-        Difficulty difficulty8 = new Difficulty(UNSPECIFIED_DIFFICULTY);
+        Difficulty difficulty7 = Difficulty.of(UNSPECIFIED_DIFFICULTY);
+        Difficulty difficulty8 = Difficulty.of(UNSPECIFIED_DIFFICULTY);
         assertEquals(difficulty7, difficulty8);
 
         assertNotEquals(difficulty1, difficulty3);
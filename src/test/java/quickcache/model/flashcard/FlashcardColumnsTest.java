@@ -0,0 +1,105 @@
+package quickcache.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.testutil.FlashcardBuilder;
+
+class FlashcardColumnsTest {
+
+    private final FlashcardColumns columns = new FlashcardColumns();
+
+    @Test
+    public void attach_storedStatistics_readsStatisticsFromColumns() {
+        Flashcard flashcard = columns.attach(RANDOM1, 3);
+        columns.store(3, new Statistics(4, 2), Difficulty.unspecified());
+
+        assertEquals(3, flashcard.getId());
+        assertEquals(new Statistics(4, 2), flashcard.getStatistics());
+        assertTrue(flashcard.isSameFlashcard(RANDOM1));
+        assertTrue(columns.isStored(flashcard));
+    }
+
+    @Test
+    public void recordTestResult_storedFlashcard_updatesStatisticsInPlace() {
+        Flashcard flashcard = columns.attach(RANDOM1, 0);
+        columns.store(0, new Statistics(), Difficulty.unspecified());
+
+        columns.recordTestResult(0, true);
+        columns.recordTestResult(0, false);
+
+        assertEquals(new Statistics(2, 1), flashcard.getStatistics());
+        assertEquals(new FlashcardBuilder(RANDOM1).withStatistics(new Statistics(2, 1)).build(), flashcard);
+    }
+
+    @Test
+    public void remove_storedFlashcard_keepsStatistics() {
+        Flashcard flashcard = columns.attach(RANDOM1, 0);
+        columns.store(0, new Statistics(1, 1), Difficulty.unspecified());
+        columns.remove(0);
+
+        assertFalse(columns.isStored(flashcard));
+        assertEquals(new Statistics(1, 1), flashcard.getStatistics());
+    }
+
+    @Test
+    public void sumStatistics_ids_sumsStoredFlashcards() {
+        columns.store(0, new Statistics(4, 3), Difficulty.unspecified());
+        columns.store(1, new Statistics(2, 1), Difficulty.unspecified());
+        columns.store(2, new Statistics(5, 0), Difficulty.unspecified());
+        columns.remove(2);
+
+        assertEquals(new Statistics(6, 4), columns.sumStatistics(bitSetOf(0, 1, 2, 9)));
+        assertEquals(new Statistics(), columns.sumStatistics(new BitSet()));
+    }
+
+    @Test
+    public void getIdsWithDifficulty_level_returnsStoredFlashcardsWithDifficulty() {
+        columns.store(0, new Statistics(), Difficulty.of(Difficulties.LOW));
+        columns.store(1, new Statistics(), Difficulty.of(Difficulties.HIGH));
+        columns.store(2, new Statistics(), Difficulty.of(Difficulties.LOW));
+        columns.store(3, new Statistics(), Difficulty.of(Difficulties.LOW));
+        columns.remove(3);
+
+        assertEquals(bitSetOf(0, 2), columns.getIdsWithDifficulty(Difficulties.LOW));
+        assertEquals(bitSetOf(1), columns.getIdsWithDifficulty(Difficulties.HIGH));
+        assertTrue(columns.getIdsWithDifficulty(Difficulties.MEDIUM).isEmpty());
+    }
+
+    @Test
+    public void canStoreWithOwnId() {
+        Flashcard flashcard = columns.attach(RANDOM1, 0);
+        columns.store(0, new Statistics(), Difficulty.unspecified());
+
+        // no id -> returns false
+        assertFalse(columns.canStoreWithOwnId(RANDOM1));
+
+        // unused id -> returns true
+        assertTrue(columns.canStoreWithOwnId(RANDOM1.withId(1)));
+
+        // stored id -> returns false
+        assertFalse(columns.canStoreWithOwnId(flashcard));
+
+        columns.remove(0);
+
+        // id used by the same flashcard before -> returns true
+        assertTrue(columns.canStoreWithOwnId(flashcard));
+
+        // id used by a different flashcard before -> returns false
+        assertFalse(columns.canStoreWithOwnId(RANDOM1.withId(0)));
+    }
+
+    private BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+}
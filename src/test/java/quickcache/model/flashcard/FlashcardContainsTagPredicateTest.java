@@ -64,10 +64,30 @@ class FlashcardContainsTagPredicateTest {
         assertFalse(predicate.test(new FlashcardBuilder().withTags("Programming", "English").build()));
     }
 
+    @Test
+    public void test_withTagIndex_matchesIndexedFlashcards() {
+        TagIndex tagIndex = new TagIndex();
+        Flashcard matching = new FlashcardBuilder().withTags("Programming", "English").build().withId(0);
+        Flashcard notMatching = new FlashcardBuilder().withTags("English").build().withId(1);
+        tagIndex.add(matching);
+        tagIndex.add(notMatching);
+
+        FlashcardContainsTagPredicate predicate =
+            new FlashcardContainsTagPredicate(prepareTagSet("Programming", "English")).withTagIndex(tagIndex);
+        assertTrue(predicate.test(matching));
+        assertFalse(predicate.test(notMatching));
+
+        // index changes after the predicate is created -> predicate follows the index
+        Flashcard edited = new FlashcardBuilder().withTags("Programming", "English").build().withId(1);
+        tagIndex.remove(notMatching);
+        tagIndex.add(edited);
+        assertTrue(predicate.test(edited));
+    }
+
     private Set<Tag> prepareTagSet(String... tags) {
         HashSet<Tag> tagSet = new HashSet<>();
         for (String tag: tags) {
-            tagSet.add(new Tag(tag));
+            tagSet.add(Tag.of(tag));
         }
         return tagSet;
     }
@@ -0,0 +1,69 @@
+package quickcache.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.testutil.FlashcardBuilder;
+
+class FlashcardHasDifficultyPredicateTest {
+
+    @Test
+    public void equals() {
+        FlashcardHasDifficultyPredicate firstPredicate =
+            new FlashcardHasDifficultyPredicate(Difficulty.of(Difficulties.LOW));
+        FlashcardHasDifficultyPredicate secondPredicate =
+            new FlashcardHasDifficultyPredicate(Difficulty.of(Difficulties.HIGH));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FlashcardHasDifficultyPredicate(Difficulty.of("low"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different difficulty -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_flashcardHasDifficulty_returnsTrue() {
+        FlashcardHasDifficultyPredicate predicate = new FlashcardHasDifficultyPredicate(Difficulty.of("LOW"));
+        assertTrue(predicate.test(new FlashcardBuilder().withDifficulty("LOW").build()));
+    }
+
+    @Test
+    public void test_flashcardHasOtherDifficulty_returnsFalse() {
+        FlashcardHasDifficultyPredicate predicate = new FlashcardHasDifficultyPredicate(Difficulty.of("LOW"));
+        assertFalse(predicate.test(new FlashcardBuilder().withDifficulty("HIGH").build()));
+        assertFalse(predicate.test(new FlashcardBuilder().build()));
+    }
+
+    @Test
+    public void test_withColumns_matchesStoredFlashcards() {
+        FlashcardColumns columns = new FlashcardColumns();
+        Flashcard matching = columns.attach(new FlashcardBuilder().withDifficulty("LOW").build(), 0);
+        Flashcard notMatching = columns.attach(new FlashcardBuilder().withDifficulty("HIGH").build(), 1);
+        columns.store(0, new Statistics(), matching.getDifficulty());
+        columns.store(1, new Statistics(), notMatching.getDifficulty());
+
+        FlashcardHasDifficultyPredicate predicate =
+            new FlashcardHasDifficultyPredicate(Difficulty.of("LOW")).withColumns(columns);
+        assertTrue(predicate.test(matching));
+        assertFalse(predicate.test(notMatching));
+
+        // flashcard not stored in the columns -> checked directly
+        assertTrue(predicate.test(new FlashcardBuilder().withDifficulty("LOW").build()));
+
+        // columns change after the predicate is created -> predicate follows the columns
+        Flashcard added = columns.attach(new FlashcardBuilder().withDifficulty("LOW").build(), 2);
+        columns.store(2, new Statistics(), added.getDifficulty());
+        assertTrue(predicate.test(added));
+    }
+}
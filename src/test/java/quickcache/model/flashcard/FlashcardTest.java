@@ -1,6 +1,7 @@
 package quickcache.model.flashcard;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static quickcache.logic.commands.CommandTestUtil.VALID_ANSWER_TWO;
@@ -59,19 +60,12 @@ class FlashcardTest {
     }
 
     @Test
-    public void getFlashcardAfterTestSuccess() {
-        Flashcard updatedRandom1 = new FlashcardBuilder(RANDOM1)
-            .withStatistics(new Statistics(1, 1)).build();
-        assertTrue(RANDOM1.getFlashcardAfterTestSuccess().isSameFlashcard(updatedRandom1));
-        assertTrue(RANDOM1.getFlashcardAfterTestSuccess().equals(updatedRandom1));
-    }
+    public void hashCode_equalFlashcards_returnsSameHashCode() {
+        Flashcard random1Copy = new FlashcardBuilder(RANDOM1).build();
+        assertEquals(RANDOM1.hashCode(), random1Copy.hashCode());
 
-    @Test
-    public void getFlashcardAfterTestFailure() {
-        Flashcard updatedRandom1 = new FlashcardBuilder(RANDOM1)
-            .withStatistics(new Statistics(1, 0)).build();
-        assertTrue(RANDOM1.getFlashcardAfterTestFailure().isSameFlashcard(updatedRandom1));
-        assertTrue(RANDOM1.getFlashcardAfterTestFailure().equals(updatedRandom1));
+        Flashcard random2Copy = new FlashcardBuilder(RANDOM2).build();
+        assertEquals(RANDOM2.hashCode(), random2Copy.hashCode());
     }
 
 }
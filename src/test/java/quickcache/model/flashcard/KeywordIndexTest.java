@@ -0,0 +1,88 @@
+package quickcache.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.commons.util.StringUtil;
+import quickcache.testutil.FlashcardBuilder;
+
+class KeywordIndexTest {
+
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+
+    @Test
+    public void getIdsContainingAll_keywordPartOfWord_returnsFlashcardsContainingKeyword() {
+        keywordIndex.add(new FlashcardBuilder().withQuestion("What is CS1101S?").build().withId(0));
+        keywordIndex.add(new FlashcardBuilder().withQuestion("What is CS2103T?").build().withId(1));
+        keywordIndex.add(new FlashcardBuilder().withQuestion("Who teaches CS1101S?").build().withId(2));
+
+        assertEquals(bitSetOf(0, 2), keywordIndex.getIdsContainingAll(prepareKeywordList("1101")));
+        assertEquals(bitSetOf(0, 1, 2), keywordIndex.getIdsContainingAll(prepareKeywordList("cs")));
+        assertEquals(bitSetOf(0, 1), keywordIndex.getIdsContainingAll(prepareKeywordList("hat")));
+    }
+
+    @Test
+    public void getIdsContainingAll_mixedCaseKeywords_returnsFlashcardsContainingAllKeywords() {
+        keywordIndex.add(new FlashcardBuilder().withQuestion("What is CS1101S?").build().withId(0));
+        keywordIndex.add(new FlashcardBuilder().withQuestion("What is CS2103T?").build().withId(1));
+
+        assertEquals(bitSetOf(0), keywordIndex.getIdsContainingAll(prepareKeywordList("WhAt", "iS", "Cs1101s?")));
+    }
+
+    @Test
+    public void getIdsContainingAll_nonAsciiLettersInOtherCase_matchesLikeUnindexedPredicate() {
+        String question = "Was bedeutet \u00dcBERSETZUNG?";
+        keywordIndex.add(new FlashcardBuilder().withQuestion(question).build().withId(0));
+
+        // only ASCII letters are matched ignoring case, as StringUtil#containsWordAsSubsetIgnoreCase does
+        assertEquals(bitSetOf(0), keywordIndex.getIdsContainingAll(prepareKeywordList("\u00dcbersetzung")));
+        assertEquals(new BitSet(), keywordIndex.getIdsContainingAll(prepareKeywordList("\u00fcbersetzung")));
+        assertFalse(StringUtil.containsWordAsSubsetIgnoreCase(question, "\u00fcbersetzung"));
+    }
+
+    @Test
+    public void getIdsContainingAll_keywordAcrossWords_returnsEmpty() {
+        keywordIndex.add(new FlashcardBuilder().withQuestion("What is CS1101S?").build().withId(0));
+
+        assertTrue(keywordIndex.getIdsContainingAll(prepareKeywordList("atis")).isEmpty());
+        assertTrue(keywordIndex.getIdsContainingAll(prepareKeywordList("Carol")).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedFlashcard_noLongerFound() {
+        Flashcard flashcard = new FlashcardBuilder().withQuestion("What is CS1101S?").build().withId(0);
+        keywordIndex.add(flashcard);
+        keywordIndex.add(new FlashcardBuilder().withQuestion("What is CS2103T?").build().withId(1));
+        keywordIndex.remove(flashcard);
+
+        assertEquals(bitSetOf(1), keywordIndex.getIdsContainingAll(prepareKeywordList("What")));
+        assertEquals(bitSetOf(1), keywordIndex.getIdsContainingAll(prepareKeywordList("is")));
+    }
+
+    @Test
+    public void getVersion_afterChange_changes() {
+        int version = keywordIndex.getVersion();
+        keywordIndex.add(new FlashcardBuilder().withQuestion("What is CS1101S?").build().withId(0));
+        assertNotEquals(version, keywordIndex.getVersion());
+    }
+
+    private BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+
+    private List<String> prepareKeywordList(String... keywords) {
+        return Arrays.asList(keywords);
+    }
+}
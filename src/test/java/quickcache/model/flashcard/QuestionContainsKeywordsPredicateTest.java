@@ -68,6 +68,27 @@ class QuestionContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new FlashcardBuilder().withQuestion("What is CS1101S?").build()));
     }
 
+    @Test
+    public void test_withKeywordIndex_matchesIndexedFlashcards() {
+        KeywordIndex keywordIndex = new KeywordIndex();
+        Flashcard matching = new FlashcardBuilder().withQuestion("What is CS1101S?").build().withId(0);
+        Flashcard notMatching = new FlashcardBuilder().withQuestion("What is CS2103T?").build().withId(1);
+        keywordIndex.add(matching);
+        keywordIndex.add(notMatching);
+
+        QuestionContainsKeywordsPredicate predicate =
+                new QuestionContainsKeywordsPredicate(prepareKeywordList("wHaT", "1101"))
+                        .withKeywordIndex(keywordIndex);
+        assertTrue(predicate.test(matching));
+        assertFalse(predicate.test(notMatching));
+
+        // index changes after the predicate is created -> predicate follows the index
+        Flashcard edited = new FlashcardBuilder().withQuestion("What is CS1101S again?").build().withId(1);
+        keywordIndex.remove(notMatching);
+        keywordIndex.add(edited);
+        assertTrue(predicate.test(edited));
+    }
+
     private List<String> prepareKeywordList(String... keywords) {
         return Arrays.asList(keywords);
     }
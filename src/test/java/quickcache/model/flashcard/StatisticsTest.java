@@ -2,6 +2,7 @@ package quickcache.model.flashcard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -28,6 +29,13 @@ class StatisticsTest {
                 new Statistics(0, 1));
     }
 
+    @Test
+    public void of_zeroCounts_returnsSharedZero() {
+        assertSame(Statistics.ZERO, Statistics.of(0, 0));
+        assertEquals(new Statistics(2, 1), Statistics.of(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> Statistics.of(1, 2));
+    }
+
     @Test
     public void incrementStats() {
         Statistics statistics = new Statistics(5, 3);
@@ -0,0 +1,105 @@
+package quickcache.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.testutil.FlashcardBuilder;
+
+class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getIdsWithAllTags_singleTag_returnsFlashcardsWithTag() {
+        tagIndex.add(new FlashcardBuilder().withTags("Programming", "English").build().withId(0));
+        tagIndex.add(new FlashcardBuilder().withTags("English").build().withId(1));
+        tagIndex.add(new FlashcardBuilder().withTags("Programming").build().withId(2));
+
+        assertEquals(bitSetOf(0, 2), tagIndex.getIdsWithAllTags(prepareTagSet("Programming")));
+        assertEquals(bitSetOf(0, 1), tagIndex.getIdsWithAllTags(prepareTagSet("English")));
+    }
+
+    @Test
+    public void getIdsWithAllTags_multipleTags_returnsIntersection() {
+        tagIndex.add(new FlashcardBuilder().withTags("Programming", "English").build().withId(0));
+        tagIndex.add(new FlashcardBuilder().withTags("English").build().withId(1));
+
+        assertEquals(bitSetOf(0), tagIndex.getIdsWithAllTags(prepareTagSet("Programming", "English")));
+    }
+
+    @Test
+    public void getIdsWithAllTags_unknownTag_returnsEmpty() {
+        tagIndex.add(new FlashcardBuilder().withTags("Programming").build().withId(0));
+
+        assertTrue(tagIndex.getIdsWithAllTags(prepareTagSet("Programming", "Carol")).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedFlashcard_removedFromPostings() {
+        Flashcard flashcard = new FlashcardBuilder().withTags("Programming").build().withId(0);
+        tagIndex.add(flashcard);
+        tagIndex.add(new FlashcardBuilder().withTags("Programming").build().withId(1));
+        tagIndex.remove(flashcard);
+
+        assertEquals(bitSetOf(1), tagIndex.getIdsWithAllTags(prepareTagSet("Programming")));
+    }
+
+    @Test
+    public void getTotalStatistics_tags_sumsStatisticsOfFlashcardsWithTag() {
+        tagIndex.add(new FlashcardBuilder().withTags("Programming", "English")
+                .withStatistics(new Statistics(4, 3)).build().withId(0));
+        tagIndex.add(new FlashcardBuilder().withTags("English")
+                .withStatistics(new Statistics(2, 1)).build().withId(1));
+        tagIndex.add(new FlashcardBuilder().withTags("Programming")
+                .withStatistics(new Statistics(5, 0)).build().withId(2));
+
+        assertEquals(new Statistics(11, 4), tagIndex.getTotalStatistics());
+        assertEquals(new Statistics(6, 4), tagIndex.getTotalStatistics(Tag.of("English")));
+        assertEquals(new Statistics(9, 3), tagIndex.getTotalStatistics(Tag.of("Programming")));
+        assertEquals(new Statistics(), tagIndex.getTotalStatistics(Tag.of("Carol")));
+    }
+
+    @Test
+    public void getTotalStatistics_afterRemove_excludesRemovedFlashcard() {
+        Flashcard flashcard = new FlashcardBuilder().withTags("Programming")
+                .withStatistics(new Statistics(4, 3)).build().withId(0);
+        tagIndex.add(flashcard);
+        tagIndex.add(new FlashcardBuilder().withTags("Programming")
+                .withStatistics(new Statistics(2, 1)).build().withId(1));
+        tagIndex.remove(flashcard);
+        tagIndex.add(new FlashcardBuilder(flashcard).withStatistics(new Statistics(5, 3)).build().withId(0));
+
+        assertEquals(new Statistics(7, 4), tagIndex.getTotalStatistics(Tag.of("Programming")));
+        assertEquals(new Statistics(7, 4), tagIndex.getTotalStatistics());
+    }
+
+    @Test
+    public void getVersion_afterChange_changes() {
+        int version = tagIndex.getVersion();
+        tagIndex.add(new FlashcardBuilder().withTags("Programming").build().withId(0));
+        assertNotEquals(version, tagIndex.getVersion());
+    }
+
+    private BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+
+    private Set<Tag> prepareTagSet(String... tags) {
+        HashSet<Tag> tagSet = new HashSet<>();
+        for (String tag: tags) {
+            tagSet.add(Tag.of(tag));
+        }
+        return tagSet;
+    }
+}
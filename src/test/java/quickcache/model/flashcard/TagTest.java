@@ -1,6 +1,7 @@
 package quickcache.model.flashcard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static quickcache.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -8,14 +9,19 @@ import org.junit.jupiter.api.Test;
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
+    }
+
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertSame(Tag.of("ValidTag"), Tag.of(new String("ValidTag")));
     }
 
     @Test
@@ -27,7 +33,7 @@ public class TagTest {
     @Test
     public void testToString() {
         String tagName = "ValidTag";
-        Tag tag = new Tag(tagName);
+        Tag tag = Tag.of(tagName);
         assertEquals(tag.toString(), "[" + tagName + "]");
     }
 
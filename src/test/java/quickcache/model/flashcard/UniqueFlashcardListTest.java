@@ -8,11 +8,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static quickcache.logic.commands.CommandTestUtil.VALID_QUESTION_TWO;
 import static quickcache.testutil.TypicalFlashcards.RANDOM1;
 import static quickcache.testutil.TypicalFlashcards.RANDOM2;
+import static quickcache.testutil.TypicalFlashcards.RANDOM3;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,14 @@ class UniqueFlashcardListTest {
         assertThrows(NullPointerException.class, () -> uniqueFlashcardList.contains(null));
     }
 
+    @Test
+    public void filterNew_flashcardsInListAndRepeated_returnsOnlyNewFlashcards() {
+        uniqueFlashcardList.add(RANDOM1);
+        List<Flashcard> candidates = Arrays.asList(RANDOM2, new FlashcardBuilder(RANDOM1).build(),
+                new FlashcardBuilder(RANDOM2).build());
+        assertEquals(List.of(RANDOM2), uniqueFlashcardList.filterNew(candidates));
+    }
+
     @Test
     public void contains_flashcardNotInList_returnsFalse() {
         assertFalse(uniqueFlashcardList.contains(RANDOM1));
@@ -41,6 +52,12 @@ class UniqueFlashcardListTest {
         assertTrue(uniqueFlashcardList.contains(RANDOM1));
     }
 
+    @Test
+    public void contains_copyOfFlashcardInList_returnsTrue() {
+        uniqueFlashcardList.add(RANDOM1);
+        assertTrue(uniqueFlashcardList.contains(new FlashcardBuilder(RANDOM1).build()));
+    }
+
     @Test
     public void contains_flashcardWithSameIdentityFieldsInList_returnsFalse() {
         uniqueFlashcardList.add(RANDOM1);
@@ -129,6 +146,130 @@ class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void remove_flashcardBeforeOtherFlashcards_otherFlashcardsStillFound() {
+        uniqueFlashcardList.add(RANDOM1);
+        uniqueFlashcardList.add(RANDOM2);
+        uniqueFlashcardList.add(RANDOM3);
+        uniqueFlashcardList.remove(RANDOM1);
+
+        uniqueFlashcardList.setFlashcard(RANDOM3, RANDOM1);
+        uniqueFlashcardList.remove(RANDOM2);
+        UniqueFlashcardList expectedUniqueFlashcardList = new UniqueFlashcardList();
+        expectedUniqueFlashcardList.add(RANDOM1);
+        assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
+    }
+
+    @Test
+    public void remove_manyFlashcardsOneByOne_remainingFlashcardsFoundAtTheirPositions() {
+        List<Flashcard> flashcards = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            flashcards.add(new FlashcardBuilder().withQuestion("Question " + i).build().withId(i));
+        }
+        uniqueFlashcardList.addAll(flashcards);
+
+        List<Flashcard> remaining = new ArrayList<>(flashcards);
+        for (int i = 0; i < 300; i += 3) {
+            uniqueFlashcardList.remove(flashcards.get(i));
+            remaining.remove(flashcards.get(i));
+            Flashcard last = remaining.get(remaining.size() - 1);
+            assertEquals(remaining.size() - 1, uniqueFlashcardList.indexOf(last));
+            assertEquals(remaining.size() - 1, uniqueFlashcardList.indexOfId(last.getId()));
+        }
+
+        for (int i = 0; i < remaining.size(); i++) {
+            assertEquals(i, uniqueFlashcardList.indexOf(remaining.get(i)));
+            assertEquals(i, uniqueFlashcardList.indexOfId(remaining.get(i).getId()));
+        }
+        assertEquals(-1, uniqueFlashcardList.indexOfId(0));
+        assertEquals(remaining, uniqueFlashcardList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_flashcards_addsFlashcardsInOrder() {
+        uniqueFlashcardList.add(RANDOM1);
+        uniqueFlashcardList.addAll(Arrays.asList(RANDOM2, RANDOM3));
+        UniqueFlashcardList expectedUniqueFlashcardList = new UniqueFlashcardList();
+        expectedUniqueFlashcardList.add(RANDOM1);
+        expectedUniqueFlashcardList.add(RANDOM2);
+        expectedUniqueFlashcardList.add(RANDOM3);
+        assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
+        assertTrue(uniqueFlashcardList.contains(RANDOM3));
+    }
+
+    @Test
+    public void addAll_flashcardAlreadyInList_throwsDuplicateFlashcardException() {
+        uniqueFlashcardList.add(RANDOM1);
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.addAll(
+            Arrays.asList(RANDOM2, RANDOM1)));
+        assertFalse(uniqueFlashcardList.contains(RANDOM2));
+    }
+
+    @Test
+    public void addAll_duplicateFlashcards_throwsDuplicateFlashcardException() {
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.addAll(
+            Arrays.asList(RANDOM1, RANDOM1)));
+    }
+
+    @Test
+    public void removeAll_predicate_removesMatchingFlashcards() {
+        uniqueFlashcardList.addAll(Arrays.asList(RANDOM1, RANDOM2, RANDOM3));
+        List<Flashcard> removed = uniqueFlashcardList.removeAll(flashcard ->
+            flashcard.equals(RANDOM1) || flashcard.equals(RANDOM3));
+        assertEquals(Arrays.asList(RANDOM1, RANDOM3), removed);
+
+        UniqueFlashcardList expectedUniqueFlashcardList = new UniqueFlashcardList();
+        expectedUniqueFlashcardList.add(RANDOM2);
+        assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
+        uniqueFlashcardList.remove(RANDOM2);
+    }
+
+    @Test
+    public void removeAll_indexes_removesFlashcardsAtIndexes() {
+        uniqueFlashcardList.addAll(Arrays.asList(RANDOM1, RANDOM2, RANDOM3));
+        assertEquals(Arrays.asList(RANDOM1, RANDOM3), uniqueFlashcardList.removeAll(new int[] {0, 2}));
+        assertEquals(Collections.singletonList(RANDOM2), uniqueFlashcardList.asUnmodifiableObservableList());
+        assertFalse(uniqueFlashcardList.contains(RANDOM3));
+    }
+
+    @Test
+    public void removeAll_indexOutOfRange_throwsFlashcardNotFoundException() {
+        uniqueFlashcardList.add(RANDOM1);
+        assertThrows(FlashcardNotFoundException.class, () -> uniqueFlashcardList.removeAll(new int[] {1}));
+        assertTrue(uniqueFlashcardList.contains(RANDOM1));
+    }
+
+    @Test
+    public void insertAll_indexes_insertsFlashcardsAtIndexes() {
+        uniqueFlashcardList.add(RANDOM2);
+        uniqueFlashcardList.insertAll(new int[] {0, 2}, Arrays.asList(RANDOM1, RANDOM3));
+        assertEquals(Arrays.asList(RANDOM1, RANDOM2, RANDOM3), uniqueFlashcardList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueFlashcardList.indexOf(RANDOM3));
+    }
+
+    @Test
+    public void replaceAll_replacements_replacesFlashcards() {
+        uniqueFlashcardList.addAll(Arrays.asList(RANDOM1, RANDOM2));
+        uniqueFlashcardList.replaceAll(Map.of(RANDOM1, RANDOM3));
+        UniqueFlashcardList expectedUniqueFlashcardList = new UniqueFlashcardList();
+        expectedUniqueFlashcardList.add(RANDOM3);
+        expectedUniqueFlashcardList.add(RANDOM2);
+        assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
+    }
+
+    @Test
+    public void replaceAll_replacementNotUnique_throwsDuplicateFlashcardException() {
+        uniqueFlashcardList.addAll(Arrays.asList(RANDOM1, RANDOM2));
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.replaceAll(
+            Map.of(RANDOM1, RANDOM2)));
+    }
+
+    @Test
+    public void replaceAll_targetNotInList_throwsFlashcardNotFoundException() {
+        assertThrows(FlashcardNotFoundException.class, () -> uniqueFlashcardList.replaceAll(
+            Map.of(RANDOM1, RANDOM2)));
+    }
+
     @Test
     public void setFlashcards_nullUniqueFlashcardList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashcardList.setFlashcards((UniqueFlashcardList) null));
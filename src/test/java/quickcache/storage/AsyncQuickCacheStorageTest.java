@@ -0,0 +1,168 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.model.QuickCache;
+import quickcache.model.ReadOnlyQuickCache;
+
+public class AsyncQuickCacheStorageTest {
+
+    private static final long LONG_DELAY = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeSaveDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncQuickCacheStorage(new RecordingStorageStub(), -1));
+    }
+
+    @Test
+    public void saveQuickCache_thenRead_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        AsyncQuickCacheStorage storage = new AsyncQuickCacheStorage(new JournaledQuickCacheStorage(filePath), 0);
+        QuickCache original = getTypicalQuickCache();
+
+        storage.saveQuickCache(original);
+
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_burstOfSaves_writesLatestSnapshotOnce() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub();
+        AsyncQuickCacheStorage storage = new AsyncQuickCacheStorage(stub, LONG_DELAY);
+        QuickCache quickCache = getTypicalQuickCache();
+
+        storage.saveQuickCache(quickCache);
+        quickCache.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(quickCache);
+        storage.flushQuickCache();
+
+        assertEquals(1, stub.saved.size());
+        assertEquals(quickCache, new QuickCache(stub.saved.get(0)));
+    }
+
+    @Test
+    public void saveQuickCache_changedBeforeWrite_writesDataAtTimeOfWrite() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub();
+        AsyncQuickCacheStorage storage = new AsyncQuickCacheStorage(stub, LONG_DELAY);
+        QuickCache quickCache = getTypicalQuickCache();
+
+        storage.saveQuickCache(quickCache);
+        quickCache.recordTestResult(quickCache.getFlashcardList().get(0), true);
+        storage.flushQuickCache();
+
+        assertEquals(quickCache, new QuickCache(stub.saved.get(0)));
+    }
+
+    @Test
+    public void saveQuickCache_changedAfterWrite_keepsWrittenSnapshot() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub();
+        AsyncQuickCacheStorage storage = new AsyncQuickCacheStorage(stub, LONG_DELAY);
+        QuickCache quickCache = getTypicalQuickCache();
+        QuickCache expected = getTypicalQuickCache();
+
+        storage.saveQuickCache(quickCache);
+        storage.flushQuickCache();
+        quickCache.recordTestResult(quickCache.getFlashcardList().get(0), true);
+
+        assertEquals(expected, new QuickCache(stub.saved.get(0)));
+    }
+
+    @Test
+    public void saveQuickCache_delayPassed_takesSnapshotOnExecutor() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub();
+        BlockingQueue<Runnable> snapshotTasks = new LinkedBlockingQueue<>();
+        AsyncQuickCacheStorage storage = new AsyncQuickCacheStorage(stub, 0, snapshotTasks::add);
+        QuickCache quickCache = getTypicalQuickCache();
+
+        storage.saveQuickCache(quickCache);
+        Runnable snapshotTask = snapshotTasks.poll(LONG_DELAY, TimeUnit.MILLISECONDS);
+        quickCache.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(quickCache);
+        snapshotTask.run();
+        storage.flushQuickCache();
+
+        // the snapshot is taken once, when the executor runs it, so it holds the changes of both saves
+        assertEquals(1, stub.saved.size());
+        assertEquals(quickCache, new QuickCache(stub.saved.get(0)));
+    }
+
+    @Test
+    public void flushQuickCache_writeFailed_throwsIoException() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub();
+        stub.isFailing = true;
+        AsyncQuickCacheStorage storage = new AsyncQuickCacheStorage(stub, LONG_DELAY);
+
+        storage.saveQuickCache(getTypicalQuickCache());
+
+        assertThrows(IOException.class, storage::flushQuickCache);
+    }
+
+    @Test
+    public void saveQuickCache_otherFile_writesBeforeReturning() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub();
+        AsyncQuickCacheStorage storage = new AsyncQuickCacheStorage(stub, LONG_DELAY);
+
+        storage.saveQuickCache(getTypicalQuickCache(), testFolder.resolve("OtherQuickCache.json"));
+
+        assertEquals(1, stub.saved.size());
+    }
+
+    /**
+     * A {@code QuickCacheStorage} stub that remembers what it was asked to save.
+     */
+    private static class RecordingStorageStub implements QuickCacheStorage {
+        private final List<ReadOnlyQuickCache> saved = new ArrayList<>();
+        private boolean isFailing;
+
+        @Override
+        public Path getQuickCacheFilePath() {
+            return Path.of("QuickCache.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyQuickCache> readQuickCache() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyQuickCache> readQuickCache(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveQuickCache(ReadOnlyQuickCache quickCache) throws IOException {
+            saveQuickCache(quickCache, getQuickCacheFilePath());
+        }
+
+        @Override
+        public void saveQuickCache(ReadOnlyQuickCache quickCache, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            saved.add(quickCache);
+        }
+
+        @Override
+        public void flushQuickCache() {
+
+        }
+    }
+}
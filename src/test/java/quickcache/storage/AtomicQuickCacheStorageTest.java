@@ -0,0 +1,180 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.commons.core.Durability;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.util.FileUtil;
+import quickcache.commons.util.JsonUtil;
+import quickcache.model.QuickCache;
+import quickcache.model.flashcard.Flashcard;
+
+public class AtomicQuickCacheStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path backupFilePath;
+    private AtomicQuickCacheStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempQuickCache.json");
+        backupFilePath = AtomicQuickCacheStorage.getBackupFilePath(filePath);
+        storage = new AtomicQuickCacheStorage(new JsonQuickCacheStorage(filePath), Durability.CHECKPOINT);
+    }
+
+    @Test
+    public void saveQuickCache_firstSave_noTempFileOrBackup() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+
+        storage.saveQuickCache(original);
+
+        assertFalse(Files.exists(AtomicQuickCacheStorage.getTempFilePath(filePath)));
+        assertFalse(Files.exists(backupFilePath));
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_secondSave_keepsPreviousFileAsBackup() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        storage.saveQuickCache(original);
+        String previousContent = FileUtil.readFromFile(filePath);
+
+        original.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(original);
+
+        assertEquals(previousContent, FileUtil.readFromFile(backupFilePath));
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void readQuickCache_damagedFile_readsBackup() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        storage.saveQuickCache(original);
+        QuickCache changed = getTypicalQuickCache();
+        changed.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(changed);
+
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void readFlashcards_damagedFile_readsBackup() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        storage.saveQuickCache(original);
+        QuickCache changed = getTypicalQuickCache();
+        changed.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(changed);
+
+        // the checksum no longer matches, so the damage is found before any flashcard is handed over
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.replace("110.101", "110.100"));
+
+        List<Flashcard> flashcards = new ArrayList<>();
+        assertTrue(storage.readFlashcards(filePath, 2, flashcards::addAll));
+        assertEquals(original.getFlashcardList(), flashcards);
+    }
+
+    @Test
+    public void readFlashcards_truncatedFile_readsBackup() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        storage.saveQuickCache(original);
+        storage.saveQuickCache(original);
+
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        List<Flashcard> flashcards = new ArrayList<>();
+        assertTrue(storage.readFlashcards(filePath, 1, flashcards::addAll));
+        assertEquals(original.getFlashcardList(), flashcards);
+    }
+
+    @Test
+    public void readFlashcards_damageFoundAfterBatches_throwsDataConversionException() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        storage.saveQuickCache(original);
+        storage.saveQuickCache(original);
+
+        // without a checksum, the damage is only found once the flashcards before it have been handed over
+        String content = FileUtil.readFromFile(filePath)
+                .replaceFirst("\"" + JsonUtil.CHECKSUM_TYPE_FIELD + "\" : \"" + JsonUtil.CHECKSUM_FIELD + "\",", "");
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        List<Flashcard> flashcards = new ArrayList<>();
+        assertThrows(DataConversionException.class, () -> storage.readFlashcards(filePath, 1, flashcards::addAll));
+        assertFalse(flashcards.isEmpty());
+
+        // reading the file again in full reads the backup instead
+        assertEquals(original, new QuickCache(storage.readQuickCache(filePath).get()));
+    }
+
+    @Test
+    public void readQuickCache_missingFile_readsBackup() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        storage.saveQuickCache(original);
+        storage.saveQuickCache(original);
+
+        Files.delete(filePath);
+
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void readQuickCache_damagedFile_callsRestoreHandler() throws Exception {
+        storage.saveQuickCache(getTypicalQuickCache());
+        storage.saveQuickCache(getTypicalQuickCache());
+        List<Path> restoredFilePaths = new ArrayList<>();
+        storage.setRestoreHandler(restoredFilePaths::add);
+
+        storage.readQuickCache();
+        assertTrue(restoredFilePaths.isEmpty());
+
+        FileUtil.writeToFile(filePath, "{\"flashcards\" : [");
+        storage.readQuickCache();
+        assertEquals(List.of(filePath), restoredFilePaths);
+    }
+
+    @Test
+    public void readQuickCache_damagedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        storage.saveQuickCache(getTypicalQuickCache());
+        FileUtil.writeToFile(filePath, "{\"flashcards\" : [");
+
+        assertThrows(DataConversionException.class, () -> storage.readQuickCache());
+    }
+
+    @Test
+    public void saveQuickCache_otherFile_noBackup() throws Exception {
+        Path otherFilePath = testFolder.resolve("OtherQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+
+        storage.saveQuickCache(original, otherFilePath);
+        storage.saveQuickCache(original, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(AtomicQuickCacheStorage.getBackupFilePath(otherFilePath)));
+    }
+
+    @Test
+    public void saveQuickCache_nullQuickCache_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveQuickCache(null));
+    }
+}
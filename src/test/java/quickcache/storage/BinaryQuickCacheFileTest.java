@@ -0,0 +1,98 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.model.QuickCache;
+import quickcache.model.flashcard.Answer;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.OpenEndedQuestion;
+
+public class BinaryQuickCacheFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_savedQuickCache_decodesEachFlashcard() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.bin");
+        QuickCache original = getTypicalQuickCache();
+        new BinaryQuickCacheStorage(filePath).saveQuickCache(original);
+
+        BinaryQuickCacheFile file = BinaryQuickCacheFile.read(filePath);
+
+        List<Flashcard> flashcards = original.getFlashcardList();
+        assertEquals(flashcards.size(), file.getFlashcardCount());
+        // decodes the flashcards out of order, as each is found through the offset index
+        for (int i = flashcards.size() - 1; i >= 0; i--) {
+            Flashcard flashcard = file.getFlashcard(i);
+            assertEquals(flashcards.get(i), flashcard);
+            assertEquals(flashcards.get(i).getId(), flashcard.getId());
+        }
+    }
+
+    @Test
+    public void getFlashcard_invalidIndex_throwsIndexOutOfBoundsException() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.bin");
+        new BinaryQuickCacheStorage(filePath).saveQuickCache(getTypicalQuickCache());
+        BinaryQuickCacheFile file = BinaryQuickCacheFile.read(filePath);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> file.getFlashcard(file.getFlashcardCount()));
+        assertThrows(IndexOutOfBoundsException.class, () -> file.getFlashcard(-1));
+    }
+
+    @Test
+    public void constructor_corruptOffsetIndex_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.bin");
+        new BinaryQuickCacheStorage(filePath).saveQuickCache(getTypicalQuickCache());
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        bytes.putLong(bytes.limit() - Integer.BYTES - Long.BYTES, bytes.limit());
+
+        assertThrows(IllegalValueException.class, BinaryQuickCacheFile.MESSAGE_CORRUPT_FILE, () ->
+                new BinaryQuickCacheFile(bytes));
+    }
+
+    @Test
+    public void verifyChecksum_changedAfterSave_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.bin");
+        new BinaryQuickCacheStorage(filePath).saveQuickCache(getTypicalQuickCache());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[8]++; // the first character of the first string
+        BinaryQuickCacheFile file = new BinaryQuickCacheFile(ByteBuffer.wrap(bytes));
+
+        assertThrows(IllegalValueException.class, BinaryQuickCacheFile.MESSAGE_CHECKSUM_MISMATCH,
+                file::verifyChecksum);
+    }
+
+    @Test
+    public void constructor_unindexedFormat_decodesFlashcard() throws Exception {
+        byte[] bytes = {'Q', 'C', 'B', 'F', 1,
+            1, 1, 'A', // one string: "A"
+            1, 9, 0, 1, 1, 'Q', 0, 0, 0, 0, 0}; // one open ended flashcard with id 0, question "Q" and answer "A"
+
+        BinaryQuickCacheFile file = new BinaryQuickCacheFile(ByteBuffer.wrap(bytes));
+
+        assertEquals(1, file.getFlashcardCount());
+        Flashcard flashcard = file.getFlashcard(0);
+        assertEquals(new OpenEndedQuestion("Q", new Answer("A")), flashcard.getQuestion());
+        assertEquals(0, flashcard.getId());
+    }
+
+    @Test
+    public void constructor_notBinaryFile_throwsIllegalValueException() {
+        byte[] bytes = "{\"flashcards\":[]}".getBytes();
+
+        assertThrows(IllegalValueException.class, BinaryQuickCacheFile.MESSAGE_NOT_BINARY_FILE, () ->
+                new BinaryQuickCacheFile(ByteBuffer.wrap(bytes)));
+    }
+}
@@ -0,0 +1,107 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.model.QuickCache;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.Statistics;
+import quickcache.testutil.FlashcardBuilder;
+
+public class BinaryQuickCacheStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryQuickCacheStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempQuickCache.bin");
+        storage = new BinaryQuickCacheStorage(filePath);
+    }
+
+    @Test
+    public void readQuickCache_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readQuickCache().isPresent());
+    }
+
+    @Test
+    public void readAndSaveQuickCache_allInOrder_success() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        original.addFlashcard(new FlashcardBuilder().withQuestion("What has large statistics?")
+                .withTags("Large", "Statistics").withDifficulty("HIGH")
+                .withStatistics(new Statistics(300, 200)).build());
+
+        storage.saveQuickCache(original);
+        ReadOnlyQuickCache readBack = storage.readQuickCache().get();
+
+        assertTrue(BinaryQuickCacheStorage.isBinaryFile(filePath));
+        assertEquals(original, new QuickCache(readBack));
+        assertEquals(getIds(original), getIds(readBack));
+    }
+
+    @Test
+    public void saveQuickCache_sharedStrings_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+
+        storage.saveQuickCache(original);
+        new JsonQuickCacheStorage(jsonFilePath, true).saveQuickCache(original);
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readQuickCache_jsonFile_throwsDataConversionException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempQuickCache.json");
+        new JsonQuickCacheStorage(jsonFilePath).saveQuickCache(getTypicalQuickCache());
+
+        assertFalse(BinaryQuickCacheStorage.isBinaryFile(jsonFilePath));
+        assertThrows(DataConversionException.class, () -> storage.readQuickCache(jsonFilePath));
+    }
+
+    @Test
+    public void readQuickCache_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveQuickCache(getTypicalQuickCache());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> storage.readQuickCache());
+    }
+
+    @Test
+    public void readQuickCache_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveQuickCache(getTypicalQuickCache());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = BinaryQuickCacheStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readQuickCache());
+    }
+
+    @Test
+    public void saveQuickCache_nullQuickCache_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveQuickCache(null));
+    }
+
+    private static List<Integer> getIds(ReadOnlyQuickCache quickCache) {
+        return quickCache.getFlashcardList().stream().map(Flashcard::getId).collect(Collectors.toList());
+    }
+}
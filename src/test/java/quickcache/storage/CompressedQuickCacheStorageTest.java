@@ -0,0 +1,68 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.commons.core.DataFileFormat;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.model.QuickCache;
+
+public class CompressedQuickCacheStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readQuickCache_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+
+        assertFalse(new CompressedQuickCacheStorage(filePath, DataFileFormat.JSON, false).readQuickCache()
+                .isPresent());
+        assertFalse(CompressedQuickCacheStorage.isCompressedFile(filePath));
+    }
+
+    @Test
+    public void saveQuickCache_jsonFormat_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        CompressedQuickCacheStorage storage = new CompressedQuickCacheStorage(filePath, DataFileFormat.JSON, true);
+
+        storage.saveQuickCache(original);
+
+        assertTrue(CompressedQuickCacheStorage.isCompressedFile(filePath));
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_binaryFormat_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        new CompressedQuickCacheStorage(filePath, DataFileFormat.BINARY, false).saveQuickCache(original);
+
+        // the format of the compressed data is detected when it is read
+        CompressedQuickCacheStorage jsonStorage = new CompressedQuickCacheStorage(filePath, DataFileFormat.JSON,
+                false);
+        assertEquals(original, new QuickCache(jsonStorage.readQuickCache().get()));
+    }
+
+    @Test
+    public void readQuickCache_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        CompressedQuickCacheStorage storage = new CompressedQuickCacheStorage(filePath, DataFileFormat.JSON, false);
+        storage.saveQuickCache(getTypicalQuickCache());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, storage::readQuickCache);
+    }
+}
@@ -0,0 +1,102 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.model.QuickCache;
+import quickcache.model.flashcard.Answer;
+import quickcache.model.flashcard.Difficulties;
+import quickcache.model.flashcard.Difficulty;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.MultipleChoiceQuestion;
+import quickcache.model.flashcard.OpenEndedQuestion;
+import quickcache.model.flashcard.Tag;
+
+public class DelimitedQuickCacheStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isDelimitedFile() {
+        assertTrue(DelimitedQuickCacheStorage.isDelimitedFile(Paths.get("deck.csv")));
+        assertTrue(DelimitedQuickCacheStorage.isDelimitedFile(Paths.get("deck.TSV")));
+        assertTrue(DelimitedQuickCacheStorage.isDelimitedFile(Paths.get("anki", "deck.txt")));
+        assertFalse(DelimitedQuickCacheStorage.isDelimitedFile(Paths.get("deck.json")));
+    }
+
+    @Test
+    public void readQuickCache_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.csv");
+
+        assertFalse(new DelimitedQuickCacheStorage(filePath).readQuickCache().isPresent());
+    }
+
+    @Test
+    public void saveQuickCache_csvAndTsv_readBack() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        for (String fileName : List.of("TempQuickCache.csv", "TempQuickCache.tsv")) {
+            Path filePath = testFolder.resolve(fileName);
+            DelimitedQuickCacheStorage storage = new DelimitedQuickCacheStorage(filePath);
+
+            storage.saveQuickCache(original);
+
+            // statistics are not stored, so only the identities of the flashcards are compared
+            List<Flashcard> readBack = storage.readQuickCache().get().getFlashcardList();
+            assertEquals(original.getFlashcardList().size(), readBack.size());
+            for (int i = 0; i < readBack.size(); i++) {
+                assertTrue(original.getFlashcardList().get(i).isSameFlashcard(readBack.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void readFlashcards_ankiExportWithInvalidRows_skipsInvalidRowsWithLineNumbers() throws Exception {
+        Path filePath = testFolder.resolve("deck.txt");
+        Files.writeString(filePath, "#separator:tab\n#html:false\n"
+                + "What is 1 + 1?\t2\tmath easy\n"
+                + "\"Pick the \"\"prime\"\"\"\t3\tmath\tHIGH\t3\t4\n"
+                + "\"No\nanswer\"\t\n"
+                + "\n"
+                + "Bad tag\tyes\tnot_alphanumeric\n", StandardCharsets.UTF_8);
+
+        List<Flashcard> flashcards = new ArrayList<>();
+        List<String> invalidRows = new ArrayList<>();
+        assertTrue(new DelimitedQuickCacheStorage(filePath).readFlashcards(filePath, 1, flashcards::addAll,
+                invalidRows::add));
+
+        assertEquals(List.of(
+                new Flashcard(new OpenEndedQuestion("What is 1 + 1?", new Answer("2")),
+                        Set.of(Tag.of("math"), Tag.of("easy")), Difficulty.unspecified()),
+                new Flashcard(new MultipleChoiceQuestion("Pick the \"prime\"", List.of("3", "4"), new Answer("3")),
+                        Set.of(Tag.of("math")), Difficulty.of(Difficulties.HIGH))), flashcards);
+        assertEquals(List.of(
+                String.format(DelimitedQuickCacheStorage.MESSAGE_INVALID_ROW, 5,
+                        DelimitedQuickCacheStorage.MESSAGE_MISSING_ANSWER),
+                String.format(DelimitedQuickCacheStorage.MESSAGE_INVALID_ROW, 8, Tag.MESSAGE_CONSTRAINTS)),
+                invalidRows);
+    }
+
+    @Test
+    public void readQuickCache_invalidRow_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("deck.csv");
+        Files.writeString(filePath, "Question,Answer\nNo answer\n", StandardCharsets.UTF_8);
+
+        assertThrows(DataConversionException.class, () -> new DelimitedQuickCacheStorage(filePath).readQuickCache());
+    }
+}
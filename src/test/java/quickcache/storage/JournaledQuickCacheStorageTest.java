@@ -0,0 +1,262 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.RANDOM2;
+import static quickcache.testutil.TypicalFlashcards.RANDOM3;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.commons.core.Durability;
+import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.util.FileUtil;
+import quickcache.model.QuickCache;
+import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.testutil.FlashcardBuilder;
+
+public class JournaledQuickCacheStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempQuickCache.json");
+        journalFilePath = JournaledQuickCacheStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledQuickCacheStorage(filePath, -1));
+    }
+
+    @Test
+    public void readQuickCache_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledQuickCacheStorage(filePath).readQuickCache().isPresent());
+    }
+
+    @Test
+    public void saveQuickCache_firstSave_writesSnapshotOnly() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+
+        storage.saveQuickCache(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_changesAfterFirstSave_appendsToJournal() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+        storage.saveQuickCache(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        Flashcard edited = new FlashcardBuilder(RANDOM2).withAnswer("Edited answer").build();
+        original.removeFlashcard(RANDOM1);
+        original.setFlashcard(RANDOM2, edited);
+        original.recordTestResult(RANDOM3, true);
+        original.addFlashcard(new FlashcardBuilder().withQuestion("What is journaled?").build());
+        storage.saveQuickCache(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, FileUtil.readFromFile(journalFilePath).split("\n").length);
+        ReadOnlyQuickCache readBack = new JournaledQuickCacheStorage(filePath).readQuickCache().get();
+        assertEquals(original, new QuickCache(readBack));
+        assertEquals(getIds(original), getIds(readBack));
+    }
+
+    @Test
+    public void saveQuickCache_durabilityAlways_savesData() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(new JsonQuickCacheStorage(filePath),
+                JournaledQuickCacheStorage.DEFAULT_CHECKPOINT_INTERVAL, Durability.ALWAYS);
+        storage.saveQuickCache(original);
+        original.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(original);
+
+        assertEquals(original, new QuickCache(new JournaledQuickCacheStorage(filePath).readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_noChanges_leavesFilesUntouched() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+        storage.saveQuickCache(original);
+
+        storage.saveQuickCache(new QuickCache(original));
+
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveQuickCache_afterRead_continuesJournal() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        new JournaledQuickCacheStorage(filePath).saveQuickCache(original);
+        original.recordTestResult(RANDOM1, false);
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+        QuickCache readBack = new QuickCache(storage.readQuickCache().get());
+
+        readBack.recordTestResult(readBack.getFlashcardList().get(0), false);
+        storage.saveQuickCache(readBack);
+
+        assertEquals(1, FileUtil.readFromFile(journalFilePath).split("\n").length);
+        assertEquals(original, new QuickCache(new JournaledQuickCacheStorage(filePath).readQuickCache().get()));
+    }
+
+    @Test
+    public void readFlashcards_noJournal_handsOverSnapshotAndContinuesJournal() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        new JournaledQuickCacheStorage(filePath).saveQuickCache(original);
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+
+        QuickCache readBack = new QuickCache();
+        assertTrue(storage.readFlashcards(filePath, 2, readBack::addFlashcards));
+        assertEquals(original, readBack);
+
+        readBack.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(readBack);
+
+        assertEquals(1, FileUtil.readFromFile(journalFilePath).split("\n").length);
+        assertEquals(readBack, new QuickCache(new JournaledQuickCacheStorage(filePath).readQuickCache().get()));
+    }
+
+    @Test
+    public void readFlashcards_withJournal_replaysJournal() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+        storage.saveQuickCache(original);
+        original.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(original);
+
+        QuickCache readBack = new QuickCache();
+        assertTrue(new JournaledQuickCacheStorage(filePath).readFlashcards(filePath, 2, readBack::addFlashcards));
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveQuickCache_journalFull_writesCheckpoint() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath, 1);
+        storage.saveQuickCache(original);
+
+        original.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(original);
+        assertTrue(Files.exists(journalFilePath));
+        original.removeFlashcard(RANDOM2);
+        storage.saveQuickCache(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new QuickCache(new JsonQuickCacheStorage(filePath).readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_reordered_writesCheckpoint() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+        storage.saveQuickCache(original);
+
+        List<Flashcard> reversed = original.getFlashcardList().stream()
+                .map(flashcard -> flashcard.withId(flashcard.getId())).collect(Collectors.toList());
+        Collections.reverse(reversed);
+        original.setFlashcards(reversed);
+        storage.saveQuickCache(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(getIds(original), getIds(new JournaledQuickCacheStorage(filePath).readQuickCache().get()));
+    }
+
+    @Test
+    public void readQuickCache_incompleteLastEntry_ignoresEntry() throws Exception {
+        QuickCache original = getTypicalQuickCache();
+        new JournaledQuickCacheStorage(filePath).saveQuickCache(original);
+
+        FileUtil.writeToFile(journalFilePath, "{\"type\":\"delete\",\"id\":0}\n{\"type\":\"del");
+        original.removeFlashcard(RANDOM1);
+
+        assertEquals(original, new QuickCache(new JournaledQuickCacheStorage(filePath).readQuickCache().get()));
+    }
+
+    @Test
+    public void readQuickCache_invalidEntry_throwsDataConversionException() throws Exception {
+        new JournaledQuickCacheStorage(filePath).saveQuickCache(getTypicalQuickCache());
+
+        FileUtil.writeToFile(journalFilePath, "{\"type\":\"statistics\",\"id\":1000,"
+                + "\"statistics\":{\"timesTested\":1,\"timesTestedCorrect\":1}}\n");
+
+        assertThrows(DataConversionException.class, () -> new JournaledQuickCacheStorage(filePath).readQuickCache());
+    }
+
+    @Test
+    public void readQuickCache_snapshotRestoredFromBackup_discardsJournal() throws Exception {
+        AtomicQuickCacheStorage snapshotStorage = new AtomicQuickCacheStorage(new JsonQuickCacheStorage(filePath),
+                Durability.CHECKPOINT);
+        QuickCache original = getTypicalQuickCache();
+        snapshotStorage.saveQuickCache(original);
+        QuickCache changed = getTypicalQuickCache();
+        changed.removeFlashcard(RANDOM1);
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(snapshotStorage,
+                JournaledQuickCacheStorage.DEFAULT_CHECKPOINT_INTERVAL, Durability.CHECKPOINT);
+        storage.saveQuickCache(changed);
+        changed.addFlashcard(RANDOM1);
+        storage.saveQuickCache(changed);
+        assertTrue(Files.exists(journalFilePath));
+
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+        JournaledQuickCacheStorage reopenedStorage = new JournaledQuickCacheStorage(snapshotStorage,
+                JournaledQuickCacheStorage.DEFAULT_CHECKPOINT_INTERVAL, Durability.CHECKPOINT);
+
+        // the journal holds changes to the damaged snapshot, so it is not replayed over the backup
+        assertEquals(original, new QuickCache(reopenedStorage.readQuickCache().get()));
+        assertFalse(Files.exists(journalFilePath));
+
+        // later saves are journaled against the restored snapshot
+        original.removeFlashcard(RANDOM1);
+        reopenedStorage.saveQuickCache(original);
+        assertEquals(original, new QuickCache(new JournaledQuickCacheStorage(snapshotStorage,
+                JournaledQuickCacheStorage.DEFAULT_CHECKPOINT_INTERVAL, Durability.CHECKPOINT)
+                .readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_otherFile_writesFullFile() throws Exception {
+        Path otherFilePath = testFolder.resolve("OtherQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        JournaledQuickCacheStorage storage = new JournaledQuickCacheStorage(filePath);
+        storage.saveQuickCache(original);
+
+        original.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(original, otherFilePath);
+
+        assertFalse(Files.exists(JournaledQuickCacheStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new QuickCache(new JsonQuickCacheStorage(otherFilePath).readQuickCache().get()));
+    }
+
+    @Test
+    public void saveQuickCache_nullQuickCache_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledQuickCacheStorage(filePath)
+                .saveQuickCache(null));
+    }
+
+    private static List<Integer> getIds(ReadOnlyQuickCache quickCache) {
+        return quickCache.getFlashcardList().stream().map(Flashcard::getId).collect(Collectors.toList());
+    }
+}
@@ -44,6 +44,19 @@ public class JsonAdaptedQuickCacheTest {
         assertEquals(RANDOM1, flashcard.toModelType());
     }
 
+    @Test
+    public void toModelType_flashcardWithId_keepsId() throws Exception {
+        JsonAdaptedQuickCache flashcard = new JsonAdaptedQuickCache(RANDOM1.withId(42));
+        assertEquals(42, flashcard.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_negativeId_throwsIllegalValueException() {
+        JsonAdaptedQuickCache flashcard = new JsonAdaptedQuickCache(VALID_TYPE, VALID_QUESTION, VALID_CHOICES,
+                VALID_ANSWER, VALID_TAGS, VALID_DIFFICULTY, VALID_STATISTICS, -1);
+        assertThrows(IllegalValueException.class, JsonAdaptedQuickCache.INVALID_ID, flashcard::toModelType);
+    }
+
     @Test
     public void toModelType_invalidAQuestion_throwsIllegalValueException() {
         JsonAdaptedQuickCache flashcard =
@@ -2,22 +2,29 @@ package quickcache.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static quickcache.testutil.Assert.assertThrows;
 import static quickcache.testutil.TypicalFlashcards.RANDOM1;
 import static quickcache.testutil.TypicalFlashcards.RANDOM2;
 import static quickcache.testutil.TypicalFlashcards.RANDOM3;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
 import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCacheForStorage;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import quickcache.commons.exceptions.DataConversionException;
+import quickcache.commons.util.FileUtil;
+import quickcache.commons.util.JsonUtil;
 import quickcache.model.QuickCache;
 import quickcache.model.ReadOnlyQuickCache;
+import quickcache.model.flashcard.Flashcard;
 
 public class JsonQuickCacheStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonQuickCacheStorageTest");
@@ -60,6 +67,21 @@ public class JsonQuickCacheStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidFlashcardQuickCache.json"));
     }
 
+    @Test
+    public void readQuickCache_duplicateFlashcards_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("duplicateFlashcardQuickCache.json"));
+    }
+
+    @Test
+    public void readQuickCache_truncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        new JsonQuickCacheStorage(filePath).saveQuickCache(getTypicalQuickCache());
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() - 1));
+
+        assertThrows(DataConversionException.class, () -> new JsonQuickCacheStorage(filePath).readQuickCache());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +108,75 @@ public class JsonQuickCacheStorageTest {
 
     }
 
+    @Test
+    public void saveQuickCache_prettyFile_wholeDocumentWithChecksum() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+
+        new JsonQuickCacheStorage(filePath).saveQuickCache(original);
+
+        String wholeDocument = JsonUtil.toJsonString(new JsonSerializableQuickCache(original));
+        String content = FileUtil.readFromFile(filePath);
+        String flashcards = wholeDocument.substring(1, wholeDocument.lastIndexOf('}')).stripTrailing();
+        assertTrue(content.startsWith("{\n  \"" + JsonUtil.CHECKSUM_TYPE_FIELD + "\" : \"" + JsonUtil.CHECKSUM_FIELD
+                + "\"," + flashcards + ",\n  \"" + JsonUtil.CHECKSUM_FIELD + "\" : \""));
+    }
+
+    @Test
+    public void readQuickCache_changedAfterSave_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        new JsonQuickCacheStorage(filePath).saveQuickCache(getTypicalQuickCache());
+
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.replaceFirst("\"question\" : \"", "\"question\" : \"Changed "));
+
+        assertThrows(DataConversionException.class, () -> new JsonQuickCacheStorage(filePath).readQuickCache());
+    }
+
+    @Test
+    public void saveQuickCache_compactFile_readsBack() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        JsonQuickCacheStorage jsonQuickCacheStorage = new JsonQuickCacheStorage(filePath, true);
+
+        jsonQuickCacheStorage.saveQuickCache(original);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new QuickCache(jsonQuickCacheStorage.readQuickCache().get()));
+    }
+
+    @Test
+    public void readFlashcards_savedFile_handsOverBatchesInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        JsonQuickCacheStorage jsonQuickCacheStorage = new JsonQuickCacheStorage(filePath);
+        jsonQuickCacheStorage.saveQuickCache(original);
+
+        List<Flashcard> flashcards = new ArrayList<>();
+        assertTrue(jsonQuickCacheStorage.readFlashcards(filePath, 2, batch -> {
+            assertTrue(batch.size() <= 2);
+            flashcards.addAll(batch);
+        }));
+        assertEquals(original.getFlashcardList(), flashcards);
+
+        assertFalse(jsonQuickCacheStorage.readFlashcards(testFolder.resolve("NonExistentFile.json"), 2,
+            batch -> flashcards.addAll(batch)));
+    }
+
+    @Test
+    public void readFlashcards_truncatedFile_throwsBeforeHandingOverFlashcards() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        JsonQuickCacheStorage jsonQuickCacheStorage = new JsonQuickCacheStorage(filePath);
+        jsonQuickCacheStorage.saveQuickCache(getTypicalQuickCache());
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.lastIndexOf("\"question\"")));
+
+        List<Flashcard> flashcards = new ArrayList<>();
+        assertThrows(DataConversionException.class, () ->
+                jsonQuickCacheStorage.readFlashcards(filePath, 1, flashcards::addAll));
+        assertTrue(flashcards.isEmpty());
+    }
+
     @Test
     public void saveQuickCache_nullQuickCache_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveQuickCache(null, "SomeFile.json"));
@@ -0,0 +1,65 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.commons.core.DataFileFormat;
+import quickcache.model.QuickCache;
+
+public class MultiFormatQuickCacheStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveQuickCache_binaryFormat_savesBinaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        MultiFormatQuickCacheStorage storage = new MultiFormatQuickCacheStorage(filePath,
+                DataFileFormat.BINARY, false);
+
+        storage.saveQuickCache(original);
+
+        assertTrue(BinaryQuickCacheStorage.isBinaryFile(filePath));
+        assertEquals(original, new QuickCache(storage.readQuickCache().get()));
+    }
+
+    @Test
+    public void readQuickCache_otherFormatThanSaved_detectsFormat() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        new MultiFormatQuickCacheStorage(filePath, DataFileFormat.JSON, false).saveQuickCache(original);
+        MultiFormatQuickCacheStorage binaryStorage = new MultiFormatQuickCacheStorage(filePath,
+                DataFileFormat.BINARY, false);
+
+        assertFalse(BinaryQuickCacheStorage.isBinaryFile(filePath));
+        assertEquals(original, new QuickCache(binaryStorage.readQuickCache().get()));
+
+        binaryStorage.saveQuickCache(original);
+        MultiFormatQuickCacheStorage jsonStorage = new MultiFormatQuickCacheStorage(filePath,
+                DataFileFormat.JSON, false);
+        assertEquals(original, new QuickCache(jsonStorage.readQuickCache().get()));
+    }
+
+    @Test
+    public void readQuickCache_compressedFile_detectsCompression() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        QuickCache original = getTypicalQuickCache();
+        new MultiFormatQuickCacheStorage(filePath, DataFileFormat.BINARY, false, true).saveQuickCache(original);
+        MultiFormatQuickCacheStorage uncompressedStorage = new MultiFormatQuickCacheStorage(filePath,
+                DataFileFormat.JSON, false);
+
+        assertTrue(CompressedQuickCacheStorage.isCompressedFile(filePath));
+        assertEquals(original, new QuickCache(uncompressedStorage.readQuickCache().get()));
+
+        uncompressedStorage.saveQuickCache(original);
+        assertFalse(CompressedQuickCacheStorage.isCompressedFile(filePath));
+    }
+}
@@ -0,0 +1,103 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static quickcache.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.commons.exceptions.IllegalValueException;
+import quickcache.model.QuickCache;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.testutil.FlashcardBuilder;
+
+public class ParallelQuickCacheLoaderTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int CHUNK_SIZE = 4;
+
+    @Test
+    public void constructor_nonPositiveSizes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ParallelQuickCacheLoader<String>(ParallelQuickCacheLoaderTest::toFlashcard, 0, CHUNK_SIZE));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ParallelQuickCacheLoader<String>(ParallelQuickCacheLoaderTest::toFlashcard, BATCH_SIZE, 0));
+    }
+
+    @Test
+    public void finish_validFlashcards_keepsOrder() throws Exception {
+        ParallelQuickCacheLoader<String> loader = createLoader();
+        for (int i = 0; i < 2 * BATCH_SIZE + 7; i++) {
+            loader.add("Question " + i);
+        }
+
+        List<String> questions = loader.finish().getFlashcardList().stream()
+                .map(flashcard -> flashcard.getQuestion().getValue()).collect(Collectors.toList());
+
+        assertEquals(2 * BATCH_SIZE + 7, questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            assertEquals("Question " + i, questions.get(i));
+        }
+    }
+
+    @Test
+    public void finish_noFlashcards_emptyQuickCache() throws Exception {
+        assertEquals(new QuickCache(), createLoader().finish());
+    }
+
+    @Test
+    public void finish_severalInvalidFlashcards_throwsFirstFailure() {
+        ParallelQuickCacheLoader<String> loader = createLoader();
+
+        assertThrows(IllegalValueException.class, "Invalid 13", () -> {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                loader.add(i == 13 || i == 40 ? "Invalid " + i : "Question " + i);
+            }
+            loader.finish();
+        });
+    }
+
+    @Test
+    public void finish_duplicateBeforeInvalidFlashcard_throwsDuplicateFailure() {
+        ParallelQuickCacheLoader<String> loader = createLoader();
+
+        assertThrows(IllegalValueException.class, JsonSerializableQuickCache.MESSAGE_DUPLICATE_FLASHCARD, () -> {
+            loader.add("Question 0");
+            loader.add("Question 0");
+            loader.add("Invalid 2");
+            loader.finish();
+        });
+    }
+
+    @Test
+    public void flush_batchHandler_handsOverBatchesInOrder() throws Exception {
+        List<List<Flashcard>> batches = new ArrayList<>();
+        ParallelQuickCacheLoader<String> loader = new ParallelQuickCacheLoader<>(
+                ParallelQuickCacheLoaderTest::toFlashcard, BATCH_SIZE, batches::add);
+        for (int i = 0; i < BATCH_SIZE + 7; i++) {
+            loader.add("Question " + (i % BATCH_SIZE));
+        }
+        loader.flush();
+
+        // duplicates are left to the batch handler
+        assertEquals(2, batches.size());
+        assertEquals(BATCH_SIZE, batches.get(0).size());
+        assertEquals(7, batches.get(1).size());
+        assertEquals("Question 6", batches.get(1).get(6).getQuestion().getValue());
+        assertEquals(new QuickCache(), loader.finish());
+    }
+
+    private static ParallelQuickCacheLoader<String> createLoader() {
+        return new ParallelQuickCacheLoader<>(ParallelQuickCacheLoaderTest::toFlashcard, BATCH_SIZE, CHUNK_SIZE);
+    }
+
+    private static Flashcard toFlashcard(String question) throws IllegalValueException {
+        if (question.startsWith("Invalid")) {
+            throw new IllegalValueException(question);
+        }
+        return new FlashcardBuilder().withQuestion(question).build();
+    }
+}
@@ -0,0 +1,86 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import quickcache.model.QuickCache;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.model.flashcard.Statistics;
+import quickcache.testutil.FlashcardBuilder;
+
+public class QuickCacheDiffTest {
+
+    private final List<Flashcard> flashcards = getTypicalQuickCache().getFlashcardList();
+    private final Map<Integer, Flashcard> snapshot = QuickCacheDiff.snapshot(flashcards);
+
+    @Test
+    public void between_sameFlashcards_isEmpty() {
+        assertTrue(QuickCacheDiff.between(snapshot, new ArrayList<>(flashcards)).isEmpty());
+    }
+
+    @Test
+    public void between_changedAddedAndRemovedFlashcards_returnsOnlyChanges() {
+        List<Flashcard> changedFlashcards = new ArrayList<>(flashcards);
+        Flashcard first = changedFlashcards.get(0);
+        Flashcard edited = new FlashcardBuilder(first).withQuestion("Edited question").build().withId(first.getId());
+        changedFlashcards.set(0, edited);
+        Flashcard removed = changedFlashcards.remove(1);
+        Flashcard added = new FlashcardBuilder().withQuestion("New question").build();
+        changedFlashcards.add(added);
+
+        QuickCacheDiff diff = QuickCacheDiff.between(snapshot, changedFlashcards);
+
+        assertEquals(List.of(edited, added), diff.getUpdatedFlashcards());
+        assertEquals(Set.of(removed.getId()), diff.getRemovedIds());
+    }
+
+    @Test
+    public void between_changedStatistics_returnsFlashcard() {
+        List<Flashcard> changedFlashcards = new ArrayList<>(flashcards);
+        Flashcard tested = new FlashcardBuilder(changedFlashcards.get(0)).withStatistics(new Statistics(1, 1)).build()
+                .withId(flashcards.get(0).getId());
+        changedFlashcards.set(0, tested);
+
+        assertEquals(List.of(tested), QuickCacheDiff.between(snapshot, changedFlashcards).getUpdatedFlashcards());
+    }
+
+    @Test
+    public void between_changedFlashcardWithSameHash_returnsFlashcard() {
+        Flashcard earlier = new FlashcardBuilder(RANDOM1).withStatistics(new Statistics(40, 35)).build().withId(0);
+        Flashcard tested = new FlashcardBuilder(RANDOM1).withStatistics(new Statistics(41, 4)).build().withId(0);
+        assertEquals(earlier.hashCode(), tested.hashCode());
+
+        QuickCacheDiff diff = QuickCacheDiff.between(QuickCacheDiff.snapshot(List.of(earlier)), List.of(tested));
+
+        assertEquals(List.of(tested), diff.getUpdatedFlashcards());
+    }
+
+    @Test
+    public void snapshot_storedFlashcardTestedAfterwards_keepsEarlierStatistics() {
+        QuickCache quickCache = new QuickCache();
+        quickCache.addFlashcard(RANDOM1);
+        Map<Integer, Flashcard> earlierFlashcards = QuickCacheDiff.snapshot(quickCache.getFlashcardList());
+
+        quickCache.recordTestResult(RANDOM1, true);
+
+        assertEquals(quickCache.getFlashcardList(),
+                QuickCacheDiff.between(earlierFlashcards, quickCache.getFlashcardList()).getUpdatedFlashcards());
+    }
+
+    @Test
+    public void between_noEarlierFlashcards_allAdded() {
+        QuickCacheDiff diff = QuickCacheDiff.between(Map.of(), List.of(RANDOM1));
+
+        assertEquals(List.of(RANDOM1), diff.getUpdatedFlashcards());
+        assertTrue(diff.getRemovedIds().isEmpty());
+    }
+}
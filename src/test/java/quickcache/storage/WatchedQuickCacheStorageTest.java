@@ -0,0 +1,108 @@
+package quickcache.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static quickcache.testutil.Assert.assertThrows;
+import static quickcache.testutil.TypicalFlashcards.RANDOM1;
+import static quickcache.testutil.TypicalFlashcards.getTypicalQuickCache;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import quickcache.model.QuickCache;
+import quickcache.model.flashcard.Flashcard;
+import quickcache.testutil.FlashcardBuilder;
+
+public class WatchedQuickCacheStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeSettleDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WatchedQuickCacheStorage(
+                new JournaledQuickCacheStorage(testFolder.resolve("TempQuickCache.json")), -1));
+    }
+
+    @Test
+    public void readChanges_missingFile_noChanges() throws Exception {
+        WatchedQuickCacheStorage storage = createStorage(testFolder.resolve("NonExistentFile.json"));
+
+        assertTrue(storage.readChanges().isEmpty());
+    }
+
+    @Test
+    public void readChanges_onlyOwnSaves_noChanges() throws Exception {
+        WatchedQuickCacheStorage storage = createStorage(testFolder.resolve("TempQuickCache.json"));
+        QuickCache quickCache = getTypicalQuickCache();
+
+        storage.saveQuickCache(quickCache);
+        quickCache.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(quickCache);
+
+        assertTrue(storage.readChanges().isEmpty());
+    }
+
+    @Test
+    public void readChanges_fileReplacedByOtherProgram_returnsChangesOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        WatchedQuickCacheStorage storage = createStorage(filePath);
+        QuickCache quickCache = getTypicalQuickCache();
+        storage.saveQuickCache(quickCache);
+
+        QuickCache otherQuickCache = new QuickCache(quickCache);
+        Flashcard first = otherQuickCache.getFlashcardList().get(0);
+        Flashcard edited = new FlashcardBuilder(first).withQuestion("Edited by another program").build()
+                .withId(first.getId());
+        otherQuickCache.setFlashcard(first, edited);
+        Flashcard removed = otherQuickCache.getFlashcardList().get(1);
+        otherQuickCache.removeFlashcard(removed);
+        new JsonQuickCacheStorage(filePath).saveQuickCache(otherQuickCache);
+
+        QuickCacheDiff diff = storage.readChanges();
+        assertEquals(List.of(edited), diff.getUpdatedFlashcards());
+        assertEquals(Set.of(removed.getId()), diff.getRemovedIds());
+        assertTrue(storage.readChanges().isEmpty());
+    }
+
+    @Test
+    public void readChanges_journaledChangesNotInReplacedFile_keepsJournaledChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        WatchedQuickCacheStorage storage = createStorage(filePath);
+        QuickCache quickCache = getTypicalQuickCache();
+        storage.saveQuickCache(quickCache);
+        QuickCache otherQuickCache = new QuickCache(quickCache);
+
+        // the removal is only written to the journal, which the other program does not know about
+        quickCache.removeFlashcard(RANDOM1);
+        storage.saveQuickCache(quickCache);
+        Flashcard last = otherQuickCache.getFlashcardList().get(otherQuickCache.getFlashcardList().size() - 1);
+        Flashcard edited = new FlashcardBuilder(last).withQuestion("Edited by another program").build()
+                .withId(last.getId());
+        otherQuickCache.setFlashcard(last, edited);
+        new JsonQuickCacheStorage(filePath).saveQuickCache(otherQuickCache);
+
+        QuickCacheDiff diff = storage.readChanges();
+        assertEquals(List.of(edited), diff.getUpdatedFlashcards());
+        assertTrue(diff.getRemovedIds().isEmpty());
+    }
+
+    @Test
+    public void readChanges_afterReadFlashcards_noChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempQuickCache.json");
+        new JsonQuickCacheStorage(filePath).saveQuickCache(getTypicalQuickCache());
+        WatchedQuickCacheStorage storage = createStorage(filePath);
+
+        assertTrue(storage.readFlashcards(filePath, 2, batch -> { }));
+
+        assertTrue(storage.readChanges().isEmpty());
+    }
+
+    private static WatchedQuickCacheStorage createStorage(Path filePath) {
+        return new WatchedQuickCacheStorage(new JournaledQuickCacheStorage(filePath), 0);
+    }
+}
@@ -62,7 +62,7 @@ public class EditFlashcardDescriptorBuilder {
      * Sets the {@code difficutly} of the {@code EditFlashcardDescriptor} that we are building.
      */
     public EditFlashcardDescriptorBuilder withDifficulty(String difficulty) {
-        descriptor.setDifficulty(new Difficulty(difficulty));
+        descriptor.setDifficulty(Difficulty.of(difficulty));
         return this;
     }
 
@@ -79,7 +79,7 @@ public class EditFlashcardDescriptorBuilder {
      * that we are building.
      */
     public EditFlashcardDescriptorBuilder withTags(String... tags) {
-        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setTags(tagSet);
         return this;
     }
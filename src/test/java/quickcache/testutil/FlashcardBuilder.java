@@ -8,6 +8,7 @@ import java.util.Set;
 
 import quickcache.model.flashcard.Answer;
 import quickcache.model.flashcard.Choice;
+import quickcache.model.flashcard.Difficulty;
 import quickcache.model.flashcard.Flashcard;
 import quickcache.model.flashcard.MultipleChoiceQuestion;
 import quickcache.model.flashcard.OpenEndedQuestion;
@@ -26,14 +27,16 @@ public class FlashcardBuilder {
     private Question question;
     private Set<Tag> tags;
     private Statistics statistics;
+    private Difficulty difficulty;
 
     /**
      * Creates a {@code FlashcardBuilder} with the default details.
      */
     public FlashcardBuilder() {
         question = new OpenEndedQuestion(DEFAULT_QUESTION, new Answer(DEFAULT_ANSWER));
-        tags = new HashSet<>(Collections.singletonList(new Tag(DEFAULT_TAG)));
+        tags = new HashSet<>(Collections.singletonList(Tag.of(DEFAULT_TAG)));
         statistics = DEFAULT_STATISTICS;
+        difficulty = Difficulty.unspecified();
     }
 
     /**
@@ -45,6 +48,7 @@ public class FlashcardBuilder {
         question = flashcard.getQuestion();
         tags = flashcard.getTags();
         statistics = flashcard.getStatistics();
+        difficulty = flashcard.getDifficulty();
     }
 
     /**
@@ -87,7 +91,7 @@ public class FlashcardBuilder {
      * @return the FlashcardBuilder
      */
     public FlashcardBuilder withTag(String tag) {
-        tags = new HashSet<>(Collections.singletonList(new Tag(tag)));
+        tags = new HashSet<>(Collections.singletonList(Tag.of(tag)));
         return this;
     }
 
@@ -100,7 +104,7 @@ public class FlashcardBuilder {
     public FlashcardBuilder withTags(String... tagArr) {
         List<Tag> taglist = new ArrayList<>();
         for (String tag : tagArr) {
-            taglist.add(new Tag(tag));
+            taglist.add(Tag.of(tag));
         }
         tags = new HashSet<>(taglist);
         return this;
@@ -114,8 +118,16 @@ public class FlashcardBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Difficulty} of the {@code Flashcard} that we are building.
+     */
+    public FlashcardBuilder withDifficulty(String difficulty) {
+        this.difficulty = Difficulty.of(difficulty);
+        return this;
+    }
+
     public Flashcard build() {
-        return new Flashcard(question, tags, statistics);
+        return new Flashcard(question, tags, difficulty, statistics);
     }
 
 }
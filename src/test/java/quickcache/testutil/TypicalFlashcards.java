@@ -10,7 +10,7 @@ import quickcache.model.flashcard.Tag;
 
 public class TypicalFlashcards {
 
-    public static final Tag[] RANDOM_1_TAG = {new Tag("LSM1301")};
+    public static final Tag[] RANDOM_1_TAG = {Tag.of("LSM1301")};
     public static final Flashcard RANDOM1 = new FlashcardBuilder().withQuestion("Are heparins safe in pregnancy?")
         .withAnswer("Yes, They dont cross the placenta").withTag("LSM1301").build();
     public static final Flashcard RANDOM2 = new FlashcardBuilder()
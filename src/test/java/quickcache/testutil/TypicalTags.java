@@ -3,6 +3,6 @@ package quickcache.testutil;
 import quickcache.model.flashcard.Tag;
 
 public class TypicalTags {
-    public static final Tag TEST_TAG = new Tag("test");
-    public static final Tag INVALID_TAG = new Tag("invalid");
+    public static final Tag TEST_TAG = Tag.of("test");
+    public static final Tag INVALID_TAG = Tag.of("invalid");
 }